@@ -0,0 +1,74 @@
+package com.example.workout.search;
+
+import com.example.workout.dto.ExerciseTypeDTO;
+import com.example.workout.entity.ExerciseType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 운동 검색 인덱스 벤치마크 (data.sql의 실제 카탈로그 사용)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+public class ExerciseSearchIndexBenchmark {
+    private static final Pattern ROW = Pattern.compile(
+        "\\('([^']*)', '([A-Z_]+)', '([^']*)', '([^']*)'\\)");
+
+    @Param({"벤치", "ㅂㅊㅍㄹㅅ", "벤ㅊ", "삼각근", "흉골부", "프레스", "스쿼트 머신"})
+    public String query;
+
+    private List<ExerciseTypeDTO> catalog;
+    private ExerciseSearchIndex index;
+
+    @Setup
+    public void setUp() throws IOException {
+        catalog = loadCatalog();
+        index = ExerciseSearchIndex.build(catalog);
+    }
+
+    @Benchmark
+    public List<ExerciseTypeDTO> search() {
+        return index.search(query, null, 20);
+    }
+
+    @Benchmark
+    public List<ExerciseTypeDTO> searchInCategory() {
+        return index.search(query, ExerciseType.ExerciseCategory.CHEST, 20);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(java.util.concurrent.TimeUnit.MICROSECONDS)
+    public ExerciseSearchIndex buildIndex() {
+        return ExerciseSearchIndex.build(catalog);
+    }
+
+    private static List<ExerciseTypeDTO> loadCatalog() throws IOException {
+        try (InputStream in = ExerciseSearchIndexBenchmark.class.getResourceAsStream("/data.sql")) {
+            if (in == null) {
+                throw new IllegalStateException("data.sql not found on classpath");
+            }
+            String sql = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            Matcher matcher = ROW.matcher(sql);
+            List<ExerciseTypeDTO> exercises = new ArrayList<>();
+            long id = 1;
+            while (matcher.find()) {
+                exercises.add(ExerciseTypeDTO.builder()
+                    .id(id++)
+                    .name(matcher.group(1))
+                    .category(ExerciseType.ExerciseCategory.valueOf(matcher.group(2)))
+                    .muscleGroup(matcher.group(3))
+                    .description(matcher.group(4))
+                    .build());
+            }
+            return exercises;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.workout.web;
+
+import com.example.workout.dto.ExerciseRecordDTO;
+import com.example.workout.dto.WorkoutSessionDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 세션 100건 목록 응답의 형식별 인코딩/디코딩 시간과 크기 (JSON / CBOR / Smile / MessagePack)
+ * - 세션당 5종목 x 4세트, 중량은 2.5kg 단위, RPE는 일부 세트만
+ * - 크기는 encode 결과에 보조 카운터로 붙음: bytes(원본), gzipBytes(gzip 후, 설정 시 한 번만 계산)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+public class BinaryFormatBenchmark {
+    private static final TypeReference<List<WorkoutSessionDTO>> SESSION_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile", "msgpack"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private List<WorkoutSessionDTO> sessions;
+    private byte[] encoded;
+    private long gzipLength;
+
+    /**
+     * encode 한 번의 응답 크기 (반복마다 같은 값을 덮어쓰므로 결과 표의 값이 곧 바이트 수)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long bytes;
+        public long gzipBytes;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        mapper = switch (format) {
+            case "cbor" -> json.copyWith(new CBORFactory());
+            case "smile" -> json.copyWith(new SmileFactory());
+            case "msgpack" -> json.copyWith(new MessagePackFactory());
+            default -> json;
+        };
+        sessions = sessions(100);
+        encoded = mapper.writeValueAsBytes(sessions);
+        gzipLength = gzip(encoded).length;
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize size) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(sessions);
+        size.bytes = bytes.length;
+        size.gzipBytes = gzipLength;
+        return bytes;
+    }
+
+    @Benchmark
+    public List<WorkoutSessionDTO> decode() throws IOException {
+        return mapper.readValue(encoded, SESSION_LIST);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<WorkoutSessionDTO> sessions(int count) {
+        Random random = new Random(42);
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        List<WorkoutSessionDTO> result = new ArrayList<>(count);
+        long recordId = 1;
+        for (int i = 0; i < count; i++) {
+            List<ExerciseRecordDTO> records = new ArrayList<>();
+            double volume = 0;
+            for (int e = 0; e < 5; e++) {
+                long exerciseId = 1 + random.nextInt(120);
+                double weight = 20 + random.nextInt(40) * 2.5;
+                for (int set = 1; set <= 4; set++) {
+                    int reps = 5 + random.nextInt(8);
+                    Double rpe = random.nextBoolean() ? 7.0 + random.nextInt(6) * 0.5 : null;
+                    records.add(new ExerciseRecordDTO(recordId++, exerciseId, "운동 " + exerciseId,
+                        set, reps, weight, null, rpe));
+                    volume += weight * reps;
+                }
+            }
+            WorkoutSessionDTO session = new WorkoutSessionDTO((long) i + 1, date.plusDays(i * 2L),
+                45 + random.nextInt(60), i % 3 == 0 ? "컨디션 좋음" : null, null, records);
+            session.setTotalVolume(volume);
+            session.setTotalSets(records.size());
+            session.setExerciseCount(5);
+            result.add(session);
+        }
+        return result;
+    }
+}
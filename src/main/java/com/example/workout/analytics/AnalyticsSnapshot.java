@@ -0,0 +1,263 @@
+package com.example.workout.analytics;
+
+import java.util.Arrays;
+
+/**
+ * 사용자 한 명의 세트 기록을 열 단위 기본형 배열로 들고 있는 분석용 스냅샷
+ * - 열: 세션 날짜(epoch day) int[], 종목 id int[], 중량 float[] (없으면 0), 횟수 short[], RPE float[] (없으면 NaN)
+ * - 필터/그룹 집계는 배열을 한 번 훑으며 슬롯 배열에 누적 (박싱, 맵 조회 없음)
+ * - 추가는 한 스레드씩 (synchronized), 읽기는 잠금 없이 마지막으로 공개된 Columns를 사용
+ *   (용량 안쪽이면 같은 배열의 size 뒤에 쓰고 새 size로 다시 공개, 모자라면 배열을 늘려 공개)
+ */
+public final class AnalyticsSnapshot {
+    // 행당 배열 바이트 (날짜 + 종목 + 중량 + 횟수 + RPE)
+    private static final int BYTES_PER_ROW = 4 + 4 + 4 + 2 + 4;
+
+    public enum GroupBy {
+        DAY, WEEK, EXERCISE
+    }
+
+    /**
+     * 그룹 집계 결과 (keys 순서, 세트가 있는 그룹만)
+     *
+     * @param keys DAY/WEEK: 그룹 시작일 epoch day (WEEK는 월요일), EXERCISE: 종목 id
+     */
+    public record Groups(int[] keys, int[] sets, double[] volume, float[] topWeight,
+                         double[] rpeSum, int[] rpeCount) {
+        public int size() {
+            return keys.length;
+        }
+    }
+
+    /**
+     * 공개 단위 (size 이후 칸은 읽지 않음), exercises는 등장한 종목 id 오름차순
+     */
+    private record Columns(int[] epochDay, int[] exerciseId, float[] weight, short[] reps, float[] rpe,
+                           int size, int[] exercises) {
+    }
+
+    private final long[] loadedSessions;
+    private volatile Columns columns;
+
+    private AnalyticsSnapshot(long[] loadedSessions, Columns columns) {
+        this.loadedSessions = loadedSessions;
+        this.columns = columns;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int rows() {
+        return columns.size();
+    }
+
+    /**
+     * 캐시 용량 계산용 대략적인 크기 (배열 용량 기준)
+     */
+    public long estimatedBytes() {
+        Columns current = columns;
+        return 64L + (long) current.epochDay().length * BYTES_PER_ROW
+            + loadedSessions.length * 8L + current.exercises().length * 4L;
+    }
+
+    /**
+     * 세션 하나의 세트를 뒤에 추가 (스냅샷을 적재할 때 이미 읽은 세션이면 무시)
+     *
+     * @return 추가했으면 true
+     */
+    public synchronized boolean appendSession(long sessionId, int epochDay, int[] exerciseIds, float[] weights,
+                                              short[] reps, float[] rpes) {
+        if (Arrays.binarySearch(loadedSessions, sessionId) >= 0) {
+            return false;
+        }
+        Columns current = columns;
+        int size = current.size();
+        int required = size + exerciseIds.length;
+        int[] dayColumn = current.epochDay();
+        int[] exerciseColumn = current.exerciseId();
+        float[] weightColumn = current.weight();
+        short[] repsColumn = current.reps();
+        float[] rpeColumn = current.rpe();
+        if (required > dayColumn.length) {
+            int capacity = Math.max(required, dayColumn.length + (dayColumn.length >> 1));
+            dayColumn = Arrays.copyOf(dayColumn, capacity);
+            exerciseColumn = Arrays.copyOf(exerciseColumn, capacity);
+            weightColumn = Arrays.copyOf(weightColumn, capacity);
+            repsColumn = Arrays.copyOf(repsColumn, capacity);
+            rpeColumn = Arrays.copyOf(rpeColumn, capacity);
+        }
+        int[] exercises = current.exercises();
+        for (int i = 0; i < exerciseIds.length; i++) {
+            dayColumn[size + i] = epochDay;
+            exerciseColumn[size + i] = exerciseIds[i];
+            weightColumn[size + i] = weights[i];
+            repsColumn[size + i] = reps[i];
+            rpeColumn[size + i] = rpes[i];
+            exercises = withExercise(exercises, exerciseIds[i]);
+        }
+        columns = new Columns(dayColumn, exerciseColumn, weightColumn, repsColumn, rpeColumn, required, exercises);
+        return true;
+    }
+
+    /**
+     * [fromDay, toDay] 구간 (exerciseId가 0이면 전체 종목) 세트를 groupBy로 묶어 집계
+     */
+    public Groups aggregate(GroupBy groupBy, int fromDay, int toDay, int exerciseId) {
+        Columns c = columns;
+        int firstSlotKey = switch (groupBy) {
+            case DAY -> fromDay;
+            case WEEK -> week(fromDay);
+            case EXERCISE -> 0;
+        };
+        int slots = switch (groupBy) {
+            case DAY -> toDay - fromDay + 1;
+            case WEEK -> week(toDay) - week(fromDay) + 1;
+            case EXERCISE -> c.exercises().length;
+        };
+        if (slots <= 0) {
+            return new Groups(new int[0], new int[0], new double[0], new float[0], new double[0], new int[0]);
+        }
+
+        int[] sets = new int[slots];
+        double[] volume = new double[slots];
+        float[] topWeight = new float[slots];
+        double[] rpeSum = new double[slots];
+        int[] rpeCount = new int[slots];
+        int[] dayColumn = c.epochDay();
+        int[] exerciseColumn = c.exerciseId();
+        float[] weightColumn = c.weight();
+        short[] repsColumn = c.reps();
+        float[] rpeColumn = c.rpe();
+        for (int row = 0, size = c.size(); row < size; row++) {
+            int day = dayColumn[row];
+            if (day < fromDay || day > toDay || (exerciseId != 0 && exerciseColumn[row] != exerciseId)) {
+                continue;
+            }
+            int slot = switch (groupBy) {
+                case DAY -> day - firstSlotKey;
+                case WEEK -> week(day) - firstSlotKey;
+                case EXERCISE -> Arrays.binarySearch(c.exercises(), exerciseColumn[row]);
+            };
+            float weight = weightColumn[row];
+            sets[slot]++;
+            volume[slot] += (double) weight * repsColumn[row];
+            if (weight > topWeight[slot]) {
+                topWeight[slot] = weight;
+            }
+            float rpe = rpeColumn[row];
+            if (!Float.isNaN(rpe)) {
+                rpeSum[slot] += rpe;
+                rpeCount[slot]++;
+            }
+        }
+
+        int groups = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            if (sets[slot] > 0) {
+                groups++;
+            }
+        }
+        int[] keys = new int[groups];
+        int[] outSets = new int[groups];
+        double[] outVolume = new double[groups];
+        float[] outTop = new float[groups];
+        double[] outRpeSum = new double[groups];
+        int[] outRpeCount = new int[groups];
+        for (int slot = 0, i = 0; slot < slots; slot++) {
+            if (sets[slot] == 0) {
+                continue;
+            }
+            keys[i] = switch (groupBy) {
+                case DAY -> fromDay + slot;
+                case WEEK -> (firstSlotKey + slot) * 7 - 3;
+                case EXERCISE -> c.exercises()[slot];
+            };
+            outSets[i] = sets[slot];
+            outVolume[i] = volume[slot];
+            outTop[i] = topWeight[slot];
+            outRpeSum[i] = rpeSum[slot];
+            outRpeCount[i] = rpeCount[slot];
+            i++;
+        }
+        return new Groups(keys, outSets, outVolume, outTop, outRpeSum, outRpeCount);
+    }
+
+    /**
+     * 월요일 시작 주 번호 (epoch day 4 = 1970-01-05 월요일이 1주)
+     */
+    static int week(int epochDay) {
+        return Math.floorDiv(epochDay + 3, 7);
+    }
+
+    private static int[] withExercise(int[] exercises, int exerciseId) {
+        int index = Arrays.binarySearch(exercises, exerciseId);
+        if (index >= 0) {
+            return exercises;
+        }
+        int insertAt = -index - 1;
+        int[] grown = new int[exercises.length + 1];
+        System.arraycopy(exercises, 0, grown, 0, insertAt);
+        grown[insertAt] = exerciseId;
+        System.arraycopy(exercises, insertAt, grown, insertAt + 1, exercises.length - insertAt);
+        return grown;
+    }
+
+    /**
+     * 스냅샷 적재용 (단일 스레드)
+     */
+    public static final class Builder {
+        private int[] epochDay = new int[256];
+        private int[] exerciseId = new int[256];
+        private float[] weight = new float[256];
+        private short[] reps = new short[256];
+        private float[] rpe = new float[256];
+        private int size;
+        private long[] sessions = new long[32];
+        private int sessionCount;
+
+        private Builder() {
+        }
+
+        /**
+         * 세트가 없는 세션도 이미 읽었음을 표시 (뒤늦은 추가 이벤트 무시용)
+         */
+        public Builder session(long sessionId) {
+            if (sessionCount == sessions.length) {
+                sessions = Arrays.copyOf(sessions, sessionCount * 2);
+            }
+            sessions[sessionCount++] = sessionId;
+            return this;
+        }
+
+        public Builder add(int day, int exercise, float setWeight, short setReps, float setRpe) {
+            if (size == epochDay.length) {
+                int capacity = size * 2;
+                epochDay = Arrays.copyOf(epochDay, capacity);
+                exerciseId = Arrays.copyOf(exerciseId, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+                reps = Arrays.copyOf(reps, capacity);
+                rpe = Arrays.copyOf(rpe, capacity);
+            }
+            epochDay[size] = day;
+            exerciseId[size] = exercise;
+            weight[size] = setWeight;
+            reps[size] = setReps;
+            rpe[size] = setRpe;
+            size++;
+            return this;
+        }
+
+        public AnalyticsSnapshot build() {
+            long[] loaded = Arrays.copyOf(sessions, sessionCount);
+            Arrays.sort(loaded);
+            int[] exercises = Arrays.stream(exerciseId, 0, size).distinct().sorted().toArray();
+            // 적재 직후 추가분을 위해 약간의 여유만 남기고 줄임
+            int capacity = size + Math.max(16, size >> 4);
+            return new AnalyticsSnapshot(loaded, new Columns(
+                Arrays.copyOf(epochDay, capacity), Arrays.copyOf(exerciseId, capacity),
+                Arrays.copyOf(weight, capacity), Arrays.copyOf(reps, capacity), Arrays.copyOf(rpe, capacity),
+                size, exercises));
+        }
+    }
+}
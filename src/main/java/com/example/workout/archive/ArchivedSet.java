@@ -0,0 +1,30 @@
+package com.example.workout.archive;
+
+import com.example.workout.entity.ExerciseRecord;
+import com.example.workout.entity.ExerciseType;
+import com.example.workout.entity.WorkoutSession;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 블롭에 들어 있는 세트 한 건 (exercise_records 행 + 세션 날짜)
+ */
+public record ArchivedSet(long recordId, long sessionId, LocalDateTime sessionDate, long exerciseId,
+                          int setNumber, int reps, Double weight, Integer duration, Double rpe) {
+
+    /**
+     * 롤업 재계산용 비영속 ExerciseRecord (저장하지 않음)
+     */
+    public ExerciseRecord toRecord(WorkoutSession session, ExerciseType exerciseType) {
+        return ExerciseRecord.builder()
+            .id(recordId)
+            .session(session)
+            .exerciseType(exerciseType)
+            .setNumber(setNumber)
+            .reps(reps)
+            .weight(weight)
+            .duration(duration)
+            .rpe(rpe)
+            .build();
+    }
+}
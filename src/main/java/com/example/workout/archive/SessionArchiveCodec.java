@@ -0,0 +1,267 @@
+package com.example.workout.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 보관 세트 목록 <-> 압축 블롭 (사용자×연도 하나)
+ * - 열 단위로 기록: 행 순서대로 같은 컬럼 값을 모아 쓰므로 반복되는 세션/날짜/종목이 DEFLATE로 잘 압축됨
+ * - id/세션/날짜는 직전 값과의 차이(zigzag varint), 나머지 정수는 varint
+ * - 중량은 0.001 단위, RPE는 0.01 단위 고정소수점 (입력 정밀도보다 세밀함), null은 열마다 비트맵
+ * - 형식: 'W' 'A' 버전(1) + DEFLATE(행 수, 열...)
+ */
+public final class SessionArchiveCodec {
+    public static final Comparator<ArchivedSet> ORDER = Comparator
+        .comparing(ArchivedSet::sessionDate)
+        .thenComparingLong(ArchivedSet::sessionId)
+        .thenComparingInt(ArchivedSet::setNumber)
+        .thenComparingLong(ArchivedSet::recordId);
+
+    private static final byte MAGIC_0 = 'W';
+    private static final byte MAGIC_1 = 'A';
+    private static final byte FORMAT_VERSION = 1;
+    private static final double WEIGHT_SCALE = 1000.0;
+    private static final double RPE_SCALE = 100.0;
+
+    private SessionArchiveCodec() {
+    }
+
+    /**
+     * @param sets ORDER 순으로 정렬되어 있어야 함 (차이 인코딩 효율)
+     */
+    public static byte[] encode(List<ArchivedSet> sets) {
+        int n = sets.size();
+        Writer out = new Writer(n * 12 + 16);
+        out.varint(n);
+
+        long previous = 0;
+        for (ArchivedSet set : sets) {
+            out.zigzag(set.recordId() - previous);
+            previous = set.recordId();
+        }
+        previous = 0;
+        for (ArchivedSet set : sets) {
+            out.zigzag(set.sessionId() - previous);
+            previous = set.sessionId();
+        }
+        previous = 0;
+        for (ArchivedSet set : sets) {
+            long epochSecond = set.sessionDate().toEpochSecond(ZoneOffset.UTC);
+            out.zigzag(epochSecond - previous);
+            previous = epochSecond;
+        }
+        for (ArchivedSet set : sets) {
+            out.varint(set.exerciseId());
+        }
+        for (ArchivedSet set : sets) {
+            out.varint(set.setNumber());
+        }
+        for (ArchivedSet set : sets) {
+            out.varint(set.reps());
+        }
+
+        out.nulls(sets, set -> set.weight() == null);
+        for (ArchivedSet set : sets) {
+            if (set.weight() != null) {
+                out.zigzag(Math.round(set.weight() * WEIGHT_SCALE));
+            }
+        }
+        out.nulls(sets, set -> set.duration() == null);
+        for (ArchivedSet set : sets) {
+            if (set.duration() != null) {
+                out.zigzag(set.duration());
+            }
+        }
+        out.nulls(sets, set -> set.rpe() == null);
+        for (ArchivedSet set : sets) {
+            if (set.rpe() != null) {
+                out.zigzag(Math.round(set.rpe() * RPE_SCALE));
+            }
+        }
+        return deflate(out.toByteArray());
+    }
+
+    public static List<ArchivedSet> decode(byte[] payload) {
+        if (payload.length < 3 || payload[0] != MAGIC_0 || payload[1] != MAGIC_1) {
+            throw new IllegalArgumentException("보관 블롭 형식이 아닙니다.");
+        }
+        if (payload[2] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 보관 블롭 버전입니다: " + payload[2]);
+        }
+        Reader in = new Reader(inflate(payload));
+        int n = (int) in.varint();
+
+        long[] recordIds = in.deltas(n);
+        long[] sessionIds = in.deltas(n);
+        long[] epochSeconds = in.deltas(n);
+        long[] exerciseIds = new long[n];
+        for (int i = 0; i < n; i++) {
+            exerciseIds[i] = in.varint();
+        }
+        int[] setNumbers = new int[n];
+        for (int i = 0; i < n; i++) {
+            setNumbers[i] = (int) in.varint();
+        }
+        int[] reps = new int[n];
+        for (int i = 0; i < n; i++) {
+            reps[i] = (int) in.varint();
+        }
+        boolean[] weightNull = in.nulls(n);
+        Double[] weights = new Double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = weightNull[i] ? null : in.zigzag() / WEIGHT_SCALE;
+        }
+        boolean[] durationNull = in.nulls(n);
+        Integer[] durations = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            durations[i] = durationNull[i] ? null : (int) in.zigzag();
+        }
+        boolean[] rpeNull = in.nulls(n);
+        Double[] rpes = new Double[n];
+        for (int i = 0; i < n; i++) {
+            rpes[i] = rpeNull[i] ? null : in.zigzag() / RPE_SCALE;
+        }
+
+        List<ArchivedSet> sets = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            sets.add(new ArchivedSet(recordIds[i], sessionIds[i],
+                LocalDateTime.ofEpochSecond(epochSeconds[i], 0, ZoneOffset.UTC), exerciseIds[i],
+                setNumbers[i], reps[i], weights[i], durations[i], rpes[i]));
+        }
+        return sets;
+    }
+
+    private static byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 16);
+            out.write(MAGIC_0);
+            out.write(MAGIC_1);
+            out.write(FORMAT_VERSION);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] payload) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(payload, 3, payload.length - 3);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("보관 블롭이 잘려 있습니다.");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("보관 블롭을 읽을 수 없습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class Writer {
+        private final ByteArrayOutputStream out;
+
+        private Writer(int sizeHint) {
+            this.out = new ByteArrayOutputStream(sizeHint);
+        }
+
+        private void varint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        private void zigzag(long value) {
+            varint((value << 1) ^ (value >> 63));
+        }
+
+        private void nulls(List<ArchivedSet> sets, java.util.function.Predicate<ArchivedSet> isNull) {
+            byte[] bitmap = new byte[(sets.size() + 7) / 8];
+            for (int i = 0; i < sets.size(); i++) {
+                if (isNull.test(sets.get(i))) {
+                    bitmap[i >>> 3] |= (byte) (1 << (i & 7));
+                }
+            }
+            out.writeBytes(bitmap);
+        }
+
+        private byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private long varint() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                if (position >= data.length) {
+                    throw new IllegalArgumentException("보관 블롭이 잘려 있습니다.");
+                }
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+
+        private long zigzag() {
+            long value = varint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private long[] deltas(int n) {
+            long[] values = new long[n];
+            long previous = 0;
+            for (int i = 0; i < n; i++) {
+                previous += zigzag();
+                values[i] = previous;
+            }
+            return values;
+        }
+
+        private boolean[] nulls(int n) {
+            int length = (n + 7) / 8;
+            if (position + length > data.length) {
+                throw new IllegalArgumentException("보관 블롭이 잘려 있습니다.");
+            }
+            boolean[] nulls = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                nulls[i] = (data[position + (i >>> 3)] & (1 << (i & 7))) != 0;
+            }
+            position += length;
+            return nulls;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.workout.archive;
+
+import com.example.workout.backfill.BackfillEngine;
+import com.example.workout.exception.BusinessException;
+import com.example.workout.scheduling.SchedulerLockService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 주기적으로 오래된 세션 보관 작업(archive-sessions 백필)을 시작 (기본 비활성)
+ * - 실제 처리는 BackfillEngine이 사용자 단위 트랜잭션/체크포인트로 수행
+ * - 잠금은 풀지 않고 만료되게 두어 같은 시각에 뜬 다른 노드가 작업을 중복 생성하지 않게 함
+ */
+@Component
+public class SessionArchiveScheduler {
+    private static final Logger log = LoggerFactory.getLogger(SessionArchiveScheduler.class);
+
+    public static final String TASK_NAME = "archive-sessions";
+    private static final String LOCK_NAME = "sessionArchive";
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(10);
+
+    private final BackfillEngine backfillEngine;
+    private final SchedulerLockService schedulerLockService;
+    private final boolean enabled;
+
+    public SessionArchiveScheduler(BackfillEngine backfillEngine,
+                                   SchedulerLockService schedulerLockService,
+                                   @Value("${archive.enabled:false}") boolean enabled) {
+        this.backfillEngine = backfillEngine;
+        this.schedulerLockService = schedulerLockService;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(cron = "${archive.cron:0 0 4 * * SUN}", zone = "Asia/Seoul")
+    public void archive() {
+        if (!enabled || !schedulerLockService.tryLock(LOCK_NAME, LOCK_AT_MOST)) {
+            return;
+        }
+        try {
+            backfillEngine.start(TASK_NAME, "scheduler");
+        } catch (BusinessException e) {
+            log.info("세션 보관 작업을 시작하지 않음: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.workout.backfill;
+
+import com.example.workout.dto.BackfillStatusDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/backfill: 최근 백필 작업의 처리 수, 처리 속도, 예상 남은 시간
+ */
+@Component
+@Endpoint(id = "backfill")
+@RequiredArgsConstructor
+public class BackfillEndpoint {
+    private final BackfillEngine backfillEngine;
+
+    @ReadOperation
+    public List<BackfillStatusDTO> jobs() {
+        return backfillEngine.getStatuses();
+    }
+}
@@ -0,0 +1,400 @@
+package com.example.workout.backfill;
+
+import com.example.workout.dto.BackfillStatusDTO;
+import com.example.workout.entity.BackfillCheckpoint;
+import com.example.workout.entity.BackfillJob;
+import com.example.workout.exception.BusinessException;
+import com.example.workout.exception.ErrorCode;
+import com.example.workout.exception.ResourceNotFoundException;
+import com.example.workout.repository.BackfillCheckpointRepository;
+import com.example.workout.repository.BackfillJobRepository;
+import com.example.workout.repository.UserRepository;
+import com.example.workout.scheduling.SchedulerLockService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 파생 데이터 백필 엔진
+ * - 사용자 id 구간을 파티션으로 나누고, 파티션 안에서는 id 키셋 페이지로 순회
+ * - 파티션은 가상 스레드에서 병렬 실행하되 동시 실행 수를 connection-budget으로 제한 (파티션당 커넥션 1개)
+ * - connection-budget은 노드 전체 한도: 여러 작업이 함께 실행되어도 세마포어 하나를 나눠 씀
+ * - 사용자 한 명 = 트랜잭션 하나, 페이지마다 체크포인트(마지막 id)를 커밋하여 중단 후 이어서 실행
+ * - 작업별 scheduler_locks 잠금으로 한 노드만 실행, 페이지마다 잠금 연장
+ * - 죽은 노드의 잠금은 LOCK_AT_MOST 안에 만료되므로, 재시작 시 재개는 잠금이 풀릴 때까지 주기적으로 다시 시도
+ * - backfill.auto-start 작업은 한 번도 완료된 적이 없으면 시작 시 자동 실행 (새 컬럼/상태를 배포와 함께 채우는 용도)
+ */
+@Component
+public class BackfillEngine {
+    private static final Logger log = LoggerFactory.getLogger(BackfillEngine.class);
+
+    private static final Duration LOCK_AT_MOST = Duration.ofMinutes(5);
+    private static final String AUTO_START_LOCK = "backfillAutoStart";
+    private static final Duration AUTO_START_LOCK_AT_LEAST = Duration.ofMinutes(10);
+
+    private final Map<String, BackfillTask> tasks;
+    private final BackfillJobRepository jobRepository;
+    private final BackfillCheckpointRepository checkpointRepository;
+    private final UserRepository userRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int partitions;
+    // 이 노드의 모든 작업이 함께 쓰는 파티션 실행 슬롯 (connection-budget)
+    private final Semaphore permits;
+    private final int pageSize;
+    private final long lockRetryMillis;
+    private final List<String> autoStart;
+
+    // 이 노드에서 실행 중인 작업의 처리 속도 측정용
+    private final Map<Long, Throughput> running = new ConcurrentHashMap<>();
+
+    private record Throughput(long startedNanos, AtomicLong processed) {
+        double perSecond() {
+            double seconds = (System.nanoTime() - startedNanos) / 1e9;
+            return seconds > 0 ? processed.get() / seconds : 0;
+        }
+    }
+
+    public BackfillEngine(List<BackfillTask> tasks,
+                          BackfillJobRepository jobRepository,
+                          BackfillCheckpointRepository checkpointRepository,
+                          UserRepository userRepository,
+                          SchedulerLockService schedulerLockService,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${backfill.partitions:8}") int partitions,
+                          @Value("${backfill.connection-budget:2}") int connectionBudget,
+                          @Value("${backfill.page-size:100}") int pageSize,
+                          @Value("${backfill.lock-retry-ms:30000}") long lockRetryMillis,
+                          @Value("${backfill.auto-start:}") List<String> autoStart) {
+        this.tasks = tasks.stream().collect(Collectors.toMap(BackfillTask::name, Function.identity()));
+        this.jobRepository = jobRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.userRepository = userRepository;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitions = Math.max(1, partitions);
+        this.permits = new Semaphore(Math.max(1, connectionBudget), true);
+        this.pageSize = Math.max(1, pageSize);
+        this.lockRetryMillis = Math.max(1, lockRetryMillis);
+        this.autoStart = autoStart;
+    }
+
+    public Set<String> taskNames() {
+        return new TreeSet<>(tasks.keySet());
+    }
+
+    /**
+     * 새 백필 작업 생성 후 백그라운드 실행 (같은 작업이 실행 중이면 거부)
+     */
+    public BackfillStatusDTO start(String taskName, String requestedBy) {
+        if (!tasks.containsKey(taskName)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "알 수 없는 백필 작업입니다: " + taskName);
+        }
+        jobRepository.findFirstByTaskNameAndStatus(taskName, BackfillJob.Status.RUNNING).ifPresent(running -> {
+            throw new BusinessException(ErrorCode.DUPLICATE_RESOURCE, "이미 실행 중인 백필 작업입니다: " + taskName
+                + " (id=" + running.getId() + ", 중단된 작업이면 resume으로 이어서 실행하세요)");
+        });
+        BackfillJob job = transactionTemplate.execute(status -> createJob(taskName, requestedBy));
+        // 새 작업 id의 잠금이므로 바로 획득됨 (못 얻으면 재개와 같이 풀릴 때까지 다시 시도)
+        if (schedulerLockService.tryLock(lockName(job.getId()), LOCK_AT_MOST)) {
+            launch(job.getId(), () -> run(job.getId()));
+        } else {
+            launch(job.getId(), () -> runWhenUnlocked(job.getId()));
+        }
+        return toStatus(job);
+    }
+
+    /**
+     * 중단되었거나 실패한 작업을 마지막 체크포인트부터 다시 실행
+     * - 잠금을 먼저 잡으므로, 다른 노드에서 실행 중이거나 죽은 노드의 잠금이 아직 살아 있으면 상태를 바꾸지 않고 거부
+     */
+    public BackfillStatusDTO resume(Long jobId) {
+        String lockName = lockName(jobId);
+        if (!schedulerLockService.tryLock(lockName, LOCK_AT_MOST)) {
+            throw new BusinessException(ErrorCode.DUPLICATE_RESOURCE,
+                "백필 작업이 다른 노드에서 실행 중이거나, 중단된 노드의 잠금이 아직 만료되지 않았습니다 (최대 "
+                    + LOCK_AT_MOST.toMinutes() + "분 후 다시 시도).");
+        }
+        BackfillJob job;
+        try {
+            job = transactionTemplate.execute(status -> {
+                BackfillJob found = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new ResourceNotFoundException("백필 작업을 찾을 수 없습니다."));
+                if (found.getStatus() == BackfillJob.Status.COMPLETED) {
+                    throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이미 완료된 백필 작업입니다.");
+                }
+                found.setStatus(BackfillJob.Status.RUNNING);
+                found.setFinishedAt(null);
+                return found;
+            });
+        } catch (RuntimeException e) {
+            schedulerLockService.unlock(lockName);
+            throw e;
+        }
+        launch(jobId, () -> run(jobId));
+        return toStatus(job);
+    }
+
+    /**
+     * 노드 재시작 시 RUNNING으로 남은 작업 이어서 실행
+     * - 잠금이 살아 있으면 풀릴 때까지 다시 시도 (죽은 노드의 잠금은 만료되고, 살아 있는 노드가 끝내면 RUNNING이 아니게 됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        for (BackfillJob job : jobRepository.findByStatus(BackfillJob.Status.RUNNING)) {
+            log.info("중단된 백필 작업 재개: id={}, task={}", job.getId(), job.getTaskName());
+            launch(job.getId(), () -> runWhenUnlocked(job.getId()));
+        }
+    }
+
+    /**
+     * 시작 시 backfill.auto-start 작업 중 완료/실행 중인 작업이 없는 것만 시작
+     * - 잠금은 풀지 않고 만료되게 두어 함께 뜬 다른 노드가 같은 작업을 중복 생성하지 않게 함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPending() {
+        List<String> pending = autoStart.stream()
+            .filter(name -> !name.isBlank())
+            .filter(name -> !jobRepository.existsByTaskNameAndStatusIn(name,
+                List.of(BackfillJob.Status.COMPLETED, BackfillJob.Status.RUNNING)))
+            .toList();
+        if (pending.isEmpty() || !schedulerLockService.tryLock(AUTO_START_LOCK, AUTO_START_LOCK_AT_LEAST)) {
+            return;
+        }
+        for (String name : pending) {
+            try {
+                log.info("백필 작업 자동 시작: task={}", name);
+                start(name, "startup");
+            } catch (BusinessException e) {
+                log.warn("백필 작업을 자동 시작하지 않음: task={}, reason={}", name, e.getMessage());
+            }
+        }
+    }
+
+    public List<BackfillStatusDTO> getStatuses() {
+        return jobRepository.findTop20ByOrderByIdDesc().stream().map(this::toStatus).toList();
+    }
+
+    private BackfillJob createJob(String taskName, String requestedBy) {
+        Object[] stats = userRepository.findIdStats().get(0);
+        long total = ((Number) stats[2]).longValue();
+        BackfillJob job = jobRepository.save(BackfillJob.builder()
+            .taskName(taskName)
+            .status(BackfillJob.Status.RUNNING)
+            .totalUsers(total)
+            .requestedBy(requestedBy)
+            .startedAt(LocalDateTime.now())
+            .build());
+        if (total == 0) {
+            return job;
+        }
+
+        // (min - 1, max]를 균등한 id 구간으로 분할 (id 분포가 고르지 않아도 키셋 스캔이라 빈 구간은 즉시 끝남)
+        long lower = ((Number) stats[0]).longValue() - 1;
+        long upper = ((Number) stats[1]).longValue();
+        int count = (int) Math.min(partitions, total);
+        long width = (upper - lower + count - 1) / count;
+        List<BackfillCheckpoint> checkpoints = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long start = lower + i * width;
+            if (start >= upper) {
+                break;
+            }
+            checkpoints.add(BackfillCheckpoint.builder()
+                .jobId(job.getId())
+                .partitionNo(i)
+                .rangeStart(start)
+                .rangeEnd(Math.min(start + width, upper))
+                .lastUserId(start)
+                .processed(0L)
+                .failed(0L)
+                .done(false)
+                .build());
+        }
+        checkpointRepository.saveAll(checkpoints);
+        return job;
+    }
+
+    private void launch(Long jobId, Runnable body) {
+        Thread.ofVirtual().name("backfill-" + jobId).start(body);
+    }
+
+    /**
+     * 잠금을 얻을 때까지 lockRetryMillis 간격으로 다시 시도한 뒤 실행 (그 사이 작업이 끝났으면 중단)
+     */
+    void runWhenUnlocked(Long jobId) {
+        String lockName = lockName(jobId);
+        while (!schedulerLockService.tryLock(lockName, LOCK_AT_MOST)) {
+            if (!isRunning(jobId)) {
+                log.info("백필 작업이 다른 노드에서 끝남: id={}", jobId);
+                return;
+            }
+            log.info("백필 작업 잠금 대기 (다른 노드 실행 중이거나 중단된 노드의 잠금 만료 전): id={}", jobId);
+            try {
+                Thread.sleep(lockRetryMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (!isRunning(jobId)) {
+            schedulerLockService.unlock(lockName);
+            return;
+        }
+        run(jobId);
+    }
+
+    private boolean isRunning(Long jobId) {
+        return jobRepository.findById(jobId)
+            .map(job -> job.getStatus() == BackfillJob.Status.RUNNING)
+            .orElse(false);
+    }
+
+    /**
+     * 작업 실행 (호출자가 잠금을 이미 획득, 끝나면 해제)
+     */
+    void run(Long jobId) {
+        String lockName = lockName(jobId);
+        Throughput throughput = new Throughput(System.nanoTime(), new AtomicLong());
+        running.put(jobId, throughput);
+        AtomicBoolean failed = new AtomicBoolean();
+        try {
+            BackfillJob job = jobRepository.findById(jobId).orElseThrow();
+            BackfillTask task = tasks.get(job.getTaskName());
+            if (task == null) {
+                log.error("등록되지 않은 백필 작업: id={}, task={}", jobId, job.getTaskName());
+                failed.set(true);
+                return;
+            }
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (BackfillCheckpoint checkpoint : checkpointRepository.findByJobIdOrderByPartitionNo(jobId)) {
+                    if (checkpoint.getDone()) {
+                        continue;
+                    }
+                    executor.submit(() -> {
+                        try {
+                            acquire(lockName);
+                            try {
+                                runPartition(lockName, task, checkpoint, throughput);
+                            } finally {
+                                permits.release();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            failed.set(true);
+                        } catch (RuntimeException e) {
+                            log.error("백필 파티션 실패: id={}, partition={}", jobId, checkpoint.getPartitionNo(), e);
+                            failed.set(true);
+                        }
+                    });
+                }
+            }
+        } finally {
+            running.remove(jobId);
+            transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+                job.setStatus(failed.get() ? BackfillJob.Status.FAILED : BackfillJob.Status.COMPLETED);
+                job.setFinishedAt(LocalDateTime.now());
+            }));
+            schedulerLockService.unlock(lockName);
+            log.info("백필 작업 종료: id={}, failed={}, processed={}", jobId, failed.get(), throughput.processed().get());
+        }
+    }
+
+    /**
+     * 파티션 실행 슬롯 획득 (다른 작업이 슬롯을 쓰는 동안에도 잠금이 만료되지 않도록 기다리며 연장)
+     */
+    private void acquire(String lockName) throws InterruptedException {
+        while (!permits.tryAcquire(LOCK_AT_MOST.toMillis() / 2, TimeUnit.MILLISECONDS)) {
+            schedulerLockService.extend(lockName, LOCK_AT_MOST);
+        }
+    }
+
+    private void runPartition(String lockName, BackfillTask task, BackfillCheckpoint checkpoint, Throughput throughput) {
+        long cursor = checkpoint.getLastUserId();
+        long processed = checkpoint.getProcessed();
+        long failedUsers = checkpoint.getFailed();
+        while (true) {
+            List<Long> userIds = userRepository.findIdsInRange(cursor, checkpoint.getRangeEnd(), PageRequest.of(0, pageSize));
+            for (Long userId : userIds) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                        task.rebuild(userRepository.getReferenceById(userId)));
+                    processed++;
+                } catch (RuntimeException e) {
+                    // 한 사용자 실패는 건너뛰고 계속 (실패 수는 체크포인트에 남음)
+                    log.warn("백필 사용자 처리 실패: task={}, userId={}", task.name(), userId, e);
+                    failedUsers++;
+                }
+                throughput.processed().incrementAndGet();
+                cursor = userId;
+            }
+
+            boolean done = userIds.size() < pageSize;
+            checkpoint.setLastUserId(cursor);
+            checkpoint.setProcessed(processed);
+            checkpoint.setFailed(failedUsers);
+            checkpoint.setDone(done);
+            transactionTemplate.executeWithoutResult(status -> checkpointRepository.save(checkpoint));
+            schedulerLockService.extend(lockName, LOCK_AT_MOST);
+            if (done) {
+                return;
+            }
+        }
+    }
+
+    private static String lockName(Long jobId) {
+        return "backfill:" + jobId;
+    }
+
+    private BackfillStatusDTO toStatus(BackfillJob job) {
+        Object[] summary = checkpointRepository.summarize(job.getId()).get(0);
+        long processed = ((Number) summary[0]).longValue();
+        long failed = ((Number) summary[1]).longValue();
+        long remainingPartitions = summary[2] != null ? ((Number) summary[2]).longValue() : 0;
+
+        Double perSecond = null;
+        Throughput throughput = running.get(job.getId());
+        if (throughput != null) {
+            perSecond = throughput.perSecond();
+        } else {
+            LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+            long seconds = Duration.between(job.getStartedAt(), end).toSeconds();
+            if (seconds > 0) {
+                perSecond = (double) (processed + failed) / seconds;
+            }
+        }
+        long remaining = Math.max(0, job.getTotalUsers() - processed - failed);
+        Long eta = job.getStatus() == BackfillJob.Status.RUNNING && perSecond != null && perSecond > 0
+            ? Math.round(remaining / perSecond) : null;
+
+        return BackfillStatusDTO.builder()
+            .jobId(job.getId())
+            .task(job.getTaskName())
+            .status(job.getStatus().name())
+            .totalUsers(job.getTotalUsers())
+            .processedUsers(processed)
+            .failedUsers(failed)
+            .remainingPartitions(remainingPartitions)
+            .throughput(perSecond != null ? Math.round(perSecond * 10) / 10.0 : null)
+            .etaSeconds(eta)
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .build();
+    }
+}
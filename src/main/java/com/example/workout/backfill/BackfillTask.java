@@ -0,0 +1,33 @@
+package com.example.workout.backfill;
+
+import com.example.workout.entity.User;
+
+import java.util.function.Consumer;
+
+/**
+ * 사용자 단위로 다시 만들 수 있는 파생 데이터 (롤업, 인덱스 등)
+ */
+public interface BackfillTask {
+
+    String name();
+
+    /**
+     * 사용자의 파생 데이터를 지우고 원본(workout_sessions / exercise_records)에서 다시 만듦
+     * (호출자 트랜잭션 안에서 실행, 사용자 한 명 = 트랜잭션 하나)
+     */
+    void rebuild(User user);
+
+    static BackfillTask of(String name, Consumer<User> rebuild) {
+        return new BackfillTask() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void rebuild(User user) {
+                rebuild.accept(user);
+            }
+        };
+    }
+}
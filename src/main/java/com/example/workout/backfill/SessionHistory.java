@@ -0,0 +1,64 @@
+package com.example.workout.backfill;
+
+import com.example.workout.archive.ArchivedSet;
+import com.example.workout.entity.ExerciseRecord;
+import com.example.workout.entity.ExerciseType;
+import com.example.workout.entity.WorkoutSession;
+import com.example.workout.repository.WorkoutSessionRepository;
+import com.example.workout.service.SessionArchiveService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 백필용 사용자 세션 이력 순회 (날짜 오름차순, 기록 포함)
+ * - 세션 id를 페이지로 읽고 기록은 id 묶음으로 fetch join (컬렉션 fetch + 페이지네이션 회피)
+ * - 보관된 세션은 블롭의 세트를 비영속 기록으로 만들어 넘김 (롤업 재계산 전용, 저장하지 않음)
+ * - 페이지마다 flush/clear하여 영속성 컨텍스트가 이력 전체로 커지지 않게 함
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionHistory {
+    private static final int PAGE_SIZE = 50;
+
+    private final WorkoutSessionRepository sessionRepository;
+    private final SessionArchiveService archiveService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void forEach(Long userId, BiConsumer<WorkoutSession, List<ExerciseRecord>> consumer) {
+        int page = 0;
+        while (true) {
+            List<Long> ids = sessionRepository.findIdsByUserIdOrderByDate(userId, PageRequest.of(page++, PAGE_SIZE));
+            if (ids.isEmpty()) {
+                return;
+            }
+            for (WorkoutSession session : sessionRepository.findWithRecordsByIdIn(ids)) {
+                consumer.accept(session, records(session));
+            }
+            entityManager.flush();
+            entityManager.clear();
+            if (ids.size() < PAGE_SIZE) {
+                return;
+            }
+        }
+    }
+
+    private List<ExerciseRecord> records(WorkoutSession session) {
+        if (!session.isArchived()) {
+            return new ArrayList<>(session.getExercisesPerformed());
+        }
+        List<ExerciseRecord> records = new ArrayList<>();
+        for (ArchivedSet set : archiveService.sessionSets(session)) {
+            records.add(set.toRecord(session, entityManager.getReference(ExerciseType.class, set.exerciseId())));
+        }
+        return records;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.workout.cache;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+/**
+ * 로컬 무효화 후 무효화 로그에 기록하여 다른 노드에도 전파하는 CaffeineCache
+ * - CaffeineCache를 상속하므로 캐시 메트릭(cache.gets 등) 바인딩은 그대로 동작
+ * - 다른 노드에서 받은 무효화는 evictLocal/clearLocal로 적용 (재전파하지 않음)
+ * - 트랜잭션 안에서 무효화되면 전파는 커밋 후로 미룸 (커밋 전에 다른 노드가 이전 행을 다시 캐싱하지 않도록, 롤백이면 전파 안 함)
+ */
+public class BroadcastingCaffeineCache extends CaffeineCache {
+    private final CacheInvalidationBus bus;
+
+    public BroadcastingCaffeineCache(String name,
+                                     com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                     boolean allowNullValues,
+                                     CacheInvalidationBus bus) {
+        super(name, cache, allowNullValues);
+        this.bus = bus;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        publish(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = super.evictIfPresent(key);
+        // 이 노드에 없어도 다른 노드에는 있을 수 있으므로 항상 전파
+        publish(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        publish(null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = super.invalidate();
+        publish(null);
+        return notEmpty;
+    }
+
+    private void publish(Object key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bus.publish(getName(), key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bus.publish(getName(), key);
+            }
+        });
+    }
+
+    void evictLocal(Collection<?> keys) {
+        getNativeCache().invalidateAll(keys);
+    }
+
+    void clearLocal() {
+        getNativeCache().invalidateAll();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.workout.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * 모든 캐시를 BroadcastingCaffeineCache로 만드는 CaffeineCacheManager
+ * - registerCustomCache / 동적 생성 캐시 모두 adaptCaffeineCache를 거침
+ */
+public class BroadcastingCaffeineCacheManager extends CaffeineCacheManager {
+    private final CacheInvalidationBus bus;
+
+    public BroadcastingCaffeineCacheManager(CacheInvalidationBus bus) {
+        this.bus = bus;
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        return new BroadcastingCaffeineCache(name, cache, isAllowNullValues(), bus);
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.workout.cache;
+
+import com.example.workout.entity.CacheInvalidation;
+import com.example.workout.event.RemoteInvalidationEvent;
+import com.example.workout.repository.CacheInvalidationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * DB 무효화 로그 기반 노드 간 캐시 무효화 버스 (별도 브로커 없음)
+ * - 로컬 무효화는 큐에 쌓았다가 flush 주기마다 한 트랜잭션으로 cache_invalidations에 기록
+ * - 각 노드는 poll 주기마다 커서(마지막 시퀀스) 이후 로그를 읽어 캐시별로 묶어서 무효화
+ * - 자기 노드가 쓴 로그는 건너뜀 (이미 로컬에서 무효화됨)
+ * - auto increment는 커밋 순서와 다를 수 있으므로, 건너뛴 번호(gap)는 일정 시간 동안 다시 확인
+ * - DB 장애로 쓰지 못한 무효화는 다시 큐에 넣되, MAX_OUTBOX를 넘으면 캐시별 전체 비우기로 압축
+ * - 수렴 지연 상한: flush 주기 + poll 주기 (기본 0.2s + 1s)
+ *
+ * Spring 캐시가 아닌 메모리 상태(카탈로그 스냅샷, 사용자 데이터 버전)는
+ * REGION_* 이름으로 전파되고 RemoteInvalidationEvent로 전달됩니다.
+ */
+@Component
+public class CacheInvalidationBus {
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    public static final String REGION_EXERCISE_CATALOG = "region:exerciseCatalog";
+    public static final String REGION_USER_DATA_VERSION = "region:userDataVersion";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final int POLL_BATCH_SIZE = 1000;
+    private static final int MAX_TRACKED_GAPS = 1000;
+    private static final int MAX_OUTBOX = 10_000;
+
+    private final CacheInvalidationRepository repository;
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final String nodeId;
+    private final long retentionMinutes;
+    private final long gapTimeoutMillis;
+
+    private final Queue<CacheInvalidation> outbox = new ConcurrentLinkedQueue<>();
+    // 아직 보이지 않은 시퀀스 번호 -> 처음 발견한 시각
+    private final Map<Long, Long> gaps = new HashMap<>();
+    private volatile long cursor = -1;
+
+    public CacheInvalidationBus(CacheInvalidationRepository repository,
+                                ObjectProvider<CacheManager> cacheManager,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${cache.invalidation.enabled:true}") boolean enabled,
+                                @Value("${cache.invalidation.node-id:}") String nodeId,
+                                @Value("${cache.invalidation.retention-minutes:60}") long retentionMinutes,
+                                @Value("${cache.invalidation.gap-timeout-ms:10000}") long gapTimeoutMillis) {
+        this.repository = repository;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.retentionMinutes = retentionMinutes;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+    }
+
+    /**
+     * 다른 노드에 무효화 전파 (로컬 무효화는 호출자가 이미 수행)
+     * - 커밋 이후에 호출해야 다른 노드가 이전 값을 다시 읽어 캐싱하지 않음
+     *
+     * @param key null이면 캐시 전체
+     */
+    public void publish(String cacheName, Object key) {
+        if (!enabled) {
+            return;
+        }
+        outbox.add(row(cacheName, encode(key)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            // 시작 시점 이전 로그는 재생하지 않음 (로컬 캐시가 비어 있으므로)
+            cursor = repository.findMaxId();
+            log.info("Cache invalidation bus started: node={}, cursor={}", nodeId, cursor);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.flush-interval-ms:200}")
+    public void flush() {
+        if (outbox.isEmpty()) {
+            return;
+        }
+        List<CacheInvalidation> batch = new ArrayList<>();
+        CacheInvalidation next;
+        while (batch.size() < FLUSH_BATCH_SIZE && (next = outbox.poll()) != null) {
+            batch.add(next);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.saveAll(batch));
+        } catch (RuntimeException e) {
+            // 다음 주기에 재시도
+            outbox.addAll(batch);
+            log.warn("Failed to write {} cache invalidations: {}", batch.size(), e.getMessage());
+            if (outbox.size() > MAX_OUTBOX) {
+                compactOutbox();
+            }
+        }
+    }
+
+    /**
+     * 큐를 캐시별 전체 비우기 한 건씩으로 압축 (장애가 길어져도 메모리가 늘지 않고, 다른 노드는 더 넓게 무효화)
+     */
+    private void compactOutbox() {
+        Set<String> cacheNames = new LinkedHashSet<>();
+        CacheInvalidation next;
+        while ((next = outbox.poll()) != null) {
+            cacheNames.add(next.getCacheName());
+        }
+        cacheNames.forEach(cacheName -> outbox.add(row(cacheName, null)));
+        log.warn("Cache invalidation outbox overflowed, collapsed to {} cache-wide clears", cacheNames.size());
+    }
+
+    private CacheInvalidation row(String cacheName, String cacheKey) {
+        return CacheInvalidation.builder()
+            .cacheName(cacheName)
+            .cacheKey(cacheKey)
+            .nodeId(nodeId)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (!enabled || cursor < 0) {
+            return;
+        }
+        List<CacheInvalidation> rows = new ArrayList<>(
+            repository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, POLL_BATCH_SIZE)));
+        long now = System.currentTimeMillis();
+
+        if (!gaps.isEmpty()) {
+            for (CacheInvalidation late : repository.findByIdIn(gaps.keySet())) {
+                gaps.remove(late.getId());
+                rows.add(late);
+            }
+            gaps.values().removeIf(firstSeen -> now - firstSeen > gapTimeoutMillis);
+        }
+
+        long expected = cursor + 1;
+        for (CacheInvalidation row : rows) {
+            if (row.getId() < expected) {
+                continue;
+            }
+            for (long missing = expected; missing < row.getId() && gaps.size() < MAX_TRACKED_GAPS; missing++) {
+                gaps.put(missing, now);
+            }
+            expected = row.getId() + 1;
+        }
+        cursor = expected - 1;
+
+        apply(rows);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime before = LocalDateTime.now().minusMinutes(retentionMinutes);
+        Integer deleted = transactionTemplate.execute(status -> repository.deleteOlderThan(before));
+        if (deleted != null && deleted > 0) {
+            log.debug("Deleted {} old cache invalidations", deleted);
+        }
+    }
+
+    /**
+     * 캐시별로 키를 모아 한 번에 무효화 (전체 비우기가 있으면 그것만 수행)
+     */
+    private void apply(List<CacheInvalidation> rows) {
+        Map<String, Set<String>> keysByCache = new LinkedHashMap<>();
+        Set<String> clearAll = new HashSet<>();
+        for (CacheInvalidation row : rows) {
+            if (nodeId.equals(row.getNodeId())) {
+                continue;
+            }
+            if (row.getCacheKey() == null) {
+                clearAll.add(row.getCacheName());
+            }
+            keysByCache.computeIfAbsent(row.getCacheName(), name -> new LinkedHashSet<>()).add(row.getCacheKey());
+        }
+        if (keysByCache.isEmpty()) {
+            return;
+        }
+
+        CacheManager manager = cacheManager.getIfAvailable();
+        Collection<String> localCaches = manager != null ? manager.getCacheNames() : List.of();
+        keysByCache.forEach((cacheName, keys) -> {
+            boolean all = clearAll.contains(cacheName);
+            if (localCaches.contains(cacheName)) {
+                Cache cache = manager.getCache(cacheName);
+                if (cache instanceof BroadcastingCaffeineCache broadcasting) {
+                    if (all) {
+                        broadcasting.clearLocal();
+                    } else {
+                        broadcasting.evictLocal(keys.stream().map(CacheInvalidationBus::decode).toList());
+                    }
+                }
+            } else if (all) {
+                eventPublisher.publishEvent(new RemoteInvalidationEvent(cacheName, null));
+            } else {
+                keys.forEach(key -> eventPublisher.publishEvent(
+                    new RemoteInvalidationEvent(cacheName, String.valueOf(decode(key)))));
+            }
+        });
+        log.debug("Applied {} remote cache invalidations", rows.size());
+    }
+
+    /**
+     * 키 직렬화: 문자열 "s:", 정수 "l:"/"i:"
+     * 복원할 수 없는 키 타입이나 너무 긴 키는 null(캐시 전체 비우기)로 대체
+     */
+    static String encode(Object key) {
+        String encoded;
+        if (key instanceof String s) {
+            encoded = "s:" + s;
+        } else if (key instanceof Long l) {
+            encoded = "l:" + l;
+        } else if (key instanceof Integer i) {
+            encoded = "i:" + i;
+        } else {
+            return null;
+        }
+        return encoded.length() <= MAX_KEY_LENGTH ? encoded : null;
+    }
+
+    static Object decode(String encoded) {
+        String value = encoded.substring(2);
+        return switch (encoded.charAt(0)) {
+            case 'l' -> Long.valueOf(value);
+            case 'i' -> Integer.valueOf(value);
+            default -> value;
+        };
+    }
+}
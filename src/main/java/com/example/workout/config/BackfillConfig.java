@@ -0,0 +1,76 @@
+package com.example.workout.config;
+
+import com.example.workout.archive.SessionArchiveScheduler;
+import com.example.workout.backfill.BackfillTask;
+import com.example.workout.backfill.SessionHistory;
+import com.example.workout.repository.LastPerformanceRepository;
+import com.example.workout.repository.MuscleLoadDailyRepository;
+import com.example.workout.repository.PersonalRecordRepository;
+import com.example.workout.repository.WorkoutSessionRepository;
+import com.example.workout.service.LastPerformanceService;
+import com.example.workout.service.MuscleLoadService;
+import com.example.workout.service.PersonalRecordService;
+import com.example.workout.service.SessionArchiveService;
+import com.example.workout.service.StreakService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 백필 대상 파생 데이터 등록 (세션 저장/삭제 시 증분 갱신되는 테이블)
+ * - 새 롤업/인덱스를 추가하면 여기에 재구축 방법을 등록
+ */
+@Configuration
+public class BackfillConfig {
+
+    @Bean
+    public BackfillTask personalRecordsBackfill(PersonalRecordRepository repository,
+                                                PersonalRecordService service,
+                                                SessionHistory history) {
+        return BackfillTask.of("personal-records", user -> {
+            repository.deleteByUserId(user.getId());
+            history.forEach(user.getId(), (session, records) -> service.applySession(user, session, records));
+        });
+    }
+
+    @Bean
+    public BackfillTask lastPerformanceBackfill(LastPerformanceRepository repository,
+                                                LastPerformanceService service,
+                                                SessionHistory history) {
+        return BackfillTask.of("last-performance", user -> {
+            repository.deleteByUserId(user.getId());
+            history.forEach(user.getId(), (session, records) -> service.applySession(user, session, records));
+        });
+    }
+
+    @Bean
+    public BackfillTask muscleLoadBackfill(MuscleLoadDailyRepository repository,
+                                           MuscleLoadService service,
+                                           SessionHistory history) {
+        return BackfillTask.of("muscle-load", user -> {
+            repository.deleteByUserId(user.getId());
+            history.forEach(user.getId(), (session, records) ->
+                service.apply(user, session.getDate().toLocalDate(), records, 1));
+        });
+    }
+
+    @Bean
+    public BackfillTask sessionTotalsBackfill(WorkoutSessionRepository repository,
+                                              SessionArchiveService archiveService) {
+        return BackfillTask.of("session-totals", user -> {
+            repository.refreshTotalsByUserId(user.getId());
+            // 보관된 세션은 기록이 없으므로 블롭으로 채움
+            archiveService.fillMissingTotals(user.getId());
+        });
+    }
+
+    @Bean
+    public BackfillTask streakBackfill(StreakService service) {
+        return BackfillTask.of("streak", service::rebuildState);
+    }
+
+    // 파생 데이터는 아니지만 같은 사용자 단위 트랜잭션/체크포인트로 실행 (SessionArchiveScheduler가 주기적으로 시작)
+    @Bean
+    public BackfillTask sessionArchiveTask(SessionArchiveService service) {
+        return BackfillTask.of(SessionArchiveScheduler.TASK_NAME, user -> service.archiveUser(user.getId()));
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.workout.config;
+
+import com.example.workout.web.MessagePackHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Accept / Content-Type 기반 바이너리 인코딩 (CBOR, Smile, MessagePack)
+ * - 애플리케이션 ObjectMapper를 복사해서 모듈과 직렬화 설정(날짜 형식, NON_NULL 등)을 JSON과 동일하게 유지
+ * - 변환기 목록 끝에 추가: Accept가 없거나 모든 형식을 허용하면 기존처럼 JSON 응답
+ * - 요청 본문도 같은 변환기로 읽음 (Content-Type: application/cbor 등)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 클래스패스에 있으면 Spring이 기본 ObjectMapper로 만든 변환기를 먼저 넣어두므로 교체
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+            || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory())));
+        converters.add(new MessagePackHttpMessageConverter(objectMapper.copyWith(new MessagePackFactory())));
+    }
+}
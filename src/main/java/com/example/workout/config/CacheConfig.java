@@ -1,6 +1,11 @@
 package com.example.workout.config;
 
+import com.example.workout.cache.BroadcastingCaffeineCacheManager;
+import com.example.workout.cache.CacheInvalidationBus;
+import com.example.workout.service.ExerciseProgressService;
+import com.example.workout.service.SessionFragmentService;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -11,26 +16,23 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * 캐시 설정 (캐시별 독립 TTL 적용)
- * - exercises: 24시간 TTL (거의 변경 없는 정적 데이터)
+ * - 운동 카탈로그는 ExerciseCatalog 스냅샷에서 제공 (별도 캐시 없음)
  * - userDetails: 10분 TTL (보안 고려)
  * - userTotalVolume: 1시간 TTL (Dashboard 성능 최적화)
+ * - exerciseProgress: 사용자+종목별 일별 시계열, 세션 변경 시 증분 병합 (접근 후 1시간)
+ * - sessionFragments: 세션별 직렬화 JSON, 개수가 아닌 바이트 합계로 제한 (키에 version 포함, 무효화 없음)
+ * - 모든 캐시의 evict/clear는 CacheInvalidationBus로 다른 노드에도 전파
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    public CacheManager cacheManager(CacheInvalidationBus invalidationBus,
+                                     @Value("${cache.session-fragments.max-bytes:67108864}") long fragmentMaxBytes) {
+        CaffeineCacheManager cacheManager = new BroadcastingCaffeineCacheManager(invalidationBus);
         
         // 캐시별 독립적인 설정 적용
-        cacheManager.registerCustomCache("exercises", 
-            Caffeine.newBuilder()
-                .maximumSize(100)
-                .expireAfterWrite(24, TimeUnit.HOURS)
-                .recordStats()
-                .build());
-        
         cacheManager.registerCustomCache("userDetails", 
             Caffeine.newBuilder()
                 .maximumSize(500)
@@ -45,6 +47,20 @@ public class CacheConfig {
                 .recordStats()
                 .build());
         
+        cacheManager.registerCustomCache(ExerciseProgressService.CACHE_NAME,
+            Caffeine.newBuilder()
+                .maximumSize(2000)
+                .expireAfterAccess(1, TimeUnit.HOURS)
+                .recordStats()
+                .build());
+
+        cacheManager.registerCustomCache(SessionFragmentService.CACHE_NAME,
+            Caffeine.newBuilder()
+                .maximumWeight(fragmentMaxBytes)
+                .weigher((Object key, Object value) -> ((byte[]) value).length)
+                .recordStats()
+                .build());
+
         // 기본 설정 (명시되지 않은 캐시용)
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .maximumSize(500)
@@ -0,0 +1,34 @@
+package com.example.workout.config;
+
+import com.example.workout.exception.DeadlineExceededException;
+import com.example.workout.web.Deadline;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * 요청 기한을 트랜잭션 타임아웃으로 사용하는 JpaTransactionManager
+ * - 트랜잭션 타임아웃은 공유 EntityManager를 거치는 모든 쿼리(Spring Data 포함)에
+ *   남은 시간만큼의 JDBC query timeout으로 적용됨 -> 기한이 지나면 DB에서 쿼리가 취소되고 커넥션 반납
+ * - 기한이 이미 지났으면 커넥션을 잡기 전에 실패
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    public DeadlineAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        Long remainingMillis = Deadline.remainingMillis();
+        if (remainingMillis == null) {
+            return timeout;
+        }
+        if (remainingMillis <= 0) {
+            throw new DeadlineExceededException("요청 처리 기한이 지나 트랜잭션을 시작하지 않습니다.");
+        }
+        int seconds = (int) Math.max(1, (remainingMillis + 999) / 1000);
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? seconds : Math.min(timeout, seconds);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.workout.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 (캐시 무효화 로그 폴링 등 백그라운드 작업)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,11 +1,13 @@
 package com.example.workout.config;
 
 import com.example.workout.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -22,6 +24,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 @Configuration
 @EnableMethodSecurity
@@ -36,16 +39,24 @@ public class SecurityConfig {
     @Value("${h2.console.enabled:false}")
     private boolean h2ConsoleEnabled;
 
+    @Value("${admin.usernames:}")
+    private Set<String> adminUsernames;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> {
+                // SSE 등 비동기 응답 완료 디스패치 (원 요청에서 이미 인가됨, JWT 필터는 다시 실행되지 않음)
+                auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
 				auth.requestMatchers("/health").permitAll();
                 auth.requestMatchers("/api/auth/**").permitAll();
 
 				auth.requestMatchers("/actuator/health").permitAll();
 				auth.requestMatchers("/actuator/prometheus").permitAll();
+                // 백필 진행 상황은 운영자만 (AdminController와 같은 admin.usernames 기준)
+                auth.requestMatchers("/actuator/backfill", "/actuator/backfill/**").access((authentication, context) ->
+                    new AuthorizationDecision(adminUsernames.contains(authentication.get().getName())));
 
                 // H2 콘솔은 dev/local 프로파일에서만 허용
                 if (h2ConsoleEnabled && isDevProfile()) {
@@ -73,9 +84,9 @@ public class SecurityConfig {
         List<String> allowedOrigins = Arrays.asList(allowedOriginsConfig.split(","));
         configuration.setAllowedOrigins(allowedOrigins);
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Cache-Control", "X-Requested-With"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "Cache-Control", "X-Requested-With", "If-None-Match"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -0,0 +1,68 @@
+package com.example.workout.config;
+
+import com.example.workout.shard.ShardContext;
+import com.example.workout.shard.ShardRoutingDataSource;
+import com.example.workout.shard.ShardSchemaMetadata;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 샤딩 (sharding.enabled=true일 때만, 기본은 단일 DB)
+ * - primary: spring.datasource.* (인증, 샤드 디렉터리, 카탈로그 원본, 캐시 무효화 로그, 배치 작업)
+ * - 샤드: sharding.shards.<키>.url/username/password (풀 설정은 spring.datasource.hikari.*를 그대로 적용)
+ * - DataSource 빈을 직접 만들면 Boot의 DataSource 자동 구성은 빠지고 JPA는 라우팅 DataSource를 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public ShardRoutingDataSource dataSource(DataSourceProperties properties, Environment environment) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = hikari(properties, binder, ShardContext.PRIMARY);
+
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        binder.bind("sharding.shards", Bindable.mapOf(String.class, DataSourceProperties.class))
+            .orElse(Map.of())
+            .forEach((key, shardProperties) -> {
+                if (ShardContext.PRIMARY.equals(key)) {
+                    throw new IllegalStateException("샤드 키로 " + ShardContext.PRIMARY + "는 사용할 수 없습니다.");
+                }
+                shards.put(key, hikari(shardProperties, binder, key));
+            });
+        return new ShardRoutingDataSource(primary, shards);
+    }
+
+    @Bean
+    public ShardSchemaMetadata shardSchemaMetadata() {
+        return new ShardSchemaMetadata();
+    }
+
+    // 샤드 스키마 UPDATE에 쓸 매핑 메타데이터를 SessionFactory 생성 시 받아 둠
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaMetadataCustomizer(ShardSchemaMetadata shardSchemaMetadata) {
+        return properties -> properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+            (IntegratorProvider) () -> List.of(shardSchemaMetadata));
+    }
+
+    private static HikariDataSource hikari(DataSourceProperties properties, Binder binder, String key) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("shard-" + key);
+        return dataSource;
+    }
+}
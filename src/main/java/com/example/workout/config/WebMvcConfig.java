@@ -1,9 +1,14 @@
 package com.example.workout.config;
 
 import com.example.workout.security.CurrentUsernameArgumentResolver;
+import com.example.workout.shard.ShardRoutingInterceptor;
+import com.example.workout.web.ConditionalGetInterceptor;
+import com.example.workout.web.DeadlineInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -13,9 +18,37 @@ import java.util.List;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final CurrentUsernameArgumentResolver currentUsernameArgumentResolver;
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+    private final DeadlineInterceptor deadlineInterceptor;
+    private final ObjectProvider<ShardRoutingInterceptor> shardRoutingInterceptor;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUsernameArgumentResolver);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 사용자 샤드 선택 (sharding.enabled일 때만, DB를 조회하는 다른 인터셉터보다 먼저)
+        // 인증/운영자/카탈로그 API는 primary
+        shardRoutingInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+            .addPathPatterns("/api/**")
+            .excludePathPatterns("/api/auth/**", "/api/admin/**", "/api/exercises/**", "/api/live/**"));
+
+        // 요청 기한 -> 트랜잭션/쿼리 타임아웃 (SSE 연결은 제외)
+        registry.addInterceptor(deadlineInterceptor)
+            .addPathPatterns("/api/**")
+            .excludePathPatterns("/api/live/**");
+
+        // 사용자별 조회 API: 데이터 버전 기반 ETag/304
+        registry.addInterceptor(conditionalGetInterceptor)
+            .addPathPatterns(
+                "/api/sessions/**",
+                "/api/diet-sessions/**",
+                "/api/routines/**",
+                "/api/users/profile/**",
+                "/api/progress/**",
+                "/api/rx/sessions/**",
+                "/api/rx/diet-sessions/**");
+    }
 }
@@ -0,0 +1,99 @@
+package com.example.workout.controller;
+
+import com.example.workout.backfill.BackfillEngine;
+import com.example.workout.dto.BackfillStatusDTO;
+import com.example.workout.dto.ShardMigrationDTO;
+import com.example.workout.exception.BusinessException;
+import com.example.workout.exception.ErrorCode;
+import com.example.workout.security.CurrentUsername;
+import com.example.workout.shard.ShardService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 운영자 API (admin.usernames에 등록된 사용자만)
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+    private final BackfillEngine backfillEngine;
+    private final ObjectProvider<ShardService> shardService;
+    private final Set<String> adminUsernames;
+
+    public AdminController(BackfillEngine backfillEngine,
+                           ObjectProvider<ShardService> shardService,
+                           @Value("${admin.usernames:}") Set<String> adminUsernames) {
+        this.backfillEngine = backfillEngine;
+        this.shardService = shardService;
+        this.adminUsernames = adminUsernames;
+    }
+
+    @GetMapping("/backfill/tasks")
+    public ResponseEntity<Set<String>> getBackfillTasks(@CurrentUsername String username) {
+        requireAdmin(username);
+        return ResponseEntity.ok(backfillEngine.taskNames());
+    }
+
+    @GetMapping("/backfill/jobs")
+    public ResponseEntity<List<BackfillStatusDTO>> getBackfillJobs(@CurrentUsername String username) {
+        requireAdmin(username);
+        return ResponseEntity.ok(backfillEngine.getStatuses());
+    }
+
+    /**
+     * 파생 데이터 전체 재구축 시작 (진행 상황은 /actuator/backfill 또는 /backfill/jobs)
+     */
+    @PostMapping("/backfill/{task}")
+    public ResponseEntity<BackfillStatusDTO> startBackfill(@CurrentUsername String username, @PathVariable String task) {
+        requireAdmin(username);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(backfillEngine.start(task, username));
+    }
+
+    @PostMapping("/backfill/jobs/{jobId}/resume")
+    public ResponseEntity<BackfillStatusDTO> resumeBackfill(@CurrentUsername String username, @PathVariable Long jobId) {
+        requireAdmin(username);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(backfillEngine.resume(jobId));
+    }
+
+    /**
+     * 샤드별 사용자 수 (디렉터리에 없는 사용자는 primary)
+     */
+    @GetMapping("/shards")
+    public ResponseEntity<Map<String, Long>> getShards(@CurrentUsername String username) {
+        requireAdmin(username);
+        return ResponseEntity.ok(requireSharding().userCounts());
+    }
+
+    /**
+     * 사용자 한 명의 데이터를 다른 샤드로 이동 (이동 중 해당 사용자 요청은 503)
+     */
+    @PostMapping("/shards/migrate")
+    public ResponseEntity<ShardMigrationDTO> migrateUser(@CurrentUsername String username,
+                                                         @RequestParam Long userId,
+                                                         @RequestParam String target) {
+        requireAdmin(username);
+        return ResponseEntity.ok(requireSharding().migrate(userId, target));
+    }
+
+    private ShardService requireSharding() {
+        ShardService service = shardService.getIfAvailable();
+        if (service == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "샤딩이 활성화되어 있지 않습니다.");
+        }
+        return service;
+    }
+
+    private void requireAdmin(String username) {
+        if (!adminUsernames.contains(username)) {
+            throw new AccessDeniedException("관리자만 사용할 수 있습니다.");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.workout.controller;
+
+import com.example.workout.dto.DietSessionDTO;
+import com.example.workout.dto.WorkoutDashboardDTO;
+import com.example.workout.security.CurrentUsername;
+import com.example.workout.service.DietSessionService;
+import com.example.workout.service.ExerciseCatalog;
+import com.example.workout.service.SessionFragmentService;
+import com.example.workout.service.WorkoutSessionService;
+import com.example.workout.web.BoundedReadExecutor;
+import com.example.workout.web.RequestDeadline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 읽기 API (/api/rx): 무거운 조회 경로를 기존 컨트롤러와 나란히 제공하여 처리량 비교
+ * - 응답 본문은 기존 API와 같음, 요청 스레드를 조회 동안 점유하지 않음 (BoundedReadExecutor)
+ * - 카탈로그는 메모리 스냅샷이므로 실행기를 거치지 않음
+ * - WebFlux/R2DBC가 아니라 서블릿 비동기 처리 + 블로킹 JPA 조회 (같은 서비스 계층 사용)
+ */
+@RestController
+@RequestMapping("/api/rx")
+@RequestDeadline(millis = 8000)
+@RequiredArgsConstructor
+public class AsyncReadController {
+    private static final CacheControl CATALOG_CACHE_CONTROL =
+        CacheControl.maxAge(Duration.ofHours(24)).cachePrivate();
+
+    private final BoundedReadExecutor readExecutor;
+    private final WorkoutSessionService sessionService;
+    private final SessionFragmentService sessionFragmentService;
+    private final DietSessionService dietSessionService;
+    private final ExerciseCatalog exerciseCatalog;
+
+    @GetMapping("/sessions/dashboard")
+    public CompletableFuture<WorkoutDashboardDTO> getWorkoutDashboard(
+            @CurrentUsername String username,
+            @RequestParam(defaultValue = "UTC") String tz) {
+        return readExecutor.submit(() -> sessionService.getWorkoutDashboard(username, tz));
+    }
+
+    @GetMapping(value = "/sessions", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<byte[]> getUserSessions(
+            @CurrentUsername String username,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate) {
+        return readExecutor.submit(() -> sessionFragmentService.getUserSessionsJson(username, startDate, endDate));
+    }
+
+    @GetMapping("/diet-sessions/by-date")
+    public CompletableFuture<ResponseEntity<DietSessionDTO>> getDietSessionByDate(
+            @CurrentUsername String username,
+            @RequestParam String date) {
+        return readExecutor.submit(() -> dietSessionService.getDietSessionByDate(username, date)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.noContent().build()));
+    }
+
+    @GetMapping(value = "/exercises", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAllExercises() {
+        ExerciseCatalog.Snapshot snapshot = exerciseCatalog.snapshot();
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(snapshot.etag())
+            .cacheControl(CATALOG_CACHE_CONTROL)
+            .body(snapshot.json());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.workout.controller;
+
+import com.example.workout.dto.BootstrapDTO;
+import com.example.workout.security.CurrentUsername;
+import com.example.workout.service.BootstrapService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 홈 화면 첫 렌더링용 통합 조회 API
+ */
+@RestController
+@RequestMapping("/api/bootstrap")
+@RequiredArgsConstructor
+public class BootstrapController {
+    private final BootstrapService bootstrapService;
+
+    /**
+     * JSON 전용: exercises는 미리 직렬화된 카탈로그 JSON을 그대로 넣으므로 바이너리 인코딩 불가
+     *
+     * @param catalogEtag 클라이언트가 가진 카탈로그 ETag (같으면 exercises 생략)
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BootstrapDTO> bootstrap(
+            @CurrentUsername String username,
+            @RequestParam(defaultValue = "UTC") String tz,
+            @RequestParam(required = false) String catalogEtag) {
+        return ResponseEntity.ok(bootstrapService.bootstrap(username, tz, catalogEtag));
+    }
+}
@@ -4,11 +4,13 @@ import com.example.workout.dto.DietDashboardDTO;
 import com.example.workout.dto.DietSessionDTO;
 import com.example.workout.security.CurrentUsername;
 import com.example.workout.service.DietSessionService;
+import com.example.workout.web.FieldSelection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/diet-sessions")
@@ -23,6 +25,17 @@ public class DietSessionController {
         return ResponseEntity.ok(dietSessionService.getAllDietSessions(username));
     }
 
+    /**
+     * 필요한 필드만 조회 (예: /api/diet-sessions?fields=id,date,calories 는 식품 목록 없이 합계만)
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getDietSessionFields(
+            @CurrentUsername String username,
+            @RequestParam String fields) {
+        return ResponseEntity.ok(dietSessionService.getDietSessionFields(username,
+                FieldSelection.parse(fields, DietSessionService.DIET_FIELDS)));
+    }
+
     /**
      * 특정 날짜의 식단 조회 (단건 조회로 네트워크/DB 부하 감소)
      * 미존재 시 204 No Content 반환 (null payload 방지)
@@ -50,6 +63,15 @@ public class DietSessionController {
         return ResponseEntity.ok(dietSessionService.getDietSession(id, username));
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getDietSessionFields(
+            @PathVariable Long id,
+            @CurrentUsername String username,
+            @RequestParam String fields) {
+        return ResponseEntity.ok(dietSessionService.getDietSessionFields(id, username,
+                FieldSelection.parse(fields, DietSessionService.DIET_FIELDS)));
+    }
+
     @PostMapping
     public ResponseEntity<DietSessionDTO> createDietSession(
             @RequestBody DietSessionDTO dietSessionDTO,
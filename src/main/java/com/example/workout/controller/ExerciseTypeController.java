@@ -1,27 +1,65 @@
 package com.example.workout.controller;
 
+import com.example.workout.dto.ExerciseTypeDTO;
 import com.example.workout.entity.ExerciseType;
+import com.example.workout.service.ExerciseCatalog;
 import com.example.workout.service.ExerciseTypeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 
+/**
+ * 운동 카탈로그 API
+ * - 미리 직렬화된 JSON 바이트를 그대로 전송 (요청마다 직렬화하지 않음)
+ * - 콘텐츠 해시 ETag로 If-None-Match 요청은 304 응답
+ */
 @RestController
 @RequestMapping("/api/exercises")
 @RequiredArgsConstructor
 public class ExerciseTypeController {
+    private static final CacheControl CATALOG_CACHE_CONTROL =
+        CacheControl.maxAge(Duration.ofHours(24)).cachePrivate();
+    private static final int MAX_SEARCH_LIMIT = 100;
+
+    private final ExerciseCatalog exerciseCatalog;
     private final ExerciseTypeService exerciseService;
 
-    @GetMapping
-    public ResponseEntity<List<ExerciseType>> getAllExercises() {
-        return ResponseEntity.ok(exerciseService.getAllExercises());
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAllExercises() {
+        ExerciseCatalog.Snapshot snapshot = exerciseCatalog.snapshot();
+        return catalogResponse(snapshot.json(), snapshot.etag());
     }
 
-    @GetMapping("/category/{category}")
-    public ResponseEntity<List<ExerciseType>> getExercisesByCategory(
+    @GetMapping(value = "/category/{category}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getExercisesByCategory(
             @PathVariable ExerciseType.ExerciseCategory category) {
-        return ResponseEntity.ok(exerciseService.getExercisesByCategory(category));
+        ExerciseCatalog.Snapshot snapshot = exerciseCatalog.snapshot();
+        return catalogResponse(snapshot.categoryJson(category), snapshot.categoryEtag(category));
+    }
+
+    /**
+     * 운동 검색 (초성 'ㅂㅊㅍㄹㅅ', 부분 일치 '벤치', 근육 '삼각근' 모두 지원)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ExerciseTypeDTO>> searchExercises(
+            @RequestParam String q,
+            @RequestParam(required = false) ExerciseType.ExerciseCategory category,
+            @RequestParam(defaultValue = "20") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        return ResponseEntity.ok(exerciseService.searchExercises(q, category, boundedLimit));
+    }
+
+    // GET 요청의 If-None-Match는 HttpEntityMethodProcessor가 ETag와 비교하여 304로 처리
+    private ResponseEntity<byte[]> catalogResponse(byte[] json, String etag) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(etag)
+            .cacheControl(CATALOG_CACHE_CONTROL)
+            .body(json);
     }
 }
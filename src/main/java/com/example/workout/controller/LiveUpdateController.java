@@ -0,0 +1,38 @@
+package com.example.workout.controller;
+
+import com.example.workout.live.LiveUpdateHub;
+import com.example.workout.security.CurrentUsername;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 실시간 변경 알림 (Server-Sent Events)
+ * - event: ready  data: {"version":N}
+ * - event: change data: {"areas":["DIET"],"version":N} → 클라이언트는 해당 영역 API만 다시 조회
+ */
+@RestController
+@RequestMapping("/api/live")
+@RequiredArgsConstructor
+public class LiveUpdateController {
+    private final LiveUpdateHub liveUpdateHub;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@CurrentUsername String username) {
+        return liveUpdateHub.open(username)
+            .map(emitter -> ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                // 프록시(nginx) 응답 버퍼링 해제
+                .header("X-Accel-Buffering", "no")
+                .body(emitter))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .build());
+    }
+}
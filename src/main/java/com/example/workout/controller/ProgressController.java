@@ -0,0 +1,105 @@
+package com.example.workout.controller;
+
+import com.example.workout.dto.AnalyticsDTO;
+import com.example.workout.dto.ExerciseProgressDTO;
+import com.example.workout.dto.MuscleLoadDTO;
+import com.example.workout.dto.PersonalRecordDTO;
+import com.example.workout.dto.VolumeSeriesDTO;
+import com.example.workout.dto.WeeklyWorkoutDTO;
+import com.example.workout.security.CurrentUsername;
+import com.example.workout.service.AnalyticsService;
+import com.example.workout.service.ExerciseProgressService;
+import com.example.workout.service.MuscleLoadService;
+import com.example.workout.service.PersonalRecordService;
+import com.example.workout.service.WorkoutStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 성장 추이 API (서버 집계, 클라이언트는 전체 세션을 받지 않음)
+ */
+@RestController
+@RequestMapping("/api/progress")
+@RequiredArgsConstructor
+public class ProgressController {
+    private final ExerciseProgressService exerciseProgressService;
+    private final PersonalRecordService personalRecordService;
+    private final WorkoutStatsService workoutStatsService;
+    private final MuscleLoadService muscleLoadService;
+    private final AnalyticsService analyticsService;
+
+    /**
+     * 종목별 추정 1RM / 최고 중량 / 주간 볼륨 (기본 최근 3개월)
+     */
+    @GetMapping("/exercises/{exerciseId}")
+    public ResponseEntity<ExerciseProgressDTO> getExerciseProgress(
+            @CurrentUsername String username,
+            @PathVariable Long exerciseId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(exerciseProgressService.getProgress(username, exerciseId, from, to));
+    }
+
+    /**
+     * 개인 기록 (exerciseId 지정 시 중량별 최다 횟수 기록 포함)
+     */
+    @GetMapping("/personal-records")
+    public ResponseEntity<List<PersonalRecordDTO>> getPersonalRecords(
+            @CurrentUsername String username,
+            @RequestParam(required = false) Long exerciseId) {
+        return ResponseEntity.ok(personalRecordService.getPersonalRecords(username, exerciseId));
+    }
+
+    /**
+     * ISO 주별 세션 수 / 운동 시간 / 볼륨 (기본 최근 12주, 사용자 시간대 기준)
+     */
+    @GetMapping("/weekly")
+    public ResponseEntity<List<WeeklyWorkoutDTO>> getWeeklyWorkouts(
+            @CurrentUsername String username,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "Asia/Seoul") String tz) {
+        return ResponseEntity.ok(workoutStatsService.getWeeklyWorkouts(username, from, to, tz));
+    }
+
+    /**
+     * 부위별 최근 7일/28일 세트·볼륨과 회복 지수
+     */
+    @GetMapping("/muscle-load")
+    public ResponseEntity<MuscleLoadDTO> getMuscleLoad(
+            @CurrentUsername String username,
+            @RequestParam(defaultValue = "Asia/Seoul") String tz) {
+        return ResponseEntity.ok(muscleLoadService.getMuscleLoad(username, tz));
+    }
+
+    /**
+     * 장기 볼륨 차트 (기본 최근 1년, 일별, 최대 200개 점으로 LTTB 축소)
+     */
+    @GetMapping("/volume")
+    public ResponseEntity<VolumeSeriesDTO> getVolumeSeries(
+            @CurrentUsername String username,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "200") int points,
+            @RequestParam(defaultValue = "DAY") String bucket) {
+        return ResponseEntity.ok(workoutStatsService.getVolumeSeries(username, from, to, points, bucket));
+    }
+
+    /**
+     * 세트 그룹 집계: 일별/주별/종목별 세트 수, 볼륨, 최고 중량, 평균 RPE (기본 최근 1년, exerciseId로 종목 필터)
+     */
+    @GetMapping("/analytics")
+    public ResponseEntity<AnalyticsDTO> getAnalytics(
+            @CurrentUsername String username,
+            @RequestParam(defaultValue = "WEEK") String groupBy,
+            @RequestParam(required = false) Long exerciseId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsService.query(username, groupBy, exerciseId, from, to));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.workout.controller;
+
+import com.example.workout.dto.WeeklyReportSummaryDTO;
+import com.example.workout.security.CurrentUsername;
+import com.example.workout.service.WeeklyReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사전 생성된 리포트 조회 API
+ */
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+    // 리포트는 주 1회 생성 (재생성 시에만 바뀜)
+    private static final CacheControl REPORT_CACHE_CONTROL =
+        CacheControl.maxAge(Duration.ofHours(1)).cachePrivate();
+
+    private final WeeklyReportService weeklyReportService;
+
+    /**
+     * 주간 리포트 목록 (최근 52주, id와 주 시작일만)
+     */
+    @GetMapping("/weekly")
+    public ResponseEntity<List<WeeklyReportSummaryDTO>> getWeeklyReports(@CurrentUsername String username) {
+        return ResponseEntity.ok(weeklyReportService.getReports(username));
+    }
+
+    /**
+     * 주간 리포트 본문 (저장된 JSON 그대로)
+     */
+    @GetMapping("/weekly/{id}")
+    public ResponseEntity<String> getWeeklyReport(@CurrentUsername String username, @PathVariable Long id) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .cacheControl(REPORT_CACHE_CONTROL)
+            .body(weeklyReportService.getReportJson(id, username));
+    }
+}
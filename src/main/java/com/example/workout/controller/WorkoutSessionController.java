@@ -1,21 +1,35 @@
 package com.example.workout.controller;
 
+import com.example.workout.dto.LastPerformanceDTO;
 import com.example.workout.dto.WorkoutDashboardDTO;
 import com.example.workout.dto.WorkoutSessionDTO;
+import com.example.workout.exception.BusinessException;
+import com.example.workout.exception.ErrorCode;
 import com.example.workout.security.CurrentUsername;
+import com.example.workout.service.LastPerformanceService;
+import com.example.workout.service.SessionFragmentService;
 import com.example.workout.service.WorkoutSessionService;
+import com.example.workout.web.FieldSelection;
+import com.example.workout.web.RequestDeadline;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/sessions")
 @RequiredArgsConstructor
 public class WorkoutSessionController {
+    // 목록/대시보드 기본 처리 기한 (모바일 클라이언트가 기다리는 시간 안에서 커넥션 반납)
+    private static final long READ_DEADLINE_MS = 8000;
+
     private final WorkoutSessionService sessionService;
+    private final LastPerformanceService lastPerformanceService;
+    private final SessionFragmentService sessionFragmentService;
 
     @PostMapping
     public ResponseEntity<WorkoutSessionDTO> createSession(
@@ -24,6 +38,19 @@ public class WorkoutSessionController {
         return ResponseEntity.ok(sessionService.createSession(username, dto));
     }
 
+    /**
+     * JSON 목록: 세션별로 캐시된 직렬화 조각을 이어 붙여 응답 (CBOR 등 다른 형식은 아래 DTO 경로)
+     */
+    @RequestDeadline(millis = READ_DEADLINE_MS)
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getUserSessionsJson(
+            @CurrentUsername String username,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate) {
+        return ResponseEntity.ok(sessionFragmentService.getUserSessionsJson(username, startDate, endDate));
+    }
+
+    @RequestDeadline(millis = READ_DEADLINE_MS)
     @GetMapping
     public ResponseEntity<List<WorkoutSessionDTO>> getUserSessions(
             @CurrentUsername String username,
@@ -35,6 +62,22 @@ public class WorkoutSessionController {
         return ResponseEntity.ok(sessionService.getUserSessions(username));
     }
 
+    /**
+     * 필요한 필드만 조회 (목록 화면은 기록 없이 요약만)
+     * 예: /api/sessions?fields=id,date,totalVolume
+     */
+    @RequestDeadline(millis = READ_DEADLINE_MS)
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getUserSessionFields(
+            @CurrentUsername String username,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam String fields) {
+        return ResponseEntity.ok(sessionService.getUserSessionFields(username, startDate, endDate,
+            FieldSelection.parse(fields, WorkoutSessionService.SESSION_FIELDS)));
+    }
+
+    @RequestDeadline(millis = READ_DEADLINE_MS)
     @GetMapping("/dashboard")
     public ResponseEntity<WorkoutDashboardDTO> getWorkoutDashboard(
             @CurrentUsername String username,
@@ -42,6 +85,28 @@ public class WorkoutSessionController {
         return ResponseEntity.ok(sessionService.getWorkoutDashboard(username, tz));
     }
 
+    /**
+     * 종목별 마지막 수행 세트 (세트 입력 시 미리 채우기, 여러 종목 한 번에)
+     * 예: /api/sessions/last-performance?exerciseIds=1,2,3
+     */
+    @GetMapping("/last-performance")
+    public ResponseEntity<List<LastPerformanceDTO>> getLastPerformances(
+            @CurrentUsername String username,
+            @RequestParam List<Long> exerciseIds) {
+        if (exerciseIds.size() > LastPerformanceService.MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "한 번에 조회할 수 있는 종목은 최대 " + LastPerformanceService.MAX_BATCH_SIZE + "개입니다.");
+        }
+        return ResponseEntity.ok(lastPerformanceService.getLastPerformances(username, exerciseIds));
+    }
+
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getSessionJson(
+            @PathVariable Long id,
+            @CurrentUsername String username) {
+        return ResponseEntity.ok(sessionFragmentService.getSessionJson(id, username));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<WorkoutSessionDTO> getSessionById(
             @PathVariable Long id,
@@ -49,6 +114,15 @@ public class WorkoutSessionController {
         return ResponseEntity.ok(sessionService.getSessionById(id, username));
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getSessionFields(
+            @PathVariable Long id,
+            @CurrentUsername String username,
+            @RequestParam String fields) {
+        return ResponseEntity.ok(sessionService.getSessionFields(id, username,
+            FieldSelection.parse(fields, WorkoutSessionService.SESSION_FIELDS)));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteSession(
             @PathVariable Long id,
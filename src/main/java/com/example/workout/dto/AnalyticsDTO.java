@@ -0,0 +1,43 @@
+package com.example.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 세트 기록 그룹 집계 (분석 스냅샷에서 계산, 세트가 있는 그룹만)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsDTO {
+    // DAY, WEEK, EXERCISE
+    private String groupBy;
+    private LocalDate from;
+    private LocalDate to;
+    // 종목 필터 (없으면 전체)
+    private Long exerciseId;
+    private List<Group> groups;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Group {
+        // DAY: 날짜, WEEK: 주 시작(월요일), EXERCISE: null
+        private LocalDate start;
+        // EXERCISE일 때만
+        private Long exerciseId;
+        private String exerciseName;
+        private Integer sets;
+        private Double volume;
+        private Double topWeight;
+        // RPE를 기록한 세트의 평균 (없으면 null)
+        private Double averageRpe;
+    }
+}
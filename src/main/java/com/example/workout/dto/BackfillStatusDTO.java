@@ -0,0 +1,31 @@
+package com.example.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백필 작업 진행 상황
+ * - throughput: 초당 처리 사용자 수 (이 노드에서 실행 중이면 이번 실행 기준, 아니면 시작 이후 평균)
+ * - etaSeconds: 남은 사용자 / throughput (완료됐거나 속도를 알 수 없으면 null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillStatusDTO {
+    private Long jobId;
+    private String task;
+    private String status;
+    private Long totalUsers;
+    private Long processedUsers;
+    private Long failedUsers;
+    private Long remainingPartitions;
+    private Double throughput;
+    private Long etaSeconds;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,31 @@
+package com.example.workout.dto;
+
+import com.example.workout.entity.UserProfile;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 홈 화면 첫 렌더링 데이터 (대시보드 + 오늘 식단 + 프로필 + 운동 카탈로그)
+ * - 시간 안에 끝나지 않았거나 실패한 섹션은 null, 이유는 errors에 (섹션 이름 -> TIMEOUT / ERROR)
+ * - exercises: 클라이언트의 catalogEtag가 현재와 다를 때만 포함 (카탈로그 스냅샷 JSON 그대로)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BootstrapDTO {
+    private WorkoutDashboardDTO dashboard;
+    private DietDashboardDTO dietToday;
+    private UserProfile profile;
+    private String catalogEtag;
+    @JsonRawValue
+    private String exercises;
+    private Map<String, String> errors;
+}
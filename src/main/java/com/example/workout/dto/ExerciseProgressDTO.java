@@ -0,0 +1,24 @@
+package com.example.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseProgressDTO {
+    private Long exerciseId;
+    private String exerciseName;
+    private LocalDate from;
+    private LocalDate to;
+    private Double bestTopSetWeight;
+    private Double bestEstimatedOneRepMax;
+    private List<ProgressPointDTO> points;
+    private List<WeeklyVolumeDTO> weeklyVolume;
+}
@@ -0,0 +1,19 @@
+package com.example.workout.dto;
+
+import com.example.workout.entity.ExerciseType;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 운동 종목 카탈로그 응답용 불변 DTO
+ * - ExerciseCatalog 스냅샷에 보관되어 여러 요청이 공유하므로 불변으로 유지
+ */
+@Value
+@Builder
+public class ExerciseTypeDTO {
+    Long id;
+    String name;
+    ExerciseType.ExerciseCategory category;
+    String muscleGroup;
+    String description;
+}
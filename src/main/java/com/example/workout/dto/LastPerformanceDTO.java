@@ -0,0 +1,29 @@
+package com.example.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LastPerformanceDTO {
+    private Long exerciseId;
+    private Long sessionId;
+    private LocalDate date;
+    private List<SetDTO> sets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SetDTO {
+        private Double weight;
+        private Integer reps;
+        private Double rpe;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MuscleLoadDTO {
+    private LocalDate asOf;
+    private List<BucketLoad> categories;
+    private List<BucketLoad> muscles;
+
+    /**
+     * 부위별 부하
+     * - acuteChronicRatio: 최근 7일 세트 / (최근 28일 세트 / 4), 28일 기록이 없으면 null
+     * - recoveryScore: 0(방금 많이 훈련) ~ 100(충분히 회복)
+     * - status: UNDERTRAINED(주 10세트 미만) / OPTIMAL / HIGH(주 20세트 초과)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BucketLoad {
+        private String key;
+        private String name;
+        private Double sets7d;
+        private Double sets28d;
+        private Double volume7d;
+        private Double volume28d;
+        private Double acuteChronicRatio;
+        private LocalDate lastTrained;
+        private Integer recoveryScore;
+        private String status;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.workout.dto;
+
+import com.example.workout.entity.PersonalRecord;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PersonalRecordDTO {
+    private Long exerciseId;
+    private String exerciseName;
+    private PersonalRecord.RecordType recordType;
+    private Double value;
+    // 새 기록 응답에서만: 갱신 전 값
+    private Double previousValue;
+    private Double weight;
+    private Integer reps;
+    private Long sessionId;
+    private LocalDate achievedAt;
+}
@@ -0,0 +1,24 @@
+package com.example.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 종목 기록 (추정 1RM은 1~12회 세트만 사용, 해당 세트가 없으면 null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressPointDTO {
+    private LocalDate date;
+    private Double topSetWeight;
+    private Double estimatedOneRepMaxEpley;
+    private Double estimatedOneRepMaxBrzycki;
+    private Double volume;
+    private Long sets;
+}
@@ -0,0 +1,24 @@
+package com.example.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 사용자 샤드 이동 결과
+ * - copiedRows: 테이블별 대상 샤드에 복사한 행 수 (외래 키 순서)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardMigrationDTO {
+    private Long userId;
+    private String fromShard;
+    private String toShard;
+    private Map<String, Integer> copiedRows;
+    private Long elapsedMs;
+}
@@ -0,0 +1,35 @@
+package com.example.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 장기 볼륨 시계열 (LTTB로 요청한 점 개수 이하로 축소)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolumeSeriesDTO {
+    private LocalDate from;
+    private LocalDate to;
+    // SESSION 또는 DAY
+    private String bucket;
+    // 축소 전 점 개수
+    private Integer sourcePoints;
+    private List<Point> points;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDateTime date;
+        private Double volume;
+    }
+}
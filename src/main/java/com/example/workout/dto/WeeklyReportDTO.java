@@ -0,0 +1,47 @@
+package com.example.workout.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주간 리포트 본문 (weekly_reports.report_json에 저장되는 형태)
+ * - volumeChange: 전주 대비 볼륨 변화율(%), 전주 볼륨이 0이면 null
+ * - muscleBalance: 카테고리별 세트 수
+ * - dietLoggedDays: 식단을 기록한 날 수 (0~7)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WeeklyReportDTO {
+    private LocalDate weekStart;
+    private Integer sessions;
+    private Integer trainingDays;
+    private Long totalDuration;
+    private Double volume;
+    private Double previousVolume;
+    private Double volumeChange;
+    private Long sets;
+    private List<PersonalRecordItem> personalRecords;
+    private Map<String, Double> muscleBalance;
+    private Integer dietLoggedDays;
+    private Double averageCalories;
+    private Double averageProtein;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PersonalRecordItem {
+        private String exerciseName;
+        private String recordType;
+        private Double value;
+    }
+}
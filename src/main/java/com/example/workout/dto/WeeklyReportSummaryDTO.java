@@ -0,0 +1,18 @@
+package com.example.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 주간 리포트 목록 항목 (본문은 id로 따로 조회)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyReportSummaryDTO {
+    private Long id;
+    private LocalDate weekStart;
+}
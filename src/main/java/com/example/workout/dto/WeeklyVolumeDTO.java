@@ -0,0 +1,22 @@
+package com.example.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * ISO 주(월요일 시작)별 볼륨
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyVolumeDTO {
+    private LocalDate weekStart;
+    private Double volume;
+    private Long sets;
+    private Double bestEstimatedOneRepMax;
+}
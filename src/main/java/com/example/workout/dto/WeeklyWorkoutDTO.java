@@ -0,0 +1,24 @@
+package com.example.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * ISO 주별 운동 집계 (사용자 시간대 기준, 운동하지 않은 주도 0으로 포함)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyWorkoutDTO {
+    // 예: "2025-W07"
+    private String isoWeek;
+    private LocalDate weekStart;
+    private Long sessions;
+    private Long totalDuration;
+    private Double volume;
+}
@@ -20,4 +20,11 @@ public class WorkoutDashboardDTO {
     private List<VolumeDataPointDTO> volumeChartData;
     private LocalDate heatmapStartDate;
     private List<Integer> heatmapLevels;
+    // 연속 운동 (user_streaks 상태에서 읽음, 이력 스캔 없음)
+    private Integer currentStreak;
+    private Integer longestStreak;
+    private LocalDate lastActiveDate;
+    // 이번 주(월요일 시작) 운동한 날 수 / 최근 4주 주당 평균 운동일 (heatmap 집계 재사용)
+    private Integer daysThisWeek;
+    private Double averageDaysPerWeek;
 }
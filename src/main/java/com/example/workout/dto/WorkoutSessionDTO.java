@@ -1,16 +1,17 @@
 package com.example.workout.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
-import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Data
-@AllArgsConstructor
+@NoArgsConstructor
 public class WorkoutSessionDTO {
     private Long id;
 
@@ -25,4 +26,23 @@ public class WorkoutSessionDTO {
 
     @NotEmpty(message = "최소 하나의 운동을 추가해야 합니다.")
     private List<ExerciseRecordDTO> exercisesPerformed;
+
+    // 세션 합계 (응답 전용, 요청 값은 무시)
+    private Double totalVolume;
+    private Integer totalSets;
+    private Integer exerciseCount;
+
+    // 세션 저장 응답에서만: 이번 세션에서 갱신된 개인 기록
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<PersonalRecordDTO> newPersonalRecords;
+
+    public WorkoutSessionDTO(Long id, LocalDate date, Integer duration, String notes,
+                             Long routineId, List<ExerciseRecordDTO> exercisesPerformed) {
+        this.id = id;
+        this.date = date;
+        this.duration = duration;
+        this.notes = notes;
+        this.routineId = routineId;
+        this.exercisesPerformed = exercisesPerformed;
+    }
 }
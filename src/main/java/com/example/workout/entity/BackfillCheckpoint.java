@@ -0,0 +1,48 @@
+package com.example.workout.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 백필 파티션 진행 위치 (사용자 id 범위 (rangeStart, rangeEnd], 마지막으로 처리한 id까지 커밋)
+ */
+@Entity
+@Table(name = "backfill_checkpoints",
+    uniqueConstraints = @UniqueConstraint(name = "uk_backfill_checkpoint", columnNames = {"job_id", "partition_no"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BackfillCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;
+
+    // 범위 시작 (이 id는 포함하지 않음)
+    @Column(name = "range_start", nullable = false)
+    private Long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd;
+
+    // 다음 실행은 이 id 다음부터
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId;
+
+    @Column(nullable = false)
+    private Long processed;
+
+    @Column(nullable = false)
+    private Long failed;
+
+    @Column(nullable = false)
+    private Boolean done;
+}
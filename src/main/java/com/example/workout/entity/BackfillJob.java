@@ -0,0 +1,47 @@
+package com.example.workout.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파생 데이터 재구축(백필) 작업
+ * - 진행 상황은 파티션별 BackfillCheckpoint에 기록되고, RUNNING 상태로 남은 작업은 재시작 시 이어서 실행
+ */
+@Entity
+@Table(name = "backfill_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BackfillJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_name", nullable = false, length = 64)
+    private String taskName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(name = "total_users", nullable = false)
+    private Long totalUsers;
+
+    @Column(name = "requested_by", nullable = false, length = 50)
+    private String requestedBy;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+}
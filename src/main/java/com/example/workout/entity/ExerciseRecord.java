@@ -8,7 +8,8 @@ import lombok.*;
 @Entity
 @Table(name = "exercise_records", indexes = {
     @Index(name = "idx_session_id", columnList = "session_id"),
-    @Index(name = "idx_exercise_id", columnList = "exercise_id")
+    @Index(name = "idx_exercise_id", columnList = "exercise_id"),
+    @Index(name = "idx_record_session_exercise", columnList = "session_id, exercise_id")
 })
 @Getter
 @Setter
@@ -4,11 +4,19 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
+/**
+ * 운동 종목 카탈로그 (data.sql로 적재되는 참조 데이터)
+ * - 생성/삭제만 있고 수정이 없으므로 2차 캐시를 READ_ONLY로 사용
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Table(name = "exercise_types", indexes = {
     @Index(name = "idx_category", columnList = "category"),
     @Index(name = "idx_muscle_group", columnList = "muscle_group")
@@ -0,0 +1,44 @@
+package com.example.workout.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자+종목별 마지막 수행 기록 (세트 입력 시 이전 기록 미리 채우기용)
+ * - setsJson: [[중량, 횟수, RPE], ...] 형태의 압축 JSON (세트 번호 순)
+ * - 세션 저장 시 갱신, 해당 세션 삭제 시 직전 세션으로 복구
+ */
+@Entity
+@Table(name = "last_performances",
+    uniqueConstraints = @UniqueConstraint(name = "uk_last_performance", columnNames = {"user_id", "exercise_id"}),
+    indexes = @Index(name = "idx_last_performance_session", columnList = "user_id, session_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LastPerformance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    private ExerciseType exerciseType;
+
+    @Column(name = "session_id", nullable = false)
+    private Long sessionId;
+
+    @Column(nullable = false)
+    private LocalDateTime performedAt;
+
+    @Column(name = "sets_json", nullable = false, length = 4000)
+    private String setsJson;
+}
@@ -0,0 +1,55 @@
+package com.example.workout.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일별 부위 부하 롤업 (세션 저장/삭제 시 증감)
+ * - CATEGORY: ExerciseType.category 단위, MUSCLE: muscleGroup을 파싱한 근육 단위
+ * - 보조 근육은 0.5세트로 집계
+ */
+@Entity
+@Table(name = "muscle_load_daily",
+    uniqueConstraints = @UniqueConstraint(name = "uk_muscle_load_daily",
+        columnNames = {"user_id", "day", "bucket_type", "bucket_key"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MuscleLoadDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bucket_type", nullable = false, length = 16)
+    private BucketType bucketType;
+
+    // CATEGORY: 카테고리 이름, MUSCLE: 정규화된 근육 키
+    @Column(name = "bucket_key", nullable = false, length = 64)
+    private String bucketKey;
+
+    @Column(name = "bucket_name", nullable = false, length = 64)
+    private String bucketName;
+
+    @Column(nullable = false)
+    private Double sets;
+
+    @Column(nullable = false)
+    private Double volume;
+
+    public enum BucketType {
+        CATEGORY, MUSCLE
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.workout.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자+종목별 개인 기록 (세션 저장 시 증분 갱신, 세션 삭제 시 복구)
+ * - MAX_REPS_AT_WEIGHT는 중량별로 한 행 (weightKey = 중량), 나머지는 weightKey = 0
+ * - sessionId는 FK를 두지 않음: 세션 삭제 후 남은 기록에서 다시 계산
+ */
+@Entity
+@Table(name = "personal_records",
+    uniqueConstraints = @UniqueConstraint(name = "uk_personal_record",
+        columnNames = {"user_id", "exercise_id", "record_type", "weight_key"}),
+    indexes = @Index(name = "idx_personal_record_session", columnList = "user_id, session_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PersonalRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    private ExerciseType exerciseType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "record_type", nullable = false, length = 32)
+    private RecordType recordType;
+
+    @Column(name = "weight_key", nullable = false)
+    private Double weightKey;
+
+    // 기록 값 (중량 kg, 횟수, 추정 1RM kg, 세션 볼륨 kg)
+    @Column(nullable = false)
+    private Double value;
+
+    // 기록을 세운 세트 (세션 볼륨 기록은 null)
+    private Double weight;
+    private Integer reps;
+
+    @Column(name = "session_id", nullable = false)
+    private Long sessionId;
+
+    @Column(nullable = false)
+    private LocalDateTime achievedAt;
+
+    public enum RecordType {
+        MAX_WEIGHT, MAX_REPS_AT_WEIGHT, MAX_E1RM, MAX_SESSION_VOLUME
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.workout.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 세션의 세트 기록 보관본 (사용자×연도당 한 행)
+ * - payload: SessionArchiveCodec으로 인코딩한 열 단위 압축 블롭
+ * - 세션 헤더(workout_sessions)와 합계는 그대로 두고 exercise_records만 이곳으로 옮김
+ */
+@Entity
+@Table(name = "session_archives",
+    uniqueConstraints = @UniqueConstraint(name = "uk_session_archive", columnNames = {"user_id", "archive_year"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SessionArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "archive_year", nullable = false)
+    private int archiveYear;
+
+    @Column(name = "session_count", nullable = false)
+    private int sessionCount;
+
+    @Column(name = "record_count", nullable = false)
+    private int recordCount;
+
+    // MySQL MEDIUMBLOB 범위 (사용자 1년치 세트는 보통 수십 KB)
+    @Lob
+    @Column(nullable = false, length = 16_777_215)
+    private byte[] payload;
+
+    // 블롭이 바뀔 때마다 증가 (디코딩 캐시 키)
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,36 @@
+package com.example.workout.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 샤드 디렉터리 (사용자 -> 샤드 키, primary DB에만 의미 있음)
+ * - 행이 없는 사용자는 primary (샤딩 도입 이전 사용자)
+ * - migrating=true 동안은 해당 사용자 요청을 받지 않음 (샤드 이동 중)
+ */
+@Entity
+@Table(name = "shard_directory", indexes = {
+    @Index(name = "idx_shard_directory_shard", columnList = "shard_key")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShardAssignment {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "shard_key", nullable = false, length = 64)
+    private String shardKey;
+
+    @Column(nullable = false)
+    private boolean migrating;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,43 @@
+package com.example.workout.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자의 연속 운동 구간 하나 [runStart, runEnd] (활동일이 끊기지 않고 이어진 날짜 범위)
+ * - 세션 저장은 앞뒤 구간을 잇거나 늘리고, 삭제는 그 날이 속한 구간 하나만 자르거나 나눔
+ * - 최장 구간은 (user_id, length) 인덱스 조회 한 번 (삭제로 최장 구간이 깨져도 이력 스캔 없음)
+ */
+@Entity
+@Table(name = "user_streak_runs",
+    uniqueConstraints = @UniqueConstraint(name = "uk_streak_run_start", columnNames = {"user_id", "run_start"}),
+    indexes = {
+        @Index(name = "idx_streak_run_end", columnList = "user_id, run_end"),
+        @Index(name = "idx_streak_run_length", columnList = "user_id, length")
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StreakRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "run_start", nullable = false)
+    private LocalDate runStart;
+
+    @Column(name = "run_end", nullable = false)
+    private LocalDate runEnd;
+
+    @Column(nullable = false)
+    private Integer length;
+}
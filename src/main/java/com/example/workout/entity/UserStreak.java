@@ -0,0 +1,50 @@
+package com.example.workout.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 연속 운동 요약 (대시보드가 한 행으로 읽음, 원본은 StreakRun 구간들)
+ * - 날짜는 세션 date 컬럼과 같은 저장 시간대(Asia/Seoul)의 로컬 날짜
+ * - 현재 연속 기록은 마지막 구간 기준 (조회 시 어제 이전에 끊겼으면 0으로 표시)
+ */
+@Entity
+@Table(name = "user_streaks",
+    uniqueConstraints = @UniqueConstraint(name = "uk_user_streak", columnNames = "user_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStreak {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // 마지막 연속 구간 [currentStart, lastActiveDay]
+    @Column(nullable = false)
+    private LocalDate currentStart;
+
+    @Column(nullable = false)
+    private LocalDate lastActiveDay;
+
+    @Column(nullable = false)
+    private Integer currentStreak;
+
+    // 최장 연속 구간 [longestStart, longestEnd]
+    @Column(nullable = false)
+    private LocalDate longestStart;
+
+    @Column(nullable = false)
+    private LocalDate longestEnd;
+
+    @Column(nullable = false)
+    private Integer longestStreak;
+}
@@ -0,0 +1,40 @@
+package com.example.workout.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사전 계산된 주간 리포트 (월요일 배치 생성, id로 조회)
+ * - reportJson: WeeklyReportDTO를 직렬화한 JSON (조회 시 역직렬화 없이 그대로 응답)
+ */
+@Entity
+@Table(name = "weekly_reports",
+    uniqueConstraints = @UniqueConstraint(name = "uk_weekly_report", columnNames = {"user_id", "week_start"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeeklyReport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Lob
+    @Column(name = "report_json", nullable = false)
+    private String reportJson;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
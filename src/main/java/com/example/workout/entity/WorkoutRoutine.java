@@ -3,6 +3,8 @@ package com.example.workout.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -45,7 +47,9 @@ public class WorkoutRoutine {
     @Column(nullable = false)
     private Difficulty difficulty;
 
+    // 루틴-운동 매핑은 2차 캐시 (원소인 ExerciseType도 캐시되므로 DB 조회 없이 조립)
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
         name = "routine_exercises",
         joinColumns = @JoinColumn(name = "routine_id"),
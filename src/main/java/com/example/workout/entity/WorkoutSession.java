@@ -43,6 +43,25 @@ public class WorkoutSession {
 
     private String notes;
 
+    // 세션 저장 시 함께 기록하는 합계 (목록/차트에서 exercise_records 조인 없이 사용, 기존 행은 백필 전까지 null)
+    @Column(name = "total_volume")
+    private Double totalVolume;
+
+    @Column(name = "total_sets")
+    private Integer totalSets;
+
+    @Column(name = "exercise_count")
+    private Integer exerciseCount;
+
+    // 변경될 때마다 증가 (낙관적 락, 세션 JSON 조각 캐시 키)
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // 세트 기록이 session_archives 블롭으로 옮겨진 세션 (exercisesPerformed는 비어 있음, 합계 컬럼은 유지)
+    @Column(nullable = false)
+    private boolean archived;
+
     @OneToMany(mappedBy = "session", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("id ASC")
     private Set<ExerciseRecord> exercisesPerformed = new LinkedHashSet<>();
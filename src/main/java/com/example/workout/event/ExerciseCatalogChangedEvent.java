@@ -0,0 +1,8 @@
+package com.example.workout.event;
+
+/**
+ * 운동 종목이 추가/삭제되었음을 알리는 이벤트.
+ * 커밋 이후 ExerciseCatalog 스냅샷 재생성에 사용됩니다.
+ */
+public record ExerciseCatalogChangedEvent(Long exerciseId) {
+}
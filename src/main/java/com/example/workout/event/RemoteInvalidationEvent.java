@@ -0,0 +1,10 @@
+package com.example.workout.event;
+
+/**
+ * 다른 노드에서 발생한 무효화 (Spring 캐시가 아닌 메모리 상태 보유 빈용)
+ *
+ * @param region 무효화 대상 영역 (예: CacheInvalidationBus.REGION_EXERCISE_CATALOG)
+ * @param key    대상 키, null이면 영역 전체
+ */
+public record RemoteInvalidationEvent(String region, String key) {
+}
@@ -0,0 +1,35 @@
+package com.example.workout.event;
+
+/**
+ * 사용자 데이터(세션/식단/루틴/프로필) 변경 이벤트.
+ * 커밋 이후 사용자별 데이터 버전(ETag)을 올리는 데 사용됩니다.
+ */
+public record UserDataChangedEvent(String username, Area area) {
+
+    public enum Area {
+        SESSIONS, DIET, ROUTINES, PROFILE
+    }
+
+    /**
+     * 노드 간 무효화 버스 키 "{영역}:{username}" (데이터 버전과 실시간 알림이 한 메시지를 함께 사용)
+     */
+    public String busKey() {
+        return area.name() + ":" + username;
+    }
+
+    /**
+     * 버스 키 복원 (영역 접두어가 없으면 null)
+     */
+    public static UserDataChangedEvent fromBusKey(String key) {
+        int separator = key.indexOf(':');
+        if (separator < 0) {
+            return null;
+        }
+        for (Area area : Area.values()) {
+            if (area.name().equals(key.substring(0, separator))) {
+                return new UserDataChangedEvent(key.substring(separator + 1), area);
+            }
+        }
+        return null;
+    }
+}
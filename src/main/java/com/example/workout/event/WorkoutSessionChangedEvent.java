@@ -0,0 +1,20 @@
+package com.example.workout.event;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 운동 세션 생성/삭제 (파생 통계의 증분 갱신용)
+ *
+ * @param date        세션 날짜 (서버 로컬 기준, 세션 date 컬럼과 동일)
+ * @param exerciseIds 세션에 포함된 운동 종목
+ */
+public record WorkoutSessionChangedEvent(
+    Long userId,
+    String username,
+    Long sessionId,
+    LocalDate date,
+    Set<Long> exerciseIds,
+    boolean deleted
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.workout.exception;
+
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * 요청 처리 기한 초과 (트랜잭션 시작 전 또는 조회 대기열에서)
+ * - TransactionTimedOutException을 상속하여 트랜잭션 매니저가 감싸지 않고 그대로 전달
+ */
+public class DeadlineExceededException extends TransactionTimedOutException {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
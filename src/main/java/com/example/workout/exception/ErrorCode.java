@@ -11,6 +11,8 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR("C001", "서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     INVALID_INPUT_VALUE("C002", "잘못된 입력값입니다.", HttpStatus.BAD_REQUEST),
     METHOD_NOT_ALLOWED("C003", "허용되지 않은 메서드입니다.", HttpStatus.METHOD_NOT_ALLOWED),
+    SERVICE_UNAVAILABLE("C004", "요청이 많아 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    DEADLINE_EXCEEDED("C005", "요청 처리 시간이 초과되었습니다.", HttpStatus.GATEWAY_TIMEOUT),
 
     // Auth
     UNAUTHORIZED("A001", "인증이 필요합니다.", HttpStatus.UNAUTHORIZED),
@@ -1,22 +1,32 @@
 package com.example.workout.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final MeterRegistry meterRegistry;
+
     /**
      * BusinessException 처리 - 비즈니스 로직 예외
      */
@@ -93,6 +103,43 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(response);
     }
 
+    /**
+     * RejectedExecutionException 처리 - 읽기 대기열 초과 (부하 차단)
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException ex) {
+        log.warn("Request rejected: {}", ex.getMessage());
+        ErrorResponse response = ErrorResponse.of(ErrorCode.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(response);
+    }
+
+    /**
+     * 요청 기한 초과 - 트랜잭션 시작 전/대기열(DeadlineExceededException), 트랜잭션 중(TransactionTimedOutException)
+     */
+    @ExceptionHandler(TransactionTimedOutException.class)
+    public ResponseEntity<ErrorResponse> handleTransactionTimedOutException(TransactionTimedOutException ex) {
+        return deadlineExceeded(ex instanceof DeadlineExceededException ? "before_start" : "transaction", ex);
+    }
+
+    /**
+     * 요청 기한 초과 - JDBC query timeout으로 DB에서 취소된 쿼리
+     */
+    @ExceptionHandler({QueryTimeoutException.class, jakarta.persistence.QueryTimeoutException.class})
+    public ResponseEntity<ErrorResponse> handleQueryTimeoutException(RuntimeException ex) {
+        return deadlineExceeded("query", ex);
+    }
+
+    /**
+     * 클라이언트가 연결을 끊어 응답을 쓸 수 없음 (응답 본문 없음)
+     */
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleAsyncRequestNotUsableException(AsyncRequestNotUsableException ex) {
+        meterRegistry.counter("request.client.aborted").increment();
+        log.debug("Client disconnected: {}", ex.getMessage());
+    }
+
     /**
      * RuntimeException 처리 - 예상치 못한 런타임 예외
      */
@@ -112,4 +159,10 @@ public class GlobalExceptionHandler {
         ErrorResponse response = ErrorResponse.of(ErrorCode.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
+
+    private ResponseEntity<ErrorResponse> deadlineExceeded(String stage, RuntimeException ex) {
+        meterRegistry.counter("request.deadline.exceeded", "stage", stage).increment();
+        log.warn("Request deadline exceeded ({}): {}", stage, ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(ErrorResponse.of(ErrorCode.DEADLINE_EXCEEDED));
+    }
 }
@@ -0,0 +1,233 @@
+package com.example.workout.live;
+
+import com.example.workout.cache.CacheInvalidationBus;
+import com.example.workout.event.RemoteInvalidationEvent;
+import com.example.workout.event.UserDataChangedEvent;
+import com.example.workout.service.UserDataVersionService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 SSE 변경 알림 (여러 기기 간 실시간 갱신)
+ * - 연결은 비동기 서블릿(SseEmitter)으로 유지하므로 대기 중인 연결은 스레드를 점유하지 않음
+ * - 커밋된 UserDataChangedEvent를 영역(SESSIONS/DIET/ROUTINES/PROFILE) 비트로 연결마다 합쳐 두고,
+ *   연결당 하나의 가상 스레드가 coalesce 간격 후 한 번에 전송 (느린 클라이언트도 대기 상태는 int 하나)
+ * - 다른 노드의 변경은 데이터 버전 메시지(CacheInvalidationBus)로 받아서 같은 경로로 전송 (알림용 메시지를 따로 쓰지 않음)
+ * - heartbeat 주기마다 주석 줄을 보내 프록시 유휴 종료를 막고 끊긴 연결을 정리
+ */
+@Component
+public class LiveUpdateHub {
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdateHub.class);
+
+    private static final UserDataChangedEvent.Area[] AREAS = UserDataChangedEvent.Area.values();
+    private static final int HEARTBEAT = 1 << 31;
+
+    private final UserDataVersionService dataVersionService;
+    private final long timeoutMs;
+    private final long coalesceMs;
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+
+    private final Map<String, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public LiveUpdateHub(UserDataVersionService dataVersionService,
+                         MeterRegistry meterRegistry,
+                         @Value("${live.timeout-ms:1800000}") long timeoutMs,
+                         @Value("${live.coalesce-ms:200}") long coalesceMs,
+                         @Value("${live.max-connections:10000}") int maxConnections,
+                         @Value("${live.max-connections-per-user:5}") int maxConnectionsPerUser) {
+        this.dataVersionService = dataVersionService;
+        this.timeoutMs = timeoutMs;
+        this.coalesceMs = coalesceMs;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        Gauge.builder("live.connections", connectionCount, AtomicInteger::get)
+            .description("열려 있는 SSE 연결 수")
+            .register(meterRegistry);
+    }
+
+    private final class Connection {
+        private final String username;
+        private final SseEmitter emitter;
+        // 아직 보내지 않은 영역 비트 (전송 중에 들어온 변경도 여기에 합쳐짐)
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Connection(String username, SseEmitter emitter) {
+            this.username = username;
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * 연결 등록 (전체 상한 초과 시 empty, 사용자별 상한 초과 시 가장 오래된 연결을 닫음)
+     * - 연결 직후 현재 데이터 버전을 ready 이벤트로 보냄 (재연결 사이에 놓친 변경은 Conditional GET으로 따라잡음)
+     */
+    public Optional<SseEmitter> open(String username) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(username, emitter);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        List<Connection> userConnections = connections.compute(username, (key, existing) -> {
+            List<Connection> list = existing != null ? existing : new CopyOnWriteArrayList<>();
+            list.add(connection);
+            return list;
+        });
+        while (userConnections.size() > maxConnectionsPerUser) {
+            Connection oldest = userConnections.get(0);
+            remove(oldest);
+            oldest.emitter.complete();
+        }
+
+        try {
+            emitter.send(SseEmitter.event()
+                .name("ready")
+                .data(Map.of("version", dataVersionService.currentVersion(username))));
+        } catch (IOException e) {
+            remove(connection);
+            emitter.completeWithError(e);
+        }
+        return Optional.of(emitter);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        notifyLocal(event.username(), event.area());
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(RemoteInvalidationEvent event) {
+        if (!CacheInvalidationBus.REGION_USER_DATA_VERSION.equals(event.region()) || event.key() == null) {
+            return;
+        }
+        UserDataChangedEvent change = UserDataChangedEvent.fromBusKey(event.key());
+        if (change != null) {
+            notifyLocal(change.username(), change.area());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${live.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (List<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                enqueue(connection, HEARTBEAT);
+            }
+        }
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    private void notifyLocal(String username, UserDataChangedEvent.Area area) {
+        List<Connection> userConnections = connections.get(username);
+        if (userConnections == null) {
+            return;
+        }
+        for (Connection connection : userConnections) {
+            enqueue(connection, 1 << area.ordinal());
+        }
+    }
+
+    private void enqueue(Connection connection, int bits) {
+        connection.pending.getAndUpdate(current -> current | bits);
+        if (connection.sending.compareAndSet(false, true)) {
+            executor.execute(() -> drain(connection));
+        }
+    }
+
+    /**
+     * 연결당 한 번에 하나만 실행: 쌓인 비트를 모아서 전송하고, 전송 중 새로 쌓인 비트가 있으면 반복
+     */
+    private void drain(Connection connection) {
+        try {
+            while (!connection.closed.get()) {
+                if (coalesceMs > 0) {
+                    Thread.sleep(coalesceMs);
+                }
+                int bits = connection.pending.getAndSet(0);
+                if (bits == 0) {
+                    connection.sending.set(false);
+                    // sending을 내린 사이에 들어온 변경은 여기서 이어서 처리
+                    if (connection.pending.get() == 0 || !connection.sending.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                send(connection, bits);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void send(Connection connection, int bits) {
+        try {
+            List<String> areas = new ArrayList<>();
+            for (UserDataChangedEvent.Area area : AREAS) {
+                if ((bits & (1 << area.ordinal())) != 0) {
+                    areas.add(area.name());
+                }
+            }
+            if (areas.isEmpty()) {
+                connection.emitter.send(SseEmitter.event().comment("hb"));
+            } else {
+                connection.emitter.send(SseEmitter.event()
+                    .name("change")
+                    .data(Map.of("areas", areas, "version", dataVersionService.currentVersion(connection.username))));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Closing live update connection for {}: {}", connection.username, e.getMessage());
+            remove(connection);
+            connection.emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Connection connection) {
+        if (!connection.closed.compareAndSet(false, true)) {
+            return;
+        }
+        connectionCount.decrementAndGet();
+        connections.computeIfPresent(connection.username, (username, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (List<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                connection.emitter.complete();
+            }
+        }
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.workout.mapper;
+
+import com.example.workout.dto.ExerciseTypeDTO;
+import com.example.workout.entity.ExerciseType;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ExerciseTypeMapper {
+
+    ExerciseTypeDTO toDTO(ExerciseType exerciseType);
+
+    List<ExerciseTypeDTO> toDTOList(List<ExerciseType> exerciseTypes);
+}
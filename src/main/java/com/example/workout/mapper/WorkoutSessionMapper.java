@@ -15,6 +15,7 @@ public interface WorkoutSessionMapper {
     @Mapping(source = "date", target = "date", qualifiedByName = "toLocalDate")
     @Mapping(source = "routine.id", target = "routineId")
     @Mapping(source = "exercisesPerformed", target = "exercisesPerformed")
+    @Mapping(target = "newPersonalRecords", ignore = true)
     WorkoutSessionDTO toDTO(WorkoutSession session);
 
     List<WorkoutSessionDTO> toDTOList(List<WorkoutSession> sessions);
@@ -0,0 +1,21 @@
+package com.example.workout.repository;
+
+import com.example.workout.entity.BackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpoint, Long> {
+
+    List<BackfillCheckpoint> findByJobIdOrderByPartitionNo(Long jobId);
+
+    // 진행률 조회용 (처리 수, 실패 수, 남은 파티션 수)
+    @Query("SELECT COALESCE(SUM(c.processed), 0), COALESCE(SUM(c.failed), 0), " +
+           "SUM(CASE WHEN c.done = false THEN 1 ELSE 0 END) " +
+           "FROM BackfillCheckpoint c WHERE c.jobId = :jobId")
+    List<Object[]> summarize(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,21 @@
+package com.example.workout.repository;
+
+import com.example.workout.entity.BackfillJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BackfillJobRepository extends JpaRepository<BackfillJob, Long> {
+
+    List<BackfillJob> findByStatus(BackfillJob.Status status);
+
+    Optional<BackfillJob> findFirstByTaskNameAndStatus(String taskName, BackfillJob.Status status);
+
+    boolean existsByTaskNameAndStatusIn(String taskName, Collection<BackfillJob.Status> statuses);
+
+    List<BackfillJob> findTop20ByOrderByIdDesc();
+}
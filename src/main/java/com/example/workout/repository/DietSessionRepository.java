@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,4 +32,25 @@ public interface DietSessionRepository extends JpaRepository<DietSession, Long>
 
     @EntityGraph(attributePaths = {"foodEntries"})
     List<DietSession> findByIdIn(List<Long> ids);
+
+    // 주간 리포트 배치용: 사용자 묶음의 날짜별 섭취 칼로리 / 단백질
+    @Query("SELECT s.user.id, s.date, COALESCE(SUM(f.calories), 0), COALESCE(SUM(f.protein), 0) " +
+           "FROM DietSession s JOIN s.foodEntries f " +
+           "WHERE s.user.id IN :userIds AND s.date >= :from AND s.date < :to " +
+           "GROUP BY s.user.id, s.date")
+    List<Object[]> findDailyIntake(@Param("userIds") Collection<Long> userIds,
+                                   @Param("from") LocalDate from,
+                                   @Param("to") LocalDate to);
+
+    // fields= 요청용 스칼라 조회 (식품 컬렉션을 로딩하지 않음)
+    @Query("SELECT s.id, s.date, s.notes FROM DietSession s WHERE s.id IN :ids")
+    List<Object[]> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT s.id, s.date, s.notes FROM DietSession s WHERE s.id = :id AND s.user.id = :userId")
+    List<Object[]> findSummaryByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // fields=entryCount,calories 요청 시에만 (세션별 식품 수, 칼로리 합계)
+    @Query("SELECT f.dietSession.id, COUNT(f), COALESCE(SUM(f.calories), 0) FROM FoodEntry f " +
+           "WHERE f.dietSession.id IN :ids GROUP BY f.dietSession.id")
+    List<Object[]> findEntryStatsByIdIn(@Param("ids") Collection<Long> ids);
 }
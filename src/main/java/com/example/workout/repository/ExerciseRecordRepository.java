@@ -1,9 +1,102 @@
 package com.example.workout.repository;
 
 import com.example.workout.entity.ExerciseRecord;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ExerciseRecordRepository extends JpaRepository<ExerciseRecord, Long> {
+
+    // 종목별 일별 집계 (날짜, 최고 중량, Epley 1RM, Brzycki 1RM, 볼륨, 세트 수)
+    // - 1RM 추정은 1~12회 세트만 사용 (고반복 세트는 오차가 큼), 1회는 중량 그대로
+    // - idx_user_date로 세션 범위를 찾고 idx_record_session_exercise로 기록을 조인
+    @Query("SELECT CAST(s.date AS LocalDate), MAX(r.weight), " +
+           "MAX(CASE WHEN r.reps = 1 THEN r.weight WHEN r.reps <= 12 THEN r.weight * (1 + r.reps / 30.0) END), " +
+           "MAX(CASE WHEN r.reps = 1 THEN r.weight WHEN r.reps <= 12 THEN r.weight * 36.0 / (37 - r.reps) END), " +
+           "SUM(r.weight * r.reps), COUNT(r) " +
+           "FROM ExerciseRecord r JOIN r.session s " +
+           "WHERE s.user.id = :userId AND r.exerciseType.id = :exerciseId AND r.weight > 0 " +
+           "AND s.date >= :start AND s.date < :end " +
+           "GROUP BY CAST(s.date AS LocalDate) " +
+           "ORDER BY CAST(s.date AS LocalDate)")
+    List<Object[]> findDailyProgress(@Param("userId") Long userId,
+                                     @Param("exerciseId") Long exerciseId,
+                                     @Param("start") LocalDateTime start,
+                                     @Param("end") LocalDateTime end);
+
+    // 개인 기록 복구용 (세션 삭제 시, 삭제된 세션은 excludedSessionId로 제외) - Pageable로 상위 1건만
+    @Query("SELECT r.weight, r.reps, s.id, s.date FROM ExerciseRecord r JOIN r.session s " +
+           "WHERE s.user.id = :userId AND r.exerciseType.id = :exerciseId AND s.id <> :excludedSessionId " +
+           "AND r.weight > 0 " +
+           "ORDER BY r.weight DESC, r.reps DESC, s.date ASC")
+    List<Object[]> findHeaviestSets(@Param("userId") Long userId,
+                                    @Param("exerciseId") Long exerciseId,
+                                    @Param("excludedSessionId") Long excludedSessionId,
+                                    Pageable pageable);
+
+    @Query("SELECT r.weight, r.reps, s.id, s.date FROM ExerciseRecord r JOIN r.session s " +
+           "WHERE s.user.id = :userId AND r.exerciseType.id = :exerciseId AND s.id <> :excludedSessionId " +
+           "AND r.weight > 0 AND r.reps <= 12 " +
+           "ORDER BY CASE WHEN r.reps = 1 THEN r.weight ELSE r.weight * (1 + r.reps / 30.0) END DESC, s.date ASC")
+    List<Object[]> findBestEstimatedOneRepMaxSets(@Param("userId") Long userId,
+                                                  @Param("exerciseId") Long exerciseId,
+                                                  @Param("excludedSessionId") Long excludedSessionId,
+                                                  Pageable pageable);
+
+    @Query("SELECT r.weight, r.reps, s.id, s.date FROM ExerciseRecord r JOIN r.session s " +
+           "WHERE s.user.id = :userId AND r.exerciseType.id = :exerciseId AND s.id <> :excludedSessionId " +
+           "AND r.weight = :weight " +
+           "ORDER BY r.reps DESC, s.date ASC")
+    List<Object[]> findMostRepsAtWeight(@Param("userId") Long userId,
+                                        @Param("exerciseId") Long exerciseId,
+                                        @Param("weight") Double weight,
+                                        @Param("excludedSessionId") Long excludedSessionId,
+                                        Pageable pageable);
+
+    @Query("SELECT SUM(r.weight * r.reps), s.id, s.date FROM ExerciseRecord r JOIN r.session s " +
+           "WHERE s.user.id = :userId AND r.exerciseType.id = :exerciseId AND s.id <> :excludedSessionId " +
+           "AND r.weight > 0 " +
+           "GROUP BY s.id, s.date " +
+           "ORDER BY SUM(r.weight * r.reps) DESC, s.date ASC")
+    List<Object[]> findBestSessionVolumes(@Param("userId") Long userId,
+                                          @Param("exerciseId") Long exerciseId,
+                                          @Param("excludedSessionId") Long excludedSessionId,
+                                          Pageable pageable);
+
+    // 마지막 수행 기록 복구용: 삭제된 세션을 제외한 가장 최근 세션
+    @Query("SELECT s.id FROM ExerciseRecord r JOIN r.session s " +
+           "WHERE s.user.id = :userId AND r.exerciseType.id = :exerciseId AND s.id <> :excludedSessionId " +
+           "ORDER BY s.date DESC, s.id DESC")
+    List<Long> findLatestSessionIds(@Param("userId") Long userId,
+                                    @Param("exerciseId") Long exerciseId,
+                                    @Param("excludedSessionId") Long excludedSessionId,
+                                    Pageable pageable);
+
+    // 보관용 스칼라 조회 (id, sessionId, date, exerciseId, setNumber, reps, weight, duration, rpe)
+    @Query("SELECT r.id, s.id, s.date, r.exerciseType.id, r.setNumber, r.reps, r.weight, r.duration, r.rpe " +
+           "FROM ExerciseRecord r JOIN r.session s WHERE s.id IN :sessionIds")
+    List<Object[]> findArchiveRows(@Param("sessionIds") Collection<Long> sessionIds);
+
+    @Modifying
+    @Query("DELETE FROM ExerciseRecord r WHERE r.session.id IN :sessionIds")
+    int deleteBySessionIdIn(@Param("sessionIds") Collection<Long> sessionIds);
+
+    // 분석 스냅샷 적재용 스칼라 조회 (sessionId, date, exerciseId, weight, reps, rpe) - 세션 id 순
+    @Query("SELECT s.id, s.date, r.exerciseType.id, r.weight, r.reps, r.rpe " +
+           "FROM ExerciseRecord r JOIN r.session s WHERE s.user.id = :userId ORDER BY s.id")
+    List<Object[]> findAnalyticsRows(@Param("userId") Long userId);
+
+    @Query("SELECT s.id, s.date, r.exerciseType.id, r.weight, r.reps, r.rpe " +
+           "FROM ExerciseRecord r JOIN r.session s WHERE s.id = :sessionId")
+    List<Object[]> findAnalyticsRowsBySessionId(@Param("sessionId") Long sessionId);
+
+    List<ExerciseRecord> findBySession_IdAndExerciseType_IdOrderBySetNumberAsc(Long sessionId, Long exerciseId);
 }
@@ -0,0 +1,30 @@
+package com.example.workout.repository;
+
+import com.example.workout.entity.LastPerformance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface LastPerformanceRepository extends JpaRepository<LastPerformance, Long> {
+
+    // 조회 API용: 사용자 조회까지 한 쿼리 (users.username 유니크 인덱스 + uk_last_performance)
+    @Query("SELECT lp.exerciseType.id, lp.sessionId, lp.performedAt, lp.setsJson FROM LastPerformance lp " +
+           "WHERE lp.user.username = :username AND lp.exerciseType.id IN :exerciseIds")
+    List<Object[]> findSnapshots(@Param("username") String username,
+                                 @Param("exerciseIds") Collection<Long> exerciseIds);
+
+    List<LastPerformance> findByUser_IdAndExerciseType_IdIn(Long userId, Collection<Long> exerciseIds);
+
+    List<LastPerformance> findByUser_IdAndSessionId(Long userId, Long sessionId);
+
+    // 백필 재구축용 전체 삭제
+    @Modifying
+    @Query("DELETE FROM LastPerformance l WHERE l.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,35 @@
+package com.example.workout.repository;
+
+import com.example.workout.entity.MuscleLoadDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MuscleLoadDailyRepository extends JpaRepository<MuscleLoadDaily, Long> {
+
+    List<MuscleLoadDaily> findByUser_IdAndDay(Long userId, LocalDate day);
+
+    // 최근 28일 롤업 (uk_muscle_load_daily 선두 컬럼 user_id, day 범위 스캔)
+    List<MuscleLoadDaily> findByUser_IdAndDayGreaterThanEqual(Long userId, LocalDate from);
+
+    // 주간 리포트 배치용: 사용자 묶음의 카테고리별 세트 합계
+    @Query("SELECT m.user.id, m.bucketName, SUM(m.sets) FROM MuscleLoadDaily m " +
+           "WHERE m.user.id IN :userIds AND m.bucketType = com.example.workout.entity.MuscleLoadDaily.BucketType.CATEGORY " +
+           "AND m.day >= :from AND m.day < :to " +
+           "GROUP BY m.user.id, m.bucketName")
+    List<Object[]> sumCategorySets(@Param("userIds") Collection<Long> userIds,
+                                   @Param("from") LocalDate from,
+                                   @Param("to") LocalDate to);
+
+    // 백필 재구축용 전체 삭제
+    @Modifying
+    @Query("DELETE FROM MuscleLoadDaily m WHERE m.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,44 @@
+package com.example.workout.repository;
+
+import com.example.workout.entity.PersonalRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PersonalRecordRepository extends JpaRepository<PersonalRecord, Long> {
+
+    List<PersonalRecord> findByUser_IdAndExerciseType_IdIn(Long userId, Collection<Long> exerciseIds);
+
+    List<PersonalRecord> findByUser_IdAndSessionId(Long userId, Long sessionId);
+
+    // 조회용 (중량별 횟수 기록 제외, 종목명까지 한 번에)
+    @Query("SELECT p FROM PersonalRecord p JOIN FETCH p.exerciseType " +
+           "WHERE p.user.id = :userId AND p.recordType <> com.example.workout.entity.PersonalRecord.RecordType.MAX_REPS_AT_WEIGHT " +
+           "ORDER BY p.exerciseType.id, p.recordType")
+    List<PersonalRecord> findSummaryByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT p FROM PersonalRecord p JOIN FETCH p.exerciseType " +
+           "WHERE p.user.id = :userId AND p.exerciseType.id = :exerciseId " +
+           "ORDER BY p.recordType, p.weightKey")
+    List<PersonalRecord> findByUserIdAndExerciseId(@Param("userId") Long userId, @Param("exerciseId") Long exerciseId);
+
+    // 주간 리포트 배치용: 기간 안에 세운 대표 기록 (중량별 횟수 기록 제외)
+    @Query("SELECT p.user.id, p.exerciseType.name, p.recordType, p.value FROM PersonalRecord p " +
+           "WHERE p.user.id IN :userIds AND p.achievedAt >= :start AND p.achievedAt < :end " +
+           "AND p.recordType <> com.example.workout.entity.PersonalRecord.RecordType.MAX_REPS_AT_WEIGHT")
+    List<Object[]> findAchievedBetween(@Param("userIds") Collection<Long> userIds,
+                                       @Param("start") LocalDateTime start,
+                                       @Param("end") LocalDateTime end);
+
+    // 백필 재구축용 전체 삭제
+    @Modifying
+    @Query("DELETE FROM PersonalRecord p WHERE p.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
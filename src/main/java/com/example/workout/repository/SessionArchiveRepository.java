@@ -0,0 +1,23 @@
+package com.example.workout.repository;
+
+import com.example.workout.entity.SessionArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SessionArchiveRepository extends JpaRepository<SessionArchive, Long> {
+
+    // 디코딩 캐시 확인용 (id, archiveYear, version) - 블롭은 캐시 미스일 때만 findPayloadById로
+    @Query("SELECT a.id, a.archiveYear, a.version FROM SessionArchive a WHERE a.user.id = :userId ORDER BY a.archiveYear")
+    List<Object[]> findVersionsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT a.payload FROM SessionArchive a WHERE a.id = :id")
+    Optional<byte[]> findPayloadById(@Param("id") Long id);
+
+    Optional<SessionArchive> findByUser_IdAndArchiveYear(Long userId, int archiveYear);
+}
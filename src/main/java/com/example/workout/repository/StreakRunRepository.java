@@ -0,0 +1,35 @@
+package com.example.workout.repository;
+
+import com.example.workout.entity.StreakRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface StreakRunRepository extends JpaRepository<StreakRun, Long> {
+
+    boolean existsByUser_Id(Long userId);
+
+    Optional<StreakRun> findByUser_IdAndRunStart(Long userId, LocalDate runStart);
+
+    Optional<StreakRun> findByUser_IdAndRunEnd(Long userId, LocalDate runEnd);
+
+    // day를 포함할 수 있는 구간 (시작일이 day 이하인 마지막 구간, 끝은 호출자가 확인)
+    Optional<StreakRun> findFirstByUser_IdAndRunStartLessThanEqualOrderByRunStartDesc(Long userId, LocalDate day);
+
+    // 마지막 구간 (현재 연속 기록)
+    Optional<StreakRun> findFirstByUser_IdOrderByRunEndDesc(Long userId);
+
+    // 최장 구간 (길이가 같으면 최근 구간)
+    Optional<StreakRun> findFirstByUser_IdOrderByLengthDescRunEndDesc(Long userId);
+
+    // 백필 재구축용 전체 삭제
+    @Modifying
+    @Query("DELETE FROM StreakRun r WHERE r.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -1,15 +1,41 @@
 package com.example.workout.repository;
 
 import com.example.workout.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+
+    // 세션 생성/삭제를 사용자 단위로 직렬화 (파생 테이블의 읽고-고쳐-쓰기와 첫 INSERT 경합 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.username = :username")
+    Optional<User> findByUsernameForUpdate(@Param("username") String username);
+
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    // 배치 작업용 id 키셋 페이지
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 백필 파티션용 [afterId 초과, endId 이하] 키셋 페이지
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId AND u.id <= :endId ORDER BY u.id")
+    List<Long> findIdsInRange(@Param("afterId") Long afterId, @Param("endId") Long endId, Pageable pageable);
+
+    @Query("SELECT MIN(u.id), MAX(u.id), COUNT(u) FROM User u")
+    List<Object[]> findIdStats();
+
+    @Query("SELECT COUNT(u) FROM User u WHERE u.id > :afterId AND u.id <= :endId")
+    long countInRange(@Param("afterId") Long afterId, @Param("endId") Long endId);
 }
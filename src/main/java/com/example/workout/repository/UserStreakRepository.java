@@ -0,0 +1,13 @@
+package com.example.workout.repository;
+
+import com.example.workout.entity.UserStreak;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserStreakRepository extends JpaRepository<UserStreak, Long> {
+
+    Optional<UserStreak> findByUser_Id(Long userId);
+}
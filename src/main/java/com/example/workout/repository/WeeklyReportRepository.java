@@ -0,0 +1,26 @@
+package com.example.workout.repository;
+
+import com.example.workout.entity.WeeklyReport;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WeeklyReportRepository extends JpaRepository<WeeklyReport, Long> {
+
+    // 목록은 JSON 본문 없이 id와 주 시작일만
+    @Query("SELECT r.id, r.weekStart FROM WeeklyReport r WHERE r.user.username = :username ORDER BY r.weekStart DESC")
+    List<Object[]> findSummariesByUsername(@Param("username") String username, Pageable pageable);
+
+    @Query("SELECT r.reportJson FROM WeeklyReport r WHERE r.id = :id AND r.user.username = :username")
+    Optional<String> findJsonByIdAndUsername(@Param("id") Long id, @Param("username") String username);
+
+    List<WeeklyReport> findByWeekStartAndUser_IdIn(LocalDate weekStart, Collection<Long> userIds);
+}
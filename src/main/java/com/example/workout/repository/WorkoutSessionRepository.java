@@ -1,15 +1,19 @@
 package com.example.workout.repository;
 
 import com.example.workout.entity.WorkoutSession;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -26,8 +30,37 @@ public interface WorkoutSessionRepository extends JpaRepository<WorkoutSession,
            "ORDER BY s.date DESC")
     List<WorkoutSession> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    // 볼륨 집계
-    @Query("SELECT COALESCE(SUM(r.weight * r.reps), 0) FROM WorkoutSession s JOIN s.exercisesPerformed r WHERE s.user.id = :userId")
+    // fields= 요청용 스칼라 조회 (기록 컬렉션을 로딩하지 않음)
+    // (id, date, duration, notes, routineId, totalVolume, totalSets, exerciseCount)
+    @Query("SELECT s.id, s.date, s.duration, s.notes, s.routine.id, s.totalVolume, s.totalSets, s.exerciseCount " +
+           "FROM WorkoutSession s WHERE s.user.id = :userId ORDER BY s.date DESC")
+    List<Object[]> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT s.id, s.date, s.duration, s.notes, s.routine.id, s.totalVolume, s.totalSets, s.exerciseCount " +
+           "FROM WorkoutSession s WHERE s.user.id = :userId AND s.date BETWEEN :start AND :end ORDER BY s.date DESC")
+    List<Object[]> findSummariesByUserIdAndDateBetween(@Param("userId") Long userId,
+                                                       @Param("start") LocalDateTime start,
+                                                       @Param("end") LocalDateTime end);
+
+    @Query("SELECT s.id, s.date, s.duration, s.notes, s.routine.id, s.totalVolume, s.totalSets, s.exerciseCount " +
+           "FROM WorkoutSession s WHERE s.id = :id AND s.user.username = :username")
+    List<Object[]> findSummaryByIdAndUsername(@Param("id") Long id, @Param("username") String username);
+
+    // 세션 JSON 조각 캐시용 (id, version): 캐시 미스만 findWithRecordsByIdIn으로 기록까지 조회
+    @Query("SELECT s.id, s.version FROM WorkoutSession s WHERE s.user.id = :userId ORDER BY s.date DESC")
+    List<Object[]> findVersionsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT s.id, s.version FROM WorkoutSession s " +
+           "WHERE s.user.id = :userId AND s.date BETWEEN :start AND :end ORDER BY s.date DESC")
+    List<Object[]> findVersionsByUserIdAndDateBetween(@Param("userId") Long userId,
+                                                      @Param("start") LocalDateTime start,
+                                                      @Param("end") LocalDateTime end);
+
+    @Query("SELECT s.version FROM WorkoutSession s WHERE s.id = :id AND s.user.username = :username")
+    java.util.Optional<Long> findVersionByIdAndUsername(@Param("id") Long id, @Param("username") String username);
+
+    // 볼륨 집계 (세션 합계 컬럼, 기록 조인 없음)
+    @Query("SELECT COALESCE(SUM(s.totalVolume), 0) FROM WorkoutSession s WHERE s.user.id = :userId")
     Double sumTotalVolumeByUserId(@Param("userId") Long userId);
 
     @Query("SELECT COUNT(s) FROM WorkoutSession s WHERE s.user.id = :userId")
@@ -43,15 +76,86 @@ public interface WorkoutSessionRepository extends JpaRepository<WorkoutSession,
            "GROUP BY CAST(s.date AS LocalDate)")
     List<Object[]> countSessionsByDate(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate);
 
-    // 볼륨 차트용 최근 세션 데이터 (Native Query로 LIMIT 직접 적용)
-    // Note: JPQL + collection JOIN + Pageable은 Hibernate 6에서 에러 발생
-    @Query(value = "SELECT s.date, COALESCE(SUM(r.weight * r.reps), 0) " +
-           "FROM workout_sessions s LEFT JOIN exercise_records r ON s.id = r.session_id " +
-           "WHERE s.user_id = :userId " +
-           "GROUP BY s.id, s.date " +
-           "ORDER BY s.date DESC " +
-           "LIMIT 10", nativeQuery = true)
-    List<Object[]> findRecentSessionVolumes(@Param("userId") Long userId);
+    // 볼륨 차트용 최근 세션 데이터 (idx_user_date_desc 범위 스캔, 조인/집계 없음, 개수는 Pageable -> LIMIT)
+    @Query("SELECT s.date, COALESCE(s.totalVolume, 0) FROM WorkoutSession s " +
+           "WHERE s.user.id = :userId " +
+           "ORDER BY s.date DESC")
+    List<Object[]> findRecentSessionVolumes(@Param("userId") Long userId, Pageable pageable);
+
+    // 장기 볼륨 차트용 일별 볼륨 (날짜 오름차순)
+    @Query("SELECT CAST(s.date AS LocalDate), COALESCE(SUM(s.totalVolume), 0) " +
+           "FROM WorkoutSession s " +
+           "WHERE s.user.id = :userId AND s.date >= :start AND s.date < :end " +
+           "GROUP BY CAST(s.date AS LocalDate) " +
+           "ORDER BY CAST(s.date AS LocalDate)")
+    List<Object[]> findDailyVolumes(@Param("userId") Long userId,
+                                    @Param("start") LocalDateTime start,
+                                    @Param("end") LocalDateTime end);
+
+    // 주간 집계용 세션별 합계 (날짜, 운동 시간, 볼륨) - 주 단위 접기는 서비스에서 사용자 시간대로
+    @Query("SELECT s.date, s.duration, COALESCE(s.totalVolume, 0) " +
+           "FROM WorkoutSession s " +
+           "WHERE s.user.id = :userId AND s.date >= :start AND s.date < :end")
+    List<Object[]> findSessionTotals(@Param("userId") Long userId,
+                                     @Param("start") LocalDateTime start,
+                                     @Param("end") LocalDateTime end);
+
+    // 연속 운동 계산용 활동일 (from 이후, 오래된 날짜부터, 개수는 Pageable)
+    @Query("SELECT CAST(s.date AS LocalDate) FROM WorkoutSession s " +
+           "WHERE s.user.id = :userId AND s.date >= :from " +
+           "GROUP BY CAST(s.date AS LocalDate) ORDER BY CAST(s.date AS LocalDate) ASC")
+    List<Object> findActiveDaysFrom(@Param("userId") Long userId,
+                                    @Param("from") LocalDateTime from,
+                                    Pageable pageable);
+
+    boolean existsByUser_IdAndDateGreaterThanEqualAndDateLessThan(Long userId, LocalDateTime start, LocalDateTime end);
+
+    // 주간 리포트 배치용: 사용자 묶음의 날짜별 세션 수 / 운동 시간
+    @Query("SELECT s.user.id, CAST(s.date AS LocalDate), COUNT(s), COALESCE(SUM(s.duration), 0) " +
+           "FROM WorkoutSession s " +
+           "WHERE s.user.id IN :userIds AND s.date >= :start AND s.date < :end " +
+           "GROUP BY s.user.id, CAST(s.date AS LocalDate)")
+    List<Object[]> findDailySessionStats(@Param("userIds") Collection<Long> userIds,
+                                         @Param("start") LocalDateTime start,
+                                         @Param("end") LocalDateTime end);
+
+    // 주간 리포트 배치용: 사용자 묶음의 날짜별 볼륨 / 세트 수
+    @Query("SELECT s.user.id, CAST(s.date AS LocalDate), COALESCE(SUM(s.totalVolume), 0), COALESCE(SUM(s.totalSets), 0) " +
+           "FROM WorkoutSession s " +
+           "WHERE s.user.id IN :userIds AND s.date >= :start AND s.date < :end " +
+           "GROUP BY s.user.id, CAST(s.date AS LocalDate)")
+    List<Object[]> findDailyVolumeStats(@Param("userIds") Collection<Long> userIds,
+                                        @Param("start") LocalDateTime start,
+                                        @Param("end") LocalDateTime end);
+
+    // 백필용: 사용자의 세션 id를 날짜순으로 (기록은 findWithRecordsByIdIn으로 따로 fetch)
+    @Query("SELECT s.id FROM WorkoutSession s WHERE s.user.id = :userId ORDER BY s.date, s.id")
+    List<Long> findIdsByUserIdOrderByDate(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT DISTINCT s FROM WorkoutSession s " +
+           "LEFT JOIN FETCH s.exercisesPerformed r LEFT JOIN FETCH r.exerciseType " +
+           "WHERE s.id IN :ids ORDER BY s.date, s.id")
+    List<WorkoutSession> findWithRecordsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 보관 대상: cutoff 이전의 아직 보관되지 않은 세션 (날짜순)
+    // 보관 트랜잭션이 끝날 때까지 행 잠금: 동시 삭제/수정은 기다렸다가 올라간 version으로 충돌 처리됨
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM WorkoutSession s " +
+           "WHERE s.user.id = :userId AND s.archived = false AND s.date < :cutoff ORDER BY s.date, s.id")
+    List<WorkoutSession> findArchivableForUpdate(@Param("userId") Long userId, @Param("cutoff") LocalDateTime cutoff);
+
+    // 합계 컬럼이 비어 있는 보관 세션 (합계 백필 전에 보관됨, 합계는 보관 블롭에서 계산)
+    @Query("SELECT s FROM WorkoutSession s WHERE s.user.id = :userId AND s.archived = true AND s.totalVolume IS NULL")
+    List<WorkoutSession> findArchivedWithoutTotals(@Param("userId") Long userId);
+
+    // 백필용: 사용자 세션의 합계 컬럼을 기록에서 다시 계산
+    @Modifying
+    @Query("UPDATE WorkoutSession s SET s.version = s.version + 1, " +
+           "s.totalVolume = (SELECT COALESCE(SUM(r.weight * r.reps), 0) FROM ExerciseRecord r WHERE r.session = s), " +
+           "s.totalSets = (SELECT COUNT(r) FROM ExerciseRecord r WHERE r.session = s), " +
+           "s.exerciseCount = (SELECT COUNT(DISTINCT r.exerciseType.id) FROM ExerciseRecord r WHERE r.session = s) " +
+           "WHERE s.user.id = :userId AND s.archived = false")
+    int refreshTotalsByUserId(@Param("userId") Long userId);
 
     @EntityGraph(attributePaths = {"exercisesPerformed", "exercisesPerformed.exerciseType"})
     java.util.Optional<WorkoutSession> findByIdAndUser_Username(Long id, String username);
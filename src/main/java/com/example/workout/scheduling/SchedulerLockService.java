@@ -0,0 +1,98 @@
+package com.example.workout.scheduling;
+
+import com.example.workout.entity.SchedulerLock;
+import com.example.workout.repository.SchedulerLockRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DB 행 기반 스케줄 작업 잠금 (여러 노드 중 하나만 실행)
+ * - 획득/해제는 호출자 트랜잭션과 분리된 짧은 트랜잭션으로 즉시 커밋
+ * - atMost가 지나면 해제하지 못한 잠금도 다른 노드가 가져갈 수 있음
+ */
+@Component
+public class SchedulerLockService {
+    private static final Logger log = LoggerFactory.getLogger(SchedulerLockService.class);
+
+    private final SchedulerLockRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner;
+
+    public SchedulerLockService(SchedulerLockRepository repository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${cache.invalidation.node-id:}") String nodeId) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+    }
+
+    public boolean tryLock(String name, Duration atMost) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(status ->
+            repository.acquire(name, owner, now, now.plus(atMost)));
+        if (updated != null && updated == 1) {
+            return true;
+        }
+        try {
+            // 처음 실행되는 작업: 행 생성으로 획득 (동시에 만든 노드는 PK 충돌로 실패)
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!repository.existsById(name)) {
+                    repository.saveAndFlush(SchedulerLock.builder()
+                        .name(name)
+                        .lockedAt(now)
+                        .lockedUntil(now.plus(atMost))
+                        .lockedBy(owner)
+                        .build());
+                    return;
+                }
+                throw new LockHeldException();
+            });
+            return true;
+        } catch (LockHeldException | DataIntegrityViolationException e) {
+            log.debug("스케줄 잠금 획득 실패 (다른 노드 실행 중): {}", name);
+            return false;
+        }
+    }
+
+    /**
+     * 오래 걸리는 작업이 진행 중임을 알림 (자기 노드가 가진 잠금만 연장)
+     */
+    public boolean extend(String name, Duration atMost) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(status ->
+            repository.extend(name, owner, now.plus(atMost)));
+        return updated != null && updated == 1;
+    }
+
+    public void unlock(String name) {
+        unlock(name, LocalDateTime.now());
+    }
+
+    /**
+     * 잠금을 풀되 keepUntil 전에는 다른 노드가 가져가지 못하게 둠 (lock-at-least)
+     * - 같은 cron으로 조금 늦게 뜬 노드가 방금 끝난 작업을 다시 실행하지 않도록
+     */
+    public void unlock(String name, LocalDateTime keepUntil) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = keepUntil.isAfter(now) ? keepUntil : now;
+        transactionTemplate.executeWithoutResult(status ->
+            repository.release(name, owner, until));
+    }
+
+    private static final class LockHeldException extends RuntimeException {
+        private LockHeldException() {
+            super(null, null, false, false);
+        }
+    }
+}
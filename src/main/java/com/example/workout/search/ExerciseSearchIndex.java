@@ -0,0 +1,231 @@
+package com.example.workout.search;
+
+import com.example.workout.dto.ExerciseTypeDTO;
+import com.example.workout.entity.ExerciseType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 운동 종목 인메모리 검색 인덱스 (불변)
+ * - 이름/근육/설명의 1-gram, 2-gram 역색인으로 후보를 좁힌 뒤 실제 일치 여부와 점수를 계산
+ * - 이름의 초성 역색인으로 'ㅂㅊㅍㄹㅅ', '벤ㅊ' 같은 초성(혼합) 검색 지원
+ * - muscleGroup은 근육 단위로 토큰화하여 '삼각근', '흉골부' 같은 근육/부위 검색에 가중치 부여
+ */
+public final class ExerciseSearchIndex {
+    private static final int SCORE_NAME_EXACT = 1000;
+    private static final int SCORE_NAME_PREFIX = 800;
+    private static final int SCORE_NAME_CONTAINS = 600;
+    private static final int SCORE_CHOSEONG_PREFIX = 500;
+    private static final int SCORE_CHOSEONG_CONTAINS = 400;
+    private static final int SCORE_MUSCLE_EXACT = 350;
+    private static final int SCORE_MUSCLE_PREFIX = 300;
+    private static final int SCORE_MUSCLE_CONTAINS = 250;
+    private static final int SCORE_SECONDARY_PENALTY = 100;
+    private static final int SCORE_QUALIFIER_CONTAINS = 200;
+    private static final int SCORE_DESCRIPTION_CONTAINS = 100;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final ExerciseTypeDTO[] docs;
+    private final String[] names;
+    private final String[] nameChoseong;
+    private final String[] descriptions;
+    private final MuscleGroups.Muscle[][] muscles;
+    // muscles와 같은 순서의 정규화된 괄호 부위 (예: "쇄골부상부"), 없으면 빈 문자열
+    private final String[][] qualifiers;
+
+    // 정규화 텍스트(이름+근육+설명)의 n-gram -> 문서 번호(오름차순)
+    private final Map<String, int[]> textGrams;
+    // 이름 초성의 n-gram -> 문서 번호(오름차순)
+    private final Map<String, int[]> choseongGrams;
+
+    private ExerciseSearchIndex(List<ExerciseTypeDTO> exercises) {
+        int n = exercises.size();
+        this.docs = exercises.toArray(new ExerciseTypeDTO[0]);
+        this.names = new String[n];
+        this.nameChoseong = new String[n];
+        this.descriptions = new String[n];
+        this.muscles = new MuscleGroups.Muscle[n][];
+        this.qualifiers = new String[n][];
+
+        Map<String, TreeSet<Integer>> text = new HashMap<>();
+        Map<String, TreeSet<Integer>> choseong = new HashMap<>();
+        for (int doc = 0; doc < n; doc++) {
+            ExerciseTypeDTO exercise = docs[doc];
+            names[doc] = Hangul.normalize(exercise.getName());
+            nameChoseong[doc] = Hangul.toChoseong(names[doc]);
+            descriptions[doc] = Hangul.normalize(exercise.getDescription());
+            muscles[doc] = MuscleGroups.parse(exercise.getMuscleGroup()).toArray(new MuscleGroups.Muscle[0]);
+
+            addGrams(text, names[doc], doc);
+            addGrams(text, descriptions[doc], doc);
+            qualifiers[doc] = new String[muscles[doc].length];
+            for (int m = 0; m < muscles[doc].length; m++) {
+                MuscleGroups.Muscle muscle = muscles[doc][m];
+                qualifiers[doc][m] = Hangul.normalize(muscle.qualifier());
+                addGrams(text, muscle.key(), doc);
+                addGrams(text, qualifiers[doc][m], doc);
+            }
+            addGrams(choseong, nameChoseong[doc], doc);
+        }
+        this.textGrams = freeze(text);
+        this.choseongGrams = freeze(choseong);
+    }
+
+    public static ExerciseSearchIndex build(List<ExerciseTypeDTO> exercises) {
+        return new ExerciseSearchIndex(exercises);
+    }
+
+    /**
+     * @param query    검색어 (한글/초성/영문, 공백 무시)
+     * @param category null이면 전체 카테고리
+     * @param limit    최대 결과 수
+     * @return 점수 내림차순 (동점이면 이름이 짧은 순, id 순)
+     */
+    public List<ExerciseTypeDTO> search(String query, ExerciseType.ExerciseCategory category, int limit) {
+        String q = Hangul.normalize(query);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int[] candidates = candidates(q);
+        long[] ranked = new long[candidates.length];
+        int hits = 0;
+        for (int doc : candidates) {
+            if (category != null && docs[doc].getCategory() != category) {
+                continue;
+            }
+            int score = score(doc, q);
+            if (score > 0) {
+                // 상위 비트: 점수(내림차순), 중간: 이름 길이, 하위: 문서 번호 -> long 정렬 한 번으로 순위 결정
+                ranked[hits++] = ((long) (Integer.MAX_VALUE - score) << 32)
+                    | ((long) Math.min(names[doc].length(), 0xFFFF) << 16)
+                    | doc;
+            }
+        }
+        Arrays.sort(ranked, 0, hits);
+
+        int size = Math.min(hits, limit);
+        List<ExerciseTypeDTO> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(docs[(int) (ranked[i] & 0xFFFF)]);
+        }
+        return results;
+    }
+
+    public int size() {
+        return docs.length;
+    }
+
+    private int[] candidates(String q) {
+        if (Hangul.isChoseongOnly(q)) {
+            return lookup(choseongGrams, q);
+        }
+        if (Hangul.containsChoseong(q)) {
+            // '벤ㅊ' 같은 혼합 쿼리는 초성으로 변환해 후보를 구하고 score에서 정확히 검증
+            return lookup(choseongGrams, Hangul.toChoseong(q));
+        }
+        return lookup(textGrams, q);
+    }
+
+    /**
+     * 쿼리의 모든 n-gram posting list 교집합 (1글자 쿼리는 1-gram 그대로)
+     */
+    private static int[] lookup(Map<String, int[]> grams, String q) {
+        if (q.length() == 1) {
+            return grams.getOrDefault(q, EMPTY);
+        }
+        int[] result = null;
+        for (int i = 0; i + 2 <= q.length(); i++) {
+            int[] postings = grams.getOrDefault(q.substring(i, i + 2), EMPTY);
+            result = result == null ? postings : intersect(result, postings);
+            if (result.length == 0) {
+                return EMPTY;
+            }
+        }
+        return result;
+    }
+
+    private int score(int doc, String q) {
+        String name = names[doc];
+        int best = 0;
+        if (name.equals(q)) {
+            best = SCORE_NAME_EXACT;
+        } else if (name.startsWith(q)) {
+            best = SCORE_NAME_PREFIX;
+        } else if (name.contains(q)) {
+            best = SCORE_NAME_CONTAINS;
+        }
+        if (best > 0) {
+            return best;
+        }
+
+        if (Hangul.containsChoseong(q)) {
+            int at = Hangul.indexOfMixed(name, q);
+            if (at == 0) {
+                return SCORE_CHOSEONG_PREFIX;
+            }
+            return at > 0 ? SCORE_CHOSEONG_CONTAINS : 0;
+        }
+
+        for (int m = 0; m < muscles[doc].length; m++) {
+            MuscleGroups.Muscle muscle = muscles[doc][m];
+            int score = 0;
+            if (muscle.key().equals(q)) {
+                score = SCORE_MUSCLE_EXACT;
+            } else if (muscle.key().startsWith(q)) {
+                score = SCORE_MUSCLE_PREFIX;
+            } else if (muscle.key().contains(q)) {
+                score = SCORE_MUSCLE_CONTAINS;
+            } else if (qualifiers[doc][m].contains(q)) {
+                score = SCORE_QUALIFIER_CONTAINS;
+            }
+            if (score > 0 && muscle.secondary()) {
+                score -= SCORE_SECONDARY_PENALTY;
+            }
+            best = Math.max(best, score);
+        }
+        if (best > 0) {
+            return best;
+        }
+
+        return descriptions[doc].contains(q) ? SCORE_DESCRIPTION_CONTAINS : 0;
+    }
+
+    private static void addGrams(Map<String, TreeSet<Integer>> index, String text, int doc) {
+        for (int i = 0; i < text.length(); i++) {
+            index.computeIfAbsent(text.substring(i, i + 1), k -> new TreeSet<>()).add(doc);
+            if (i + 2 <= text.length()) {
+                index.computeIfAbsent(text.substring(i, i + 2), k -> new TreeSet<>()).add(doc);
+            }
+        }
+    }
+
+    private static Map<String, int[]> freeze(Map<String, TreeSet<Integer>> index) {
+        Map<String, int[]> frozen = new HashMap<>(index.size() * 2);
+        index.forEach((gram, docs) -> frozen.put(gram, docs.stream().mapToInt(Integer::intValue).toArray()));
+        return Map.copyOf(frozen);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                out[k++] = a[i];
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return k == out.length ? out : Arrays.copyOf(out, k);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.workout.search;
+
+/**
+ * 한글 검색용 유틸리티
+ * - 초성 추출: '벤치' -> 'ㅂㅊ'
+ * - 검색 정규화: 소문자 변환 + 공백/기호 제거
+ */
+public final class Hangul {
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private Hangul() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    public static boolean isChoseong(char c) {
+        return CHOSEONG.indexOf(c) >= 0;
+    }
+
+    /**
+     * 한글 음절은 초성으로, 나머지 문자는 그대로 반환
+     */
+    public static char choseongOf(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSEONG.charAt((c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSEONG);
+    }
+
+    public static String toChoseong(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = choseongOf(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 모든 문자가 초성 자음인지 여부 (예: 'ㅂㅊㅍㄹㅅ')
+     */
+    public static boolean isChoseongOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!isChoseong(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean containsChoseong(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isChoseong(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 검색용 정규화: 소문자 변환, 글자/숫자 외 문자(공백, 괄호, 쉼표 등) 제거
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 혼합 부분 일치 검사
+     * - 쿼리의 초성 자음은 대상 음절의 초성과, 나머지 문자는 그대로 비교
+     * - 예: '벤ㅊ'는 '플랫바벨벤치프레스'에 일치
+     */
+    public static int indexOfMixed(String text, String query) {
+        int last = text.length() - query.length();
+        outer:
+        for (int start = 0; start <= last; start++) {
+            for (int j = 0; j < query.length(); j++) {
+                char q = query.charAt(j);
+                char t = text.charAt(start + j);
+                if (q != t && !(isChoseong(q) && choseongOf(t) == q)) {
+                    continue outer;
+                }
+            }
+            return start;
+        }
+        return -1;
+    }
+}
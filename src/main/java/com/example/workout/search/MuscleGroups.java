@@ -0,0 +1,81 @@
+package com.example.workout.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ExerciseType.muscleGroup 문자열 파서
+ * <pre>
+ * "대흉근(흉골부), 삼두근, 전면 삼각근"      -> 대흉근[흉골부], 삼두근, 전면 삼각근
+ * "전면/측면 삼각근, 상완삼두근(보조)"      -> 전면 삼각근, 측면 삼각근, 상완삼두근(보조)
+ * "능형근/하부승모(보조)"                 -> 능형근(보조), 하부승모(보조)
+ * </pre>
+ */
+public final class MuscleGroups {
+    private static final String SECONDARY_MARKER = "보조";
+
+    private MuscleGroups() {
+    }
+
+    /**
+     * @param name      표시용 근육 이름 (예: "전면 삼각근")
+     * @param key       공백 제거/소문자 정규화 키 (예: "전면삼각근")
+     * @param qualifier 괄호 안 부위 설명 (예: "흉골부"), 없으면 null
+     * @param secondary "(보조)" 표기 여부
+     */
+    public record Muscle(String name, String key, String qualifier, boolean secondary) {
+    }
+
+    public static List<Muscle> parse(String muscleGroup) {
+        List<Muscle> muscles = new ArrayList<>();
+        if (muscleGroup == null || muscleGroup.isBlank()) {
+            return muscles;
+        }
+        for (String item : muscleGroup.split(",")) {
+            String trimmed = item.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String base = trimmed;
+            String qualifier = null;
+            int open = trimmed.indexOf('(');
+            int close = trimmed.lastIndexOf(')');
+            if (open >= 0 && close > open) {
+                base = (trimmed.substring(0, open) + trimmed.substring(close + 1)).trim();
+                qualifier = trimmed.substring(open + 1, close).trim();
+            }
+            boolean secondary = qualifier != null && qualifier.contains(SECONDARY_MARKER);
+            String detail = secondary ? null : qualifier;
+
+            for (String name : expandAlternatives(base)) {
+                String key = Hangul.normalize(name);
+                if (!key.isEmpty()) {
+                    muscles.add(new Muscle(name, key, detail, secondary));
+                }
+            }
+        }
+        return muscles;
+    }
+
+    /**
+     * "전면/측면 삼각근" 처럼 마지막 항목의 공통 접미어를 앞 항목에도 붙여 펼침
+     */
+    private static List<String> expandAlternatives(String base) {
+        String[] parts = base.split("/");
+        List<String> names = new ArrayList<>(parts.length);
+        String last = parts[parts.length - 1].trim();
+        int space = last.lastIndexOf(' ');
+        String sharedSuffix = parts.length > 1 && space > 0 ? last.substring(space) : "";
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i].trim();
+            if (part.isEmpty()) {
+                continue;
+            }
+            if (i < parts.length - 1 && !sharedSuffix.isEmpty() && part.indexOf(' ') < 0) {
+                part = part + sharedSuffix;
+            }
+            names.add(part);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.workout.service;
+
+import com.example.workout.analytics.AnalyticsSnapshot;
+import com.example.workout.analytics.AnalyticsSnapshot.GroupBy;
+import com.example.workout.archive.ArchivedSet;
+import com.example.workout.cache.CacheInvalidationBus;
+import com.example.workout.dto.AnalyticsDTO;
+import com.example.workout.dto.ExerciseTypeDTO;
+import com.example.workout.entity.User;
+import com.example.workout.event.RemoteInvalidationEvent;
+import com.example.workout.event.WorkoutSessionChangedEvent;
+import com.example.workout.exception.BusinessException;
+import com.example.workout.exception.ErrorCode;
+import com.example.workout.exception.UserNotFoundException;
+import com.example.workout.repository.ExerciseRecordRepository;
+import com.example.workout.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 사용자별 분석 스냅샷 (AnalyticsSnapshot) 관리와 그룹 집계 API
+ * - 첫 조회 때 사용자의 세트 기록(보관분 포함)을 스칼라 쿼리 한 번으로 읽어 기본형 열 배열로 적재
+ * - 이후 종목별 볼륨, 주별 세트 수, RPE 추이 같은 조회는 DB 없이 배열에서 집계
+ * - 스냅샷은 바이트 합계로 제한한 로컬 캐시에 보관 (analytics.snapshot.max-bytes, 오래 안 쓴 사용자부터 밀려남)
+ * - 세션 생성 커밋 후 그 세션의 세트만 읽어 캐시된 스냅샷 뒤에 추가, 삭제는 스냅샷을 버림
+ */
+@Service
+public class AnalyticsService {
+    public static final String REGION_ANALYTICS = "region:analyticsSnapshot";
+
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int MAX_DAY_GROUPS = 3660;
+    private static final int MAX_WEEK_GROUPS = 523;
+    // 스냅샷은 날짜를 int epochDay로 다루므로 조회 날짜도 이 범위로 제한
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(2999, 12, 31);
+
+    private final ExerciseRecordRepository exerciseRecordRepository;
+    private final UserRepository userRepository;
+    private final SessionArchiveService archiveService;
+    private final ExerciseCatalog exerciseCatalog;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<Long, AnalyticsSnapshot> snapshots;
+
+    public AnalyticsService(ExerciseRecordRepository exerciseRecordRepository,
+                            UserRepository userRepository,
+                            SessionArchiveService archiveService,
+                            ExerciseCatalog exerciseCatalog,
+                            CacheInvalidationBus invalidationBus,
+                            @Value("${analytics.snapshot.max-bytes:67108864}") long maxBytes,
+                            MeterRegistry meterRegistry) {
+        this.exerciseRecordRepository = exerciseRecordRepository;
+        this.userRepository = userRepository;
+        this.archiveService = archiveService;
+        this.exerciseCatalog = exerciseCatalog;
+        this.invalidationBus = invalidationBus;
+        this.snapshots = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((Long userId, AnalyticsSnapshot snapshot) -> (int) Math.min(Integer.MAX_VALUE, snapshot.estimatedBytes()))
+            .build();
+        Gauge.builder("analytics.snapshots", snapshots, Cache::estimatedSize).register(meterRegistry);
+        Gauge.builder("analytics.snapshots.bytes", snapshots,
+                cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+            .register(meterRegistry);
+    }
+
+    /**
+     * [from, to] 구간의 세트를 groupBy(DAY, WEEK, EXERCISE)로 묶은 집계 (기본 최근 1년)
+     * - DAY는 최대 MAX_DAY_GROUPS일, WEEK는 최대 MAX_WEEK_GROUPS주 (그룹마다 배열 슬롯을 잡으므로)
+     */
+    public AnalyticsDTO query(String username, String groupBy, Long exerciseId, LocalDate from, LocalDate to) {
+        GroupBy grouping = parse(groupBy);
+        LocalDate end = checkRange(to != null ? to : LocalDate.now(DEFAULT_ZONE));
+        LocalDate start = checkRange(from != null ? from : end.minusYears(1).plusDays(1));
+        if (start.isAfter(end)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "시작일이 종료일보다 늦습니다.");
+        }
+        if (grouping == GroupBy.DAY && ChronoUnit.DAYS.between(start, end) >= MAX_DAY_GROUPS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "일별 조회 기간은 최대 " + MAX_DAY_GROUPS + "일입니다.");
+        }
+        if (grouping == GroupBy.WEEK && ChronoUnit.WEEKS.between(start, end) >= MAX_WEEK_GROUPS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "주별 조회 기간은 최대 " + MAX_WEEK_GROUPS + "주입니다.");
+        }
+
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        AnalyticsSnapshot snapshot = snapshots.get(user.getId(), this::load);
+        AnalyticsSnapshot.Groups result = snapshot.aggregate(grouping,
+            (int) start.toEpochDay(), (int) end.toEpochDay(), exerciseId != null ? exerciseId.intValue() : 0);
+
+        ExerciseCatalog.Snapshot catalog = exerciseCatalog.snapshot();
+        List<AnalyticsDTO.Group> groups = new ArrayList<>(result.size());
+        for (int i = 0; i < result.size(); i++) {
+            AnalyticsDTO.Group.GroupBuilder group = AnalyticsDTO.Group.builder()
+                .sets(result.sets()[i])
+                .volume(round(result.volume()[i]))
+                .topWeight(result.topWeight()[i] > 0 ? round(result.topWeight()[i]) : null)
+                .averageRpe(result.rpeCount()[i] > 0 ? round(result.rpeSum()[i] / result.rpeCount()[i]) : null);
+            if (grouping == GroupBy.EXERCISE) {
+                long id = result.keys()[i];
+                ExerciseTypeDTO exercise = catalog.findById(id);
+                group.exerciseId(id).exerciseName(exercise != null ? exercise.getName() : null);
+            } else {
+                group.start(LocalDate.ofEpochDay(result.keys()[i]));
+            }
+            groups.add(group.build());
+        }
+        return AnalyticsDTO.builder()
+            .groupBy(grouping.name())
+            .from(start)
+            .to(end)
+            .exerciseId(exerciseId)
+            .groups(groups)
+            .build();
+    }
+
+    /**
+     * 세션 변경 커밋 후: 생성은 캐시된 스냅샷에 그 세션의 세트만 추가, 삭제는 스냅샷을 버림 (다른 노드는 무효화)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionChanged(WorkoutSessionChangedEvent event) {
+        Long userId = event.userId();
+        AnalyticsSnapshot snapshot = snapshots.getIfPresent(userId);
+        if (event.deleted() || snapshot == null) {
+            // 생성인데 캐시에 없으면 적재 중인 스냅샷이 이 세션을 놓쳤을 수 있으므로 함께 버림
+            snapshots.invalidate(userId);
+        } else {
+            List<Object[]> rows = exerciseRecordRepository.findAnalyticsRowsBySessionId(event.sessionId());
+            int[] exerciseIds = new int[rows.size()];
+            float[] weights = new float[rows.size()];
+            short[] reps = new short[rows.size()];
+            float[] rpes = new float[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                Object[] row = rows.get(i);
+                exerciseIds[i] = ((Number) row[2]).intValue();
+                weights[i] = weight(row[3]);
+                reps[i] = reps(row[4]);
+                rpes[i] = rpe(row[5]);
+            }
+            if (snapshot.appendSession(event.sessionId(), (int) event.date().toEpochDay(),
+                    exerciseIds, weights, reps, rpes)) {
+                // 같은 값으로 교체해 늘어난 크기를 다시 계산 (그 사이 밀려났으면 그대로 둠)
+                snapshots.asMap().replace(userId, snapshot, snapshot);
+            }
+        }
+        invalidationBus.publish(REGION_ANALYTICS, String.valueOf(userId));
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(RemoteInvalidationEvent event) {
+        if (!REGION_ANALYTICS.equals(event.region())) {
+            return;
+        }
+        if (event.key() != null) {
+            snapshots.invalidate(Long.valueOf(event.key()));
+        } else {
+            snapshots.invalidateAll();
+        }
+    }
+
+    private AnalyticsSnapshot load(Long userId) {
+        AnalyticsSnapshot.Builder builder = AnalyticsSnapshot.builder();
+        long previousSession = Long.MIN_VALUE;
+        for (Object[] row : exerciseRecordRepository.findAnalyticsRows(userId)) {
+            long sessionId = (Long) row[0];
+            if (sessionId != previousSession) {
+                builder.session(sessionId);
+                previousSession = sessionId;
+            }
+            builder.add((int) ((LocalDateTime) row[1]).toLocalDate().toEpochDay(), ((Number) row[2]).intValue(),
+                weight(row[3]), reps(row[4]), rpe(row[5]));
+        }
+        previousSession = Long.MIN_VALUE;
+        for (ArchivedSet set : archiveService.userSets(userId)) {
+            if (set.sessionId() != previousSession) {
+                builder.session(set.sessionId());
+                previousSession = set.sessionId();
+            }
+            builder.add((int) set.sessionDate().toLocalDate().toEpochDay(), (int) set.exerciseId(),
+                set.weight() != null ? set.weight().floatValue() : 0f, (short) Math.min(set.reps(), Short.MAX_VALUE),
+                set.rpe() != null ? set.rpe().floatValue() : Float.NaN);
+        }
+        return builder.build();
+    }
+
+    private static GroupBy parse(String groupBy) {
+        try {
+            return GroupBy.valueOf(groupBy.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "groupBy는 DAY, WEEK, EXERCISE 중 하나입니다.");
+        }
+    }
+
+    private static LocalDate checkRange(LocalDate date) {
+        if (date.isBefore(MIN_DATE) || date.isAfter(MAX_DATE)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "조회 날짜는 " + MIN_DATE + " ~ " + MAX_DATE + " 사이여야 합니다.");
+        }
+        return date;
+    }
+
+    private static float weight(Object value) {
+        return value != null ? ((Number) value).floatValue() : 0f;
+    }
+
+    private static short reps(Object value) {
+        return (short) Math.min(((Number) value).intValue(), Short.MAX_VALUE);
+    }
+
+    private static float rpe(Object value) {
+        return value != null ? ((Number) value).floatValue() : Float.NaN;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -5,7 +5,9 @@ import com.example.workout.entity.*;
 import com.example.workout.exception.DuplicateResourceException;
 import com.example.workout.repository.UserRepository;
 import com.example.workout.security.JwtUtil;
+import com.example.workout.shard.ShardService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,6 +20,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final ObjectProvider<ShardService> shardService;
 
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.existsByUsername(request.getUsername())) {
@@ -33,6 +36,9 @@ public class AuthService {
         user.setPassword(passwordEncoder.encode(request.getPassword()));
 
         user = userRepository.save(user);
+        // 샤딩 사용 시 데이터를 둘 샤드를 정함 (토큰 발급 전이므로 이후 요청은 모두 해당 샤드로 라우팅)
+        Long userId = user.getId();
+        shardService.ifAvailable(service -> service.placeNewUser(userId));
 
         String token = jwtUtil.generateToken(user.getUsername());
         return new AuthResponse(token, user.getUsername(), user.getEmail());
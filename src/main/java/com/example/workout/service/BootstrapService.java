@@ -0,0 +1,120 @@
+package com.example.workout.service;
+
+import com.example.workout.dto.BootstrapDTO;
+import com.example.workout.dto.DietDashboardDTO;
+import com.example.workout.dto.WorkoutDashboardDTO;
+import com.example.workout.entity.UserProfile;
+import com.example.workout.shard.ShardContext;
+import com.example.workout.web.Deadline;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 홈 화면 부트스트랩 (요청 4개 -> 1개)
+ * - JWT 인증과 응답 압축은 요청당 한 번, 섹션은 가상 스레드에서 동시에 조회
+ * - 섹션마다 제한 시간을 두고, 늦거나 실패한 섹션은 비워서 나머지만 응답 (부분 결과)
+ * - 카탈로그는 메모리 스냅샷이라 DB를 쓰지 않고, 클라이언트 ETag가 같으면 생략
+ * - 섹션 제한 시간을 섹션의 기한(Deadline)으로 넘겨 JDBC 쿼리 타임아웃이 되게 함 (시간 초과 섹션이 커넥션을 계속 잡지 않음)
+ * - 노드 전체의 동시 섹션 수를 bootstrap.max-concurrent-sections로 제한 (요청당 3개가 커넥션 풀을 독차지하지 않게)
+ */
+@Service
+public class BootstrapService {
+    private static final Logger log = LoggerFactory.getLogger(BootstrapService.class);
+
+    private final WorkoutSessionService workoutSessionService;
+    private final DietSessionService dietSessionService;
+    private final UserProfileService userProfileService;
+    private final ExerciseCatalog exerciseCatalog;
+    private final long sectionTimeoutMs;
+    private final Semaphore sectionPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BootstrapService(WorkoutSessionService workoutSessionService,
+                            DietSessionService dietSessionService,
+                            UserProfileService userProfileService,
+                            ExerciseCatalog exerciseCatalog,
+                            @Value("${bootstrap.section-timeout-ms:2000}") long sectionTimeoutMs,
+                            @Value("${bootstrap.max-concurrent-sections:2}") int maxConcurrentSections) {
+        this.workoutSessionService = workoutSessionService;
+        this.dietSessionService = dietSessionService;
+        this.userProfileService = userProfileService;
+        this.exerciseCatalog = exerciseCatalog;
+        this.sectionTimeoutMs = sectionTimeoutMs;
+        this.sectionPermits = new Semaphore(maxConcurrentSections, true);
+    }
+
+    public BootstrapDTO bootstrap(String username, String tz, String catalogEtag) {
+        Map<String, String> errors = new ConcurrentSkipListMap<>();
+        CompletableFuture<WorkoutDashboardDTO> dashboard =
+            section("dashboard", () -> workoutSessionService.getWorkoutDashboard(username, tz), errors);
+        CompletableFuture<DietDashboardDTO> dietToday =
+            section("dietToday", () -> dietSessionService.getTodayDietSummary(username, tz), errors);
+        CompletableFuture<UserProfile> profile =
+            section("profile", () -> userProfileService.getProfile(username), errors);
+
+        ExerciseCatalog.Snapshot snapshot = exerciseCatalog.snapshot();
+        String exercises = snapshot.etag().equals(catalogEtag)
+            ? null : new String(snapshot.json(), StandardCharsets.UTF_8);
+
+        CompletableFuture.allOf(dashboard, dietToday, profile).join();
+        return BootstrapDTO.builder()
+            .dashboard(dashboard.join())
+            .dietToday(dietToday.join())
+            .profile(profile.join())
+            .catalogEtag(snapshot.etag())
+            .exercises(exercises)
+            .errors(errors.isEmpty() ? null : new TreeMap<>(errors))
+            .build();
+    }
+
+    /**
+     * 섹션 하나 비동기 실행 (제한 시간 초과/예외는 null로 완료하고 errors에 기록, 요청의 샤드를 그대로 사용)
+     * - 실행 슬롯 대기도 섹션 기한 안에서만: 기한 안에 슬롯을 얻지 못하면 조회하지 않고 TIMEOUT
+     */
+    private <T> CompletableFuture<T> section(String name, Supplier<T> supplier, Map<String, String> errors) {
+        Supplier<T> bounded = () -> {
+            try {
+                Long remainingMillis = Deadline.remainingMillis();
+                if (remainingMillis == null || remainingMillis <= 0
+                    || !sectionPermits.tryAcquire(remainingMillis, TimeUnit.MILLISECONDS)) {
+                    throw new CompletionException(new TimeoutException());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("부트스트랩 섹션이 중단되었습니다.");
+            }
+            try {
+                return supplier.get();
+            } finally {
+                sectionPermits.release();
+            }
+        };
+        return CompletableFuture.supplyAsync(ShardContext.wrap(Deadline.wrap(bounded, sectionTimeoutMs)), executor)
+            .orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+            .exceptionally(e -> {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof TimeoutException) {
+                    log.warn("부트스트랩 섹션 시간 초과: section={}, timeout={}ms", name, sectionTimeoutMs);
+                    errors.put(name, "TIMEOUT");
+                } else {
+                    log.warn("부트스트랩 섹션 실패: section={}", name, cause);
+                    errors.put(name, "ERROR");
+                }
+                return null;
+            });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
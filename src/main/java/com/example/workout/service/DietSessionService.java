@@ -6,10 +6,14 @@ import com.example.workout.dto.FoodEntryDTO;
 import com.example.workout.entity.DietSession;
 import com.example.workout.entity.FoodEntry;
 import com.example.workout.entity.User;
+import com.example.workout.event.UserDataChangedEvent;
+import com.example.workout.exception.ResourceNotFoundException;
 import com.example.workout.mapper.DietSessionMapper;
 import com.example.workout.repository.DietSessionRepository;
 import com.example.workout.repository.UserRepository;
+import com.example.workout.web.FieldSelection;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -17,10 +21,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -28,10 +35,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DietSessionService {
+    // fields= 로 선택할 수 있는 식단 필드 (entryCount, calories는 식품 목록 대신 쓰는 집계값)
+    public static final Set<String> DIET_FIELDS = Set.of("id", "date", "notes", "foodEntries", "entryCount", "calories");
 
     private final DietSessionRepository dietSessionRepository;
     private final UserRepository userRepository;
     private final DietSessionMapper dietSessionMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 페이지네이션 적용된 식단 조회 (성능 최적화)
@@ -63,6 +73,78 @@ public class DietSessionService {
         return getAllDietSessions(username, PageRequest.of(0, 100)).getContent();
     }
 
+    /**
+     * fields= 식단 목록 (요청된 필드만 담은 맵)
+     * - foodEntries를 요청하지 않으면 식품 컬렉션을 로딩하지 않고, 집계 필드는 요청 시에만 GROUP BY 한 번
+     */
+    public List<Map<String, Object>> getDietSessionFields(String username, FieldSelection fields) {
+        if (fields.includes("foodEntries")) {
+            return getAllDietSessions(username).stream().map(dto -> toFields(dto, fields)).toList();
+        }
+        User user = getUser(username);
+        List<Long> ids = dietSessionRepository.findIdsByUserIdOrderByDateDesc(user.getId(), PageRequest.of(0, 100))
+            .getContent();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Object[]> rowsById = dietSessionRepository.findSummariesByIdIn(ids).stream()
+            .collect(Collectors.toMap(row -> (Long) row[0], Function.identity()));
+        Map<Long, Object[]> stats = entryStats(ids, fields);
+        return ids.stream()
+            .map(rowsById::get)
+            .filter(Objects::nonNull)
+            .map(row -> toFields(row, stats.get((Long) row[0]), fields))
+            .toList();
+    }
+
+    public Map<String, Object> getDietSessionFields(Long id, String username, FieldSelection fields) {
+        if (fields.includes("foodEntries")) {
+            return toFields(getDietSession(id, username), fields);
+        }
+        User user = getUser(username);
+        List<Object[]> rows = dietSessionRepository.findSummaryByIdAndUserId(id, user.getId());
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("식단 세션을 찾을 수 없습니다.");
+        }
+        return toFields(rows.get(0), entryStats(List.of(id), fields).get(id), fields);
+    }
+
+    private Map<Long, Object[]> entryStats(List<Long> ids, FieldSelection fields) {
+        Map<Long, Object[]> stats = new HashMap<>();
+        if (fields.includesAny("entryCount", "calories")) {
+            for (Object[] row : dietSessionRepository.findEntryStatsByIdIn(ids)) {
+                stats.put((Long) row[0], row);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * findSummaries* 행 (id, date, notes) + findEntryStatsByIdIn 행 (id, 식품 수, 칼로리 합계, 식품이 없으면 null)
+     */
+    private static Map<String, Object> toFields(Object[] row, Object[] stats, FieldSelection fields) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        fields.put(result, "id", () -> row[0]);
+        fields.put(result, "date", () -> row[1]);
+        fields.put(result, "notes", () -> row[2]);
+        fields.put(result, "entryCount", () -> stats != null ? ((Number) stats[1]).intValue() : 0);
+        fields.put(result, "calories", () -> stats != null ? ((Number) stats[2]).intValue() : 0);
+        return result;
+    }
+
+    private static Map<String, Object> toFields(DietSessionDTO dto, FieldSelection fields) {
+        List<FoodEntryDTO> entries = dto.getFoodEntries() != null ? dto.getFoodEntries() : List.of();
+        Map<String, Object> result = new LinkedHashMap<>();
+        fields.put(result, "id", dto::getId);
+        fields.put(result, "date", dto::getDate);
+        fields.put(result, "notes", dto::getNotes);
+        fields.put(result, "foodEntries", () -> entries);
+        fields.put(result, "entryCount", entries::size);
+        fields.put(result, "calories", () -> entries.stream()
+            .mapToInt(entry -> entry.getCalories() != null ? entry.getCalories() : 0).sum());
+        return result;
+    }
+
     @Transactional(readOnly = true)
     public DietDashboardDTO getTodayDietSummary(String username, String tz) {
         User user = getUser(username);
@@ -135,6 +217,7 @@ public class DietSessionService {
         }
 
         DietSession savedSession = dietSessionRepository.save(dietSession);
+        eventPublisher.publishEvent(new UserDataChangedEvent(username, UserDataChangedEvent.Area.DIET));
         return dietSessionMapper.toDTO(savedSession);
     }
 
@@ -144,6 +227,7 @@ public class DietSessionService {
         DietSession dietSession = dietSessionRepository.findByIdAndUserId(id, user.getId())
                 .orElseThrow(() -> new RuntimeException("Diet session not found"));
         dietSessionRepository.delete(dietSession);
+        eventPublisher.publishEvent(new UserDataChangedEvent(username, UserDataChangedEvent.Area.DIET));
     }
 
     /**
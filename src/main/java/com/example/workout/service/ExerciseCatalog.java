@@ -0,0 +1,181 @@
+package com.example.workout.service;
+
+import com.example.workout.cache.CacheInvalidationBus;
+import com.example.workout.dto.ExerciseTypeDTO;
+import com.example.workout.entity.ExerciseType;
+import com.example.workout.event.ExerciseCatalogChangedEvent;
+import com.example.workout.event.RemoteInvalidationEvent;
+import com.example.workout.mapper.ExerciseTypeMapper;
+import com.example.workout.repository.ExerciseTypeRepository;
+import com.example.workout.search.ExerciseSearchIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 운동 종목 카탈로그 (불변 스냅샷)
+ * - 시작 시 전체 ExerciseType을 한 번 로드하여 카테고리별 인덱스와 JSON 바이트를 미리 만들어 둠
+ * - 조회는 DB 조회/직렬화 없이 스냅샷만 반환
+ * - 검색 인덱스(ExerciseSearchIndex)도 스냅샷과 함께 만들어 같이 교체
+ * - 종목 추가/삭제 커밋 후 스냅샷을 새로 만들어 원자적으로 교체
+ * - 다른 노드의 변경은 CacheInvalidationBus로 전달받아 2차 캐시 리전을 비우고 재생성
+ */
+@Component
+@RequiredArgsConstructor
+public class ExerciseCatalog {
+    private static final Logger log = LoggerFactory.getLogger(ExerciseCatalog.class);
+
+    private final ExerciseTypeRepository exerciseRepository;
+    private final ExerciseTypeMapper exerciseTypeMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * 커밋된 변경만 반영되도록 트랜잭션 커밋 후 재생성
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ExerciseCatalogChangedEvent event) {
+        reload();
+        invalidationBus.publish(CacheInvalidationBus.REGION_EXERCISE_CATALOG, null);
+    }
+
+    /**
+     * 다른 노드에서 종목이 변경됨: 이 노드의 ExerciseType 2차 캐시도 오래된 상태이므로 먼저 비움
+     */
+    @EventListener
+    public void onRemoteInvalidation(RemoteInvalidationEvent event) {
+        if (CacheInvalidationBus.REGION_EXERCISE_CATALOG.equals(event.region())) {
+            entityManagerFactory.getCache().evict(ExerciseType.class);
+            reload();
+        }
+    }
+
+    public Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot : reload();
+    }
+
+    public synchronized Snapshot reload() {
+        List<ExerciseTypeDTO> exercises = exerciseTypeMapper.toDTOList(
+            exerciseRepository.findAll(Sort.by(Sort.Direction.ASC, "id")));
+        Snapshot snapshot = Snapshot.of(exercises, objectMapper);
+        current.set(snapshot);
+        log.info("Exercise catalog loaded: {} exercises, etag={}", exercises.size(), snapshot.etag());
+        return snapshot;
+    }
+
+    /**
+     * 카탈로그 스냅샷. 생성 이후 변경되지 않습니다.
+     */
+    public static final class Snapshot {
+        private final List<ExerciseTypeDTO> exercises;
+        private final Map<Long, ExerciseTypeDTO> byId;
+        private final Map<ExerciseType.ExerciseCategory, List<ExerciseTypeDTO>> byCategory;
+        private final byte[] json;
+        private final String etag;
+        private final Map<ExerciseType.ExerciseCategory, byte[]> categoryJson;
+        private final Map<ExerciseType.ExerciseCategory, String> categoryEtags;
+        private final ExerciseSearchIndex searchIndex;
+
+        private Snapshot(List<ExerciseTypeDTO> exercises,
+                         Map<ExerciseType.ExerciseCategory, List<ExerciseTypeDTO>> byCategory,
+                         byte[] json,
+                         Map<ExerciseType.ExerciseCategory, byte[]> categoryJson) {
+            this.exercises = exercises;
+            this.byId = exercises.stream()
+                .collect(Collectors.toUnmodifiableMap(ExerciseTypeDTO::getId, e -> e));
+            this.byCategory = byCategory;
+            this.json = json;
+            this.etag = etagOf(json);
+            this.categoryJson = categoryJson;
+            Map<ExerciseType.ExerciseCategory, String> etags = new EnumMap<>(ExerciseType.ExerciseCategory.class);
+            categoryJson.forEach((category, bytes) -> etags.put(category, etagOf(bytes)));
+            this.categoryEtags = Collections.unmodifiableMap(etags);
+            this.searchIndex = ExerciseSearchIndex.build(exercises);
+        }
+
+        static Snapshot of(List<ExerciseTypeDTO> exercises, ObjectMapper objectMapper) {
+            List<ExerciseTypeDTO> all = List.copyOf(exercises);
+            Map<ExerciseType.ExerciseCategory, List<ExerciseTypeDTO>> byCategory =
+                new EnumMap<>(ExerciseType.ExerciseCategory.class);
+            Map<ExerciseType.ExerciseCategory, byte[]> categoryJson =
+                new EnumMap<>(ExerciseType.ExerciseCategory.class);
+            try {
+                for (ExerciseType.ExerciseCategory category : ExerciseType.ExerciseCategory.values()) {
+                    List<ExerciseTypeDTO> inCategory = all.stream()
+                        .filter(e -> e.getCategory() == category)
+                        .toList();
+                    byCategory.put(category, inCategory);
+                    categoryJson.put(category, objectMapper.writeValueAsBytes(inCategory));
+                }
+                return new Snapshot(all, Collections.unmodifiableMap(byCategory),
+                    objectMapper.writeValueAsBytes(all), Collections.unmodifiableMap(categoryJson));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("운동 카탈로그 직렬화에 실패했습니다.", e);
+            }
+        }
+
+        private static String etagOf(byte[] bytes) {
+            return "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+        }
+
+        public List<ExerciseTypeDTO> exercises() {
+            return exercises;
+        }
+
+        public ExerciseTypeDTO findById(Long id) {
+            return byId.get(id);
+        }
+
+        public List<ExerciseTypeDTO> byCategory(ExerciseType.ExerciseCategory category) {
+            return byCategory.get(category);
+        }
+
+        /**
+         * 미리 직렬화된 JSON. 호출자는 배열을 수정하면 안 됩니다.
+         */
+        public byte[] json() {
+            return json;
+        }
+
+        public String etag() {
+            return etag;
+        }
+
+        public byte[] categoryJson(ExerciseType.ExerciseCategory category) {
+            return categoryJson.get(category);
+        }
+
+        public String categoryEtag(ExerciseType.ExerciseCategory category) {
+            return categoryEtags.get(category);
+        }
+
+        public List<ExerciseTypeDTO> search(String query, ExerciseType.ExerciseCategory category, int limit) {
+            return searchIndex.search(query, category, limit);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.workout.service;
+
+import com.example.workout.archive.ArchivedSet;
+import com.example.workout.cache.CacheInvalidationBus;
+import com.example.workout.dto.ExerciseProgressDTO;
+import com.example.workout.dto.ExerciseTypeDTO;
+import com.example.workout.dto.ProgressPointDTO;
+import com.example.workout.dto.WeeklyVolumeDTO;
+import com.example.workout.entity.User;
+import com.example.workout.event.WorkoutSessionChangedEvent;
+import com.example.workout.exception.BusinessException;
+import com.example.workout.exception.ErrorCode;
+import com.example.workout.exception.ResourceNotFoundException;
+import com.example.workout.exception.UserNotFoundException;
+import com.example.workout.repository.ExerciseRecordRepository;
+import com.example.workout.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 종목별 성장 추이 (추정 1RM, 최고 중량, 볼륨)
+ * - 사용자+종목의 전체 일별 집계를 DB GROUP BY 한 번으로 만들어 exerciseProgress 캐시에 보관
+ * - 조회 범위는 캐시된 일별 시계열에서 잘라서 응답 (범위가 달라도 추가 쿼리 없음)
+ * - 세션 생성/삭제 커밋 후 해당 날짜만 다시 집계해서 캐시에 병합 (전체 재계산 없음)
+ * - 보관된 세션의 세트는 SessionArchiveService 블롭에서 같은 식으로 집계해 날짜별로 합침
+ */
+@Service
+@RequiredArgsConstructor
+public class ExerciseProgressService {
+    public static final String CACHE_NAME = "exerciseProgress";
+
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime HISTORY_START = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final LocalDateTime HISTORY_END = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final ExerciseRecordRepository exerciseRecordRepository;
+    private final UserRepository userRepository;
+    private final ExerciseCatalog exerciseCatalog;
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final SessionArchiveService archiveService;
+
+    /**
+     * 일별 집계 한 건 (캐시 값, 불변)
+     */
+    record DailyProgress(LocalDate date, double topSetWeight, Double epley, Double brzycki,
+                         double volume, long sets) {
+    }
+
+    /**
+     * 사용자+종목의 전체 일별 시계열 (날짜 오름차순, 불변)
+     */
+    record ProgressSeries(List<DailyProgress> days) {
+    }
+
+    public ExerciseProgressDTO getProgress(String username, Long exerciseId, LocalDate from, LocalDate to) {
+        ExerciseTypeDTO exercise = exerciseCatalog.snapshot().findById(exerciseId);
+        if (exercise == null) {
+            throw new ResourceNotFoundException("운동 종목을 찾을 수 없습니다.");
+        }
+        LocalDate end = to != null ? to : LocalDate.now(DEFAULT_ZONE);
+        LocalDate start = from != null ? from : end.minusMonths(3);
+        if (start.isAfter(end)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "시작일이 종료일보다 늦습니다.");
+        }
+
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        ProgressSeries series = cache().get(cacheKey(user.getId(), exerciseId),
+            () -> loadSeries(user.getId(), exerciseId));
+
+        List<ProgressPointDTO> points = new ArrayList<>();
+        Map<LocalDate, WeeklyVolumeDTO> weeks = new LinkedHashMap<>();
+        double bestTopSet = 0;
+        Double bestOneRepMax = null;
+        for (DailyProgress day : slice(series.days(), start, end)) {
+            points.add(ProgressPointDTO.builder()
+                .date(day.date())
+                .topSetWeight(day.topSetWeight())
+                .estimatedOneRepMaxEpley(day.epley())
+                .estimatedOneRepMaxBrzycki(day.brzycki())
+                .volume(day.volume())
+                .sets(day.sets())
+                .build());
+
+            WeeklyVolumeDTO week = weeks.computeIfAbsent(day.date().with(DayOfWeek.MONDAY),
+                weekStart -> new WeeklyVolumeDTO(weekStart, 0.0, 0L, null));
+            week.setVolume(week.getVolume() + day.volume());
+            week.setSets(week.getSets() + day.sets());
+            week.setBestEstimatedOneRepMax(max(week.getBestEstimatedOneRepMax(), day.epley()));
+
+            bestTopSet = Math.max(bestTopSet, day.topSetWeight());
+            bestOneRepMax = max(bestOneRepMax, day.epley());
+        }
+
+        return ExerciseProgressDTO.builder()
+            .exerciseId(exerciseId)
+            .exerciseName(exercise.getName())
+            .from(start)
+            .to(end)
+            .bestTopSetWeight(points.isEmpty() ? null : bestTopSet)
+            .bestEstimatedOneRepMax(bestOneRepMax)
+            .points(points)
+            .weeklyVolume(new ArrayList<>(weeks.values()))
+            .build();
+    }
+
+    /**
+     * 세션 변경 커밋 후: 캐시된 시계열이 있으면 해당 날짜만 재집계하여 병합, 다른 노드에는 무효화 전파
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionChanged(WorkoutSessionChangedEvent event) {
+        Cache cache = cache();
+        for (Long exerciseId : event.exerciseIds()) {
+            String key = cacheKey(event.userId(), exerciseId);
+            ProgressSeries cached = cache.get(key, ProgressSeries.class);
+            if (cached != null) {
+                List<DailyProgress> day = query(event.userId(), exerciseId,
+                    event.date().atStartOfDay(), event.date().plusDays(1).atStartOfDay());
+                cache.put(key, merge(cached, event.date(), day));
+            }
+            invalidationBus.publish(CACHE_NAME, key);
+        }
+    }
+
+    private ProgressSeries loadSeries(Long userId, Long exerciseId) {
+        return new ProgressSeries(List.copyOf(query(userId, exerciseId, HISTORY_START, HISTORY_END)));
+    }
+
+    private List<DailyProgress> query(Long userId, Long exerciseId, LocalDateTime start, LocalDateTime end) {
+        List<Object[]> rows = exerciseRecordRepository.findDailyProgress(userId, exerciseId, start, end);
+        List<DailyProgress> days = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            LocalDate date = row[0] instanceof LocalDate ? (LocalDate) row[0]
+                : ((java.sql.Date) row[0]).toLocalDate();
+            days.add(new DailyProgress(
+                date,
+                ((Number) row[1]).doubleValue(),
+                round(row[2]),
+                round(row[3]),
+                row[4] != null ? ((Number) row[4]).doubleValue() : 0.0,
+                ((Number) row[5]).longValue()));
+        }
+        List<ArchivedSet> archived = archiveService.exerciseSets(userId, exerciseId, start, end);
+        return archived.isEmpty() ? days : combine(days, aggregate(archived));
+    }
+
+    /**
+     * 보관 세트의 일별 집계 (findDailyProgress와 같은 규칙: 중량 있는 세트만, 1RM은 1~12회)
+     */
+    static List<DailyProgress> aggregate(List<ArchivedSet> sets) {
+        Map<LocalDate, List<ArchivedSet>> byDate = new TreeMap<>();
+        for (ArchivedSet set : sets) {
+            if (set.weight() != null && set.weight() > 0) {
+                byDate.computeIfAbsent(set.sessionDate().toLocalDate(), date -> new ArrayList<>()).add(set);
+            }
+        }
+        List<DailyProgress> days = new ArrayList<>(byDate.size());
+        for (Map.Entry<LocalDate, List<ArchivedSet>> entry : byDate.entrySet()) {
+            double top = 0;
+            Double epley = null;
+            Double brzycki = null;
+            double volume = 0;
+            for (ArchivedSet set : entry.getValue()) {
+                double weight = set.weight();
+                int reps = set.reps();
+                top = Math.max(top, weight);
+                if (reps == 1) {
+                    epley = max(epley, weight);
+                    brzycki = max(brzycki, weight);
+                } else if (reps <= 12) {
+                    epley = max(epley, weight * (1 + reps / 30.0));
+                    brzycki = max(brzycki, weight * 36.0 / (37 - reps));
+                }
+                volume += weight * reps;
+            }
+            days.add(new DailyProgress(entry.getKey(), top, round(epley), round(brzycki), volume,
+                entry.getValue().size()));
+        }
+        return days;
+    }
+
+    /**
+     * 두 일별 시계열을 날짜별로 합침 (같은 날이면 최고값은 max, 볼륨/세트는 합)
+     */
+    static List<DailyProgress> combine(List<DailyProgress> hot, List<DailyProgress> archived) {
+        TreeMap<LocalDate, DailyProgress> byDate = new TreeMap<>();
+        for (DailyProgress day : hot) {
+            byDate.put(day.date(), day);
+        }
+        for (DailyProgress day : archived) {
+            byDate.merge(day.date(), day, (a, b) -> new DailyProgress(a.date(),
+                Math.max(a.topSetWeight(), b.topSetWeight()), max(a.epley(), b.epley()),
+                max(a.brzycki(), b.brzycki()), a.volume() + b.volume(), a.sets() + b.sets()));
+        }
+        return new ArrayList<>(byDate.values());
+    }
+
+    static ProgressSeries merge(ProgressSeries series, LocalDate date, List<DailyProgress> replacement) {
+        TreeMap<LocalDate, DailyProgress> byDate = new TreeMap<>();
+        for (DailyProgress day : series.days()) {
+            byDate.put(day.date(), day);
+        }
+        byDate.remove(date);
+        for (DailyProgress day : replacement) {
+            byDate.put(day.date(), day);
+        }
+        return new ProgressSeries(List.copyOf(byDate.values()));
+    }
+
+    /**
+     * 날짜 오름차순 리스트에서 [start, end] 구간을 이진 탐색으로 잘라냄
+     */
+    private static List<DailyProgress> slice(List<DailyProgress> days, LocalDate start, LocalDate end) {
+        int from = lowerBound(days, start);
+        int to = lowerBound(days, end.plusDays(1));
+        return days.subList(from, Math.max(from, to));
+    }
+
+    private static int lowerBound(List<DailyProgress> days, LocalDate date) {
+        int lo = 0, hi = days.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (days.get(mid).date().isBefore(date)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static Double round(Object value) {
+        return value != null ? Math.round(((Number) value).doubleValue() * 10) / 10.0 : null;
+    }
+
+    private static Double max(Double a, Double b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return Math.max(a, b);
+    }
+
+    private static String cacheKey(Long userId, Long exerciseId) {
+        return userId + ":" + exerciseId;
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+}
@@ -1,10 +1,11 @@
 package com.example.workout.service;
 
+import com.example.workout.dto.ExerciseTypeDTO;
 import com.example.workout.entity.ExerciseType;
+import com.example.workout.event.ExerciseCatalogChangedEvent;
 import com.example.workout.repository.ExerciseTypeRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,44 +13,50 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ExerciseTypeService {
     private final ExerciseTypeRepository exerciseRepository;
+    private final ExerciseCatalog exerciseCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 모든 운동 목록 조회 (24시간 캐싱)
-     * - 거의 변경되지 않는 정적 데이터
-     * - 모든 페이지에서 사용되므로 캐싱으로 성능 대폭 향상
+     * 모든 운동 목록 조회 (메모리 스냅샷, DB 조회 없음)
+     * - 커넥션을 잡지 않도록 조회 메서드에는 트랜잭션을 두지 않음
      */
-    @Cacheable(value = "exercises", unless = "#result == null || #result.isEmpty()")
-    public List<ExerciseType> getAllExercises() {
-        return exerciseRepository.findAll();
+    public List<ExerciseTypeDTO> getAllExercises() {
+        return exerciseCatalog.snapshot().exercises();
     }
 
     /**
-     * 카테고리별 운동 조회 (24시간 캐싱)
+     * 카테고리별 운동 조회 (스냅샷의 카테고리 인덱스 사용)
      */
-    @Cacheable(value = "exercises", key = "#category.name()", unless = "#result == null || #result.isEmpty()")
-    public List<ExerciseType> getExercisesByCategory(ExerciseType.ExerciseCategory category) {
-        return exerciseRepository.findByCategory(category);
+    public List<ExerciseTypeDTO> getExercisesByCategory(ExerciseType.ExerciseCategory category) {
+        return exerciseCatalog.snapshot().byCategory(category);
     }
 
     /**
-     * 운동 추가/수정 시 캐시 무효화
+     * 운동 검색 (이름/초성/근육/설명, 점수순)
+     */
+    public List<ExerciseTypeDTO> searchExercises(String query, ExerciseType.ExerciseCategory category, int limit) {
+        return exerciseCatalog.snapshot().search(query, category, limit);
+    }
+
+    /**
+     * 운동 추가 시 커밋 후 카탈로그 스냅샷 재생성
      * (관리자 기능 - 실제 사용 빈도 낮음)
      */
     @Transactional
-    @CacheEvict(value = "exercises", allEntries = true)
     public ExerciseType createExercise(ExerciseType exercise) {
-        return exerciseRepository.save(exercise);
+        ExerciseType saved = exerciseRepository.save(exercise);
+        eventPublisher.publishEvent(new ExerciseCatalogChangedEvent(saved.getId()));
+        return saved;
     }
 
     /**
-     * 운동 삭제 시 캐시 무효화
+     * 운동 삭제 시 커밋 후 카탈로그 스냅샷 재생성
      */
     @Transactional
-    @CacheEvict(value = "exercises", allEntries = true)
     public void deleteExercise(Long id) {
         exerciseRepository.deleteById(id);
+        eventPublisher.publishEvent(new ExerciseCatalogChangedEvent(id));
     }
 }
@@ -0,0 +1,165 @@
+package com.example.workout.service;
+
+import com.example.workout.archive.ArchivedSet;
+import com.example.workout.dto.LastPerformanceDTO;
+import com.example.workout.entity.ExerciseRecord;
+import com.example.workout.entity.LastPerformance;
+import com.example.workout.entity.User;
+import com.example.workout.entity.WorkoutSession;
+import com.example.workout.repository.ExerciseRecordRepository;
+import com.example.workout.repository.LastPerformanceRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 종목별 마지막 수행 기록 (세트 입력 시 미리 채우기)
+ * - 조회는 last_performances 한 쿼리 (세션/기록 테이블을 보지 않음)
+ * - 세션 저장 시 해당 종목 행을 덮어쓰고, 과거 날짜로 입력한 세션은 더 최근 기록을 덮어쓰지 않음
+ * - 마지막 기록을 만든 세션이 삭제되면 직전 세션으로 복구
+ */
+@Service
+@RequiredArgsConstructor
+public class LastPerformanceService {
+    public static final int MAX_BATCH_SIZE = 50;
+
+    private final LastPerformanceRepository lastPerformanceRepository;
+    private final ExerciseRecordRepository exerciseRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final SessionArchiveService archiveService;
+
+    @Transactional(readOnly = true)
+    public List<LastPerformanceDTO> getLastPerformances(String username, Collection<Long> exerciseIds) {
+        if (exerciseIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> rows = lastPerformanceRepository.findSnapshots(username, exerciseIds);
+        List<LastPerformanceDTO> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            result.add(LastPerformanceDTO.builder()
+                .exerciseId((Long) row[0])
+                .sessionId((Long) row[1])
+                .date(((LocalDateTime) row[2]).toLocalDate())
+                .sets(decode((String) row[3]))
+                .build());
+        }
+        return result;
+    }
+
+    /**
+     * 세션 저장 시 종목별 마지막 기록 갱신 (createSession 트랜잭션 안에서 호출)
+     */
+    @Transactional
+    public void applySession(User user, WorkoutSession session, List<ExerciseRecord> records) {
+        Map<Long, List<ExerciseRecord>> byExercise = new LinkedHashMap<>();
+        for (ExerciseRecord record : records) {
+            byExercise.computeIfAbsent(record.getExerciseType().getId(), id -> new ArrayList<>()).add(record);
+        }
+        if (byExercise.isEmpty()) {
+            return;
+        }
+
+        Map<Long, LastPerformance> existing = new HashMap<>();
+        for (LastPerformance lp : lastPerformanceRepository.findByUser_IdAndExerciseType_IdIn(user.getId(), byExercise.keySet())) {
+            existing.put(lp.getExerciseType().getId(), lp);
+        }
+
+        List<LastPerformance> changed = new ArrayList<>();
+        byExercise.forEach((exerciseId, sets) -> {
+            LastPerformance lp = existing.get(exerciseId);
+            if (lp != null && session.getDate().isBefore(lp.getPerformedAt())) {
+                return;
+            }
+            if (lp == null) {
+                lp = LastPerformance.builder()
+                    .user(user)
+                    .exerciseType(sets.get(0).getExerciseType())
+                    .build();
+            }
+            lp.setSessionId(session.getId());
+            lp.setPerformedAt(session.getDate());
+            lp.setSetsJson(encode(sets));
+            changed.add(lp);
+        });
+        lastPerformanceRepository.saveAll(changed);
+    }
+
+    /**
+     * 삭제된 세션이 마지막 기록이었던 종목을 직전 세션으로 복구 (deleteSession 트랜잭션 안에서 호출)
+     */
+    @Transactional
+    public void repairAfterDelete(Long userId, Long sessionId) {
+        for (LastPerformance lp : lastPerformanceRepository.findByUser_IdAndSessionId(userId, sessionId)) {
+            Long exerciseId = lp.getExerciseType().getId();
+            List<Long> previous = exerciseRecordRepository.findLatestSessionIds(
+                userId, exerciseId, sessionId, PageRequest.of(0, 1));
+            List<ExerciseRecord> sets = previous.isEmpty() ? List.of() : exerciseRecordRepository
+                .findBySession_IdAndExerciseType_IdOrderBySetNumberAsc(previous.get(0), exerciseId);
+            LocalDateTime performedAt = sets.isEmpty() ? null : sets.get(0).getSession().getDate();
+            Long previousSessionId = previous.isEmpty() ? null : previous.get(0);
+
+            // 남은 세션이 없거나 보관된 세션이 더 최근이면 보관분으로 복구
+            List<ArchivedSet> archived = latestArchivedSession(
+                archiveService.exerciseSets(userId, exerciseId), sessionId);
+            if (!archived.isEmpty() && (performedAt == null || archived.get(0).sessionDate().isAfter(performedAt))) {
+                sets = archived.stream().map(set -> set.toRecord(null, null)).toList();
+                performedAt = archived.get(0).sessionDate();
+                previousSessionId = archived.get(0).sessionId();
+            }
+            if (sets.isEmpty()) {
+                lastPerformanceRepository.delete(lp);
+                continue;
+            }
+            lp.setSessionId(previousSessionId);
+            lp.setPerformedAt(performedAt);
+            lp.setSetsJson(encode(sets));
+        }
+    }
+
+    /**
+     * 삭제된 세션을 제외한 가장 최근 보관 세션의 세트 (sets는 세션 날짜순)
+     */
+    private static List<ArchivedSet> latestArchivedSession(List<ArchivedSet> sets, Long excludedSessionId) {
+        for (int i = sets.size() - 1; i >= 0; i--) {
+            long latest = sets.get(i).sessionId();
+            if (latest != excludedSessionId) {
+                return sets.stream().filter(set -> set.sessionId() == latest).toList();
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * [[중량, 횟수, RPE], ...] (세트 번호 순)
+     */
+    private String encode(List<ExerciseRecord> sets) {
+        List<Object[]> compact = sets.stream()
+            .sorted(Comparator.comparing(ExerciseRecord::getSetNumber))
+            .map(set -> new Object[]{set.getWeight(), set.getReps(), set.getRpe()})
+            .toList();
+        try {
+            return objectMapper.writeValueAsString(compact);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("마지막 수행 기록 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private List<LastPerformanceDTO.SetDTO> decode(String json) {
+        try {
+            Double[][] compact = objectMapper.readValue(json, Double[][].class);
+            List<LastPerformanceDTO.SetDTO> sets = new ArrayList<>(compact.length);
+            for (Double[] set : compact) {
+                sets.add(new LastPerformanceDTO.SetDTO(set[0], set[1] != null ? set[1].intValue() : null, set[2]));
+            }
+            return sets;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("마지막 수행 기록을 읽을 수 없습니다.", e);
+        }
+    }
+}
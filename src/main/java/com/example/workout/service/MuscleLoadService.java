@@ -0,0 +1,230 @@
+package com.example.workout.service;
+
+import com.example.workout.dto.ExerciseTypeDTO;
+import com.example.workout.dto.MuscleLoadDTO;
+import com.example.workout.entity.ExerciseRecord;
+import com.example.workout.entity.ExerciseType;
+import com.example.workout.entity.MuscleLoadDaily;
+import com.example.workout.entity.MuscleLoadDaily.BucketType;
+import com.example.workout.entity.User;
+import com.example.workout.exception.UserNotFoundException;
+import com.example.workout.repository.MuscleLoadDailyRepository;
+import com.example.workout.repository.UserRepository;
+import com.example.workout.search.MuscleGroups;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부위별 훈련 부하 / 회복 지수
+ * - 세션 저장/삭제 시 같은 트랜잭션에서 muscle_load_daily(사용자×날짜×부위)를 증감
+ * - 조회는 최근 28일 롤업 행만 읽어 7일/28일 합계와 회복 지수를 계산 (기록 테이블 스캔 없음)
+ * - 회복 지수: 최근 7일 세트에 1일 반감기를 적용한 피로도 f로 100 / (1 + f / 10)
+ */
+@Service
+@RequiredArgsConstructor
+public class MuscleLoadService {
+    private static final int ACUTE_DAYS = 7;
+    private static final int CHRONIC_DAYS = 28;
+    private static final double SECONDARY_WEIGHT = 0.5;
+    private static final double FATIGUE_HALF_LIFE_DAYS = 1.0;
+    private static final double FATIGUE_SCALE = 10.0;
+    private static final double WEEKLY_SETS_MIN = 10;
+    private static final double WEEKLY_SETS_MAX = 20;
+    private static final double EPSILON = 1e-9;
+    private static final Set<ExerciseType.ExerciseCategory> NON_STRENGTH = EnumSet.of(
+        ExerciseType.ExerciseCategory.CARDIO,
+        ExerciseType.ExerciseCategory.FLEXIBILITY,
+        ExerciseType.ExerciseCategory.BALANCE);
+
+    private final MuscleLoadDailyRepository muscleLoadDailyRepository;
+    private final UserRepository userRepository;
+    private final ExerciseCatalog exerciseCatalog;
+
+    // muscleGroup 문자열 -> 파싱 결과 (카탈로그 크기로 제한됨)
+    private final Map<String, List<MuscleGroups.Muscle>> parsedMuscles = new ConcurrentHashMap<>();
+
+    private record Bucket(BucketType type, String key) {
+    }
+
+    private static final class Delta {
+        private final String name;
+        private double sets;
+        private double volume;
+
+        private Delta(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * 세션 생성(sign=1) / 삭제(sign=-1) 시 해당 날짜 롤업 증감 (세션 트랜잭션 안에서 호출)
+     */
+    @Transactional
+    public void apply(User user, LocalDate day, Collection<ExerciseRecord> records, int sign) {
+        Map<Bucket, Delta> deltas = new LinkedHashMap<>();
+        for (ExerciseRecord record : records) {
+            ExerciseType exerciseType = record.getExerciseType();
+            double volume = record.getWeight() != null && record.getReps() != null
+                ? record.getWeight() * record.getReps() : 0.0;
+
+            String category = exerciseType.getCategory().name();
+            add(deltas, new Bucket(BucketType.CATEGORY, category), category, 1.0, volume);
+            for (MuscleGroups.Muscle muscle : muscles(exerciseType.getMuscleGroup())) {
+                double weight = muscle.secondary() ? SECONDARY_WEIGHT : 1.0;
+                add(deltas, new Bucket(BucketType.MUSCLE, muscle.key()), muscle.name(), weight, volume * weight);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Bucket, MuscleLoadDaily> rows = new HashMap<>();
+        for (MuscleLoadDaily row : muscleLoadDailyRepository.findByUser_IdAndDay(user.getId(), day)) {
+            rows.put(new Bucket(row.getBucketType(), row.getBucketKey()), row);
+        }
+
+        List<MuscleLoadDaily> changed = new ArrayList<>();
+        List<MuscleLoadDaily> emptied = new ArrayList<>();
+        deltas.forEach((bucket, delta) -> {
+            MuscleLoadDaily row = rows.get(bucket);
+            if (row == null) {
+                if (sign < 0) {
+                    return;
+                }
+                row = MuscleLoadDaily.builder()
+                    .user(user)
+                    .day(day)
+                    .bucketType(bucket.type())
+                    .bucketKey(bucket.key())
+                    .bucketName(delta.name)
+                    .sets(0.0)
+                    .volume(0.0)
+                    .build();
+            }
+            row.setSets(row.getSets() + sign * delta.sets);
+            row.setVolume(Math.max(0.0, row.getVolume() + sign * delta.volume));
+            if (row.getSets() <= EPSILON) {
+                if (row.getId() != null) {
+                    emptied.add(row);
+                }
+            } else {
+                changed.add(row);
+            }
+        });
+        muscleLoadDailyRepository.saveAll(changed);
+        muscleLoadDailyRepository.deleteAll(emptied);
+    }
+
+    @Transactional(readOnly = true)
+    public MuscleLoadDTO getMuscleLoad(String username, String tz) {
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        LocalDate today = LocalDate.now(ZoneId.of(tz));
+        LocalDate chronicStart = today.minusDays(CHRONIC_DAYS - 1);
+        LocalDate acuteStart = today.minusDays(ACUTE_DAYS - 1);
+
+        // 운동하지 않은 부위도 보이도록 카테고리와 카탈로그의 주동근을 0으로 미리 채움
+        Map<Bucket, MuscleLoadDTO.BucketLoad> loads = new LinkedHashMap<>();
+        for (ExerciseType.ExerciseCategory category : ExerciseType.ExerciseCategory.values()) {
+            loads.put(new Bucket(BucketType.CATEGORY, category.name()), emptyLoad(category.name(), category.name()));
+        }
+        for (ExerciseTypeDTO exercise : exerciseCatalog.snapshot().exercises()) {
+            for (MuscleGroups.Muscle muscle : muscles(exercise.getMuscleGroup())) {
+                if (!muscle.secondary()) {
+                    loads.putIfAbsent(new Bucket(BucketType.MUSCLE, muscle.key()), emptyLoad(muscle.key(), muscle.name()));
+                }
+            }
+        }
+
+        Map<Bucket, Double> fatigue = new HashMap<>();
+        for (MuscleLoadDaily row : muscleLoadDailyRepository.findByUser_IdAndDayGreaterThanEqual(user.getId(), chronicStart)) {
+            if (row.getDay().isAfter(today)) {
+                continue;
+            }
+            Bucket bucket = new Bucket(row.getBucketType(), row.getBucketKey());
+            MuscleLoadDTO.BucketLoad load = loads.computeIfAbsent(bucket,
+                b -> emptyLoad(row.getBucketKey(), row.getBucketName()));
+            load.setSets28d(load.getSets28d() + row.getSets());
+            load.setVolume28d(load.getVolume28d() + row.getVolume());
+            if (!row.getDay().isBefore(acuteStart)) {
+                load.setSets7d(load.getSets7d() + row.getSets());
+                load.setVolume7d(load.getVolume7d() + row.getVolume());
+                long age = ChronoUnit.DAYS.between(row.getDay(), today);
+                fatigue.merge(bucket, row.getSets() * Math.pow(0.5, age / FATIGUE_HALF_LIFE_DAYS), Double::sum);
+            }
+            if (load.getLastTrained() == null || row.getDay().isAfter(load.getLastTrained())) {
+                load.setLastTrained(row.getDay());
+            }
+        }
+
+        List<MuscleLoadDTO.BucketLoad> categories = new ArrayList<>();
+        List<MuscleLoadDTO.BucketLoad> muscles = new ArrayList<>();
+        loads.forEach((bucket, load) -> {
+            double chronicWeekly = load.getSets28d() / (CHRONIC_DAYS / 7.0);
+            load.setAcuteChronicRatio(chronicWeekly > 0 ? round(load.getSets7d() / chronicWeekly) : null);
+            load.setRecoveryScore((int) Math.round(100 / (1 + fatigue.getOrDefault(bucket, 0.0) / FATIGUE_SCALE)));
+            load.setSets7d(round(load.getSets7d()));
+            load.setSets28d(round(load.getSets28d()));
+            load.setVolume7d(round(load.getVolume7d()));
+            load.setVolume28d(round(load.getVolume28d()));
+            if (bucket.type() == BucketType.CATEGORY) {
+                if (!NON_STRENGTH.contains(ExerciseType.ExerciseCategory.valueOf(bucket.key()))) {
+                    load.setStatus(status(load.getSets7d()));
+                }
+                categories.add(load);
+            } else {
+                load.setStatus(status(load.getSets7d()));
+                muscles.add(load);
+            }
+        });
+        muscles.sort(Comparator.comparing(MuscleLoadDTO.BucketLoad::getSets7d).reversed());
+
+        return MuscleLoadDTO.builder()
+            .asOf(today)
+            .categories(categories)
+            .muscles(muscles)
+            .build();
+    }
+
+    private List<MuscleGroups.Muscle> muscles(String muscleGroup) {
+        if (muscleGroup == null) {
+            return List.of();
+        }
+        return parsedMuscles.computeIfAbsent(muscleGroup, group -> List.copyOf(MuscleGroups.parse(group)));
+    }
+
+    private static void add(Map<Bucket, Delta> deltas, Bucket bucket, String name, double sets, double volume) {
+        Delta delta = deltas.computeIfAbsent(bucket, b -> new Delta(name));
+        delta.sets += sets;
+        delta.volume += volume;
+    }
+
+    private static MuscleLoadDTO.BucketLoad emptyLoad(String key, String name) {
+        return MuscleLoadDTO.BucketLoad.builder()
+            .key(key)
+            .name(name)
+            .sets7d(0.0)
+            .sets28d(0.0)
+            .volume7d(0.0)
+            .volume28d(0.0)
+            .build();
+    }
+
+    private static String status(double weeklySets) {
+        if (weeklySets < WEEKLY_SETS_MIN) {
+            return "UNDERTRAINED";
+        }
+        return weeklySets > WEEKLY_SETS_MAX ? "HIGH" : "OPTIMAL";
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.workout.service;
+
+import com.example.workout.archive.ArchivedSet;
+import com.example.workout.dto.PersonalRecordDTO;
+import com.example.workout.entity.ExerciseRecord;
+import com.example.workout.entity.ExerciseType;
+import com.example.workout.entity.PersonalRecord;
+import com.example.workout.entity.PersonalRecord.RecordType;
+import com.example.workout.entity.User;
+import com.example.workout.entity.WorkoutSession;
+import com.example.workout.exception.UserNotFoundException;
+import com.example.workout.repository.ExerciseRecordRepository;
+import com.example.workout.repository.PersonalRecordRepository;
+import com.example.workout.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 개인 기록(PR) 인덱스
+ * - 세션 저장 트랜잭션 안에서 해당 세션의 세트만 기존 기록과 비교하여 갱신 (이력 스캔 없음)
+ * - 세션 삭제 시 그 세션이 세운 기록만 남은 이력에서 상위 1건 쿼리로 다시 계산 (보관된 세트도 후보로 비교)
+ * - 처음 기록하는 종목/중량은 기준값으로만 저장하고 "새 기록"으로 보고하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class PersonalRecordService {
+    private static final double EPSILON = 1e-6;
+    private static final double NO_WEIGHT_KEY = 0.0;
+    private static final int MAX_REPS_FOR_E1RM = 12;
+    private static final Pageable TOP_ONE = PageRequest.of(0, 1);
+
+    private final PersonalRecordRepository personalRecordRepository;
+    private final ExerciseRecordRepository exerciseRecordRepository;
+    private final UserRepository userRepository;
+    private final SessionArchiveService archiveService;
+
+    /**
+     * 세션의 세트로 개인 기록 갱신 (createSession 트랜잭션 안에서 호출)
+     *
+     * @return 이번 세션에서 갱신된 기록
+     */
+    @Transactional
+    public List<PersonalRecordDTO> applySession(User user, WorkoutSession session, List<ExerciseRecord> records) {
+        Map<Long, List<ExerciseRecord>> byExercise = new LinkedHashMap<>();
+        for (ExerciseRecord record : records) {
+            if (record.getWeight() != null && record.getWeight() > 0 && record.getReps() != null) {
+                byExercise.computeIfAbsent(record.getExerciseType().getId(), id -> new ArrayList<>()).add(record);
+            }
+        }
+        if (byExercise.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, PersonalRecord> existing = new HashMap<>();
+        for (PersonalRecord pr : personalRecordRepository.findByUser_IdAndExerciseType_IdIn(user.getId(), byExercise.keySet())) {
+            existing.put(key(pr.getExerciseType().getId(), pr.getRecordType(), pr.getWeightKey()), pr);
+        }
+
+        List<PersonalRecordDTO> broken = new ArrayList<>();
+        List<PersonalRecord> changed = new ArrayList<>();
+        Upsert upsert = new Upsert(user, session, existing, changed, broken);
+        byExercise.forEach((exerciseId, sets) -> {
+            ExerciseType exerciseType = sets.get(0).getExerciseType();
+            ExerciseRecord heaviest = null;
+            ExerciseRecord bestE1rmSet = null;
+            double bestE1rm = 0;
+            double volume = 0;
+            Map<Double, ExerciseRecord> mostRepsAtWeight = new HashMap<>();
+            for (ExerciseRecord set : sets) {
+                if (heaviest == null || set.getWeight() > heaviest.getWeight()
+                        || (set.getWeight().equals(heaviest.getWeight()) && set.getReps() > heaviest.getReps())) {
+                    heaviest = set;
+                }
+                Double e1rm = epley(set.getWeight(), set.getReps());
+                if (e1rm != null && e1rm > bestE1rm) {
+                    bestE1rm = e1rm;
+                    bestE1rmSet = set;
+                }
+                mostRepsAtWeight.merge(set.getWeight(), set, (a, b) -> b.getReps() > a.getReps() ? b : a);
+                volume += set.getWeight() * set.getReps();
+            }
+
+            upsert.apply(exerciseType, RecordType.MAX_WEIGHT, NO_WEIGHT_KEY,
+                heaviest.getWeight(), heaviest.getWeight(), heaviest.getReps());
+            if (bestE1rmSet != null) {
+                upsert.apply(exerciseType, RecordType.MAX_E1RM, NO_WEIGHT_KEY,
+                    round(bestE1rm), bestE1rmSet.getWeight(), bestE1rmSet.getReps());
+            }
+            upsert.apply(exerciseType, RecordType.MAX_SESSION_VOLUME, NO_WEIGHT_KEY, volume, null, null);
+            mostRepsAtWeight.forEach((weight, set) -> upsert.apply(exerciseType, RecordType.MAX_REPS_AT_WEIGHT,
+                weight, set.getReps().doubleValue(), weight, set.getReps()));
+        });
+
+        personalRecordRepository.saveAll(changed);
+        return broken;
+    }
+
+    /**
+     * 삭제된 세션이 세운 기록을 남은 이력으로 복구 (deleteSession 트랜잭션 안에서 호출)
+     */
+    @Transactional
+    public void repairAfterDelete(Long userId, Long sessionId) {
+        List<PersonalRecord> affected = personalRecordRepository.findByUser_IdAndSessionId(userId, sessionId);
+        for (PersonalRecord pr : affected) {
+            Long exerciseId = pr.getExerciseType().getId();
+            List<Object[]> top = switch (pr.getRecordType()) {
+                case MAX_WEIGHT -> exerciseRecordRepository.findHeaviestSets(userId, exerciseId, sessionId, TOP_ONE);
+                case MAX_E1RM -> exerciseRecordRepository.findBestEstimatedOneRepMaxSets(userId, exerciseId, sessionId, TOP_ONE);
+                case MAX_REPS_AT_WEIGHT -> exerciseRecordRepository.findMostRepsAtWeight(
+                    userId, exerciseId, pr.getWeightKey(), sessionId, TOP_ONE);
+                case MAX_SESSION_VOLUME -> exerciseRecordRepository.findBestSessionVolumes(userId, exerciseId, sessionId, TOP_ONE);
+            };
+            Optional<Object[]> best = bestWithArchive(pr, top, archiveService.exerciseSets(userId, exerciseId), sessionId);
+            if (best.isEmpty()) {
+                personalRecordRepository.delete(pr);
+                continue;
+            }
+            Object[] row = best.get();
+            if (pr.getRecordType() == RecordType.MAX_SESSION_VOLUME) {
+                pr.setValue(((Number) row[0]).doubleValue());
+                pr.setSessionId((Long) row[1]);
+                pr.setAchievedAt((LocalDateTime) row[2]);
+            } else {
+                double weight = ((Number) row[0]).doubleValue();
+                int reps = ((Number) row[1]).intValue();
+                pr.setValue(switch (pr.getRecordType()) {
+                    case MAX_E1RM -> round(epley(weight, reps));
+                    case MAX_REPS_AT_WEIGHT -> (double) reps;
+                    default -> weight;
+                });
+                pr.setWeight(weight);
+                pr.setReps(reps);
+                pr.setSessionId((Long) row[2]);
+                pr.setAchievedAt((LocalDateTime) row[3]);
+            }
+        }
+    }
+
+    /**
+     * DB 상위 1건과 보관 세트 중 더 나은 기록 (행 모양은 repairAfterDelete 쿼리와 같음, 동률이면 먼저 달성한 기록)
+     */
+    static Optional<Object[]> bestWithArchive(PersonalRecord pr, List<Object[]> top, List<ArchivedSet> archived,
+                                              Long excludedSessionId) {
+        List<Object[]> candidates = new ArrayList<>(top);
+        if (pr.getRecordType() == RecordType.MAX_SESSION_VOLUME) {
+            Map<Long, Object[]> bySession = new LinkedHashMap<>();
+            for (ArchivedSet set : archived) {
+                if (set.sessionId() == excludedSessionId || set.weight() == null || set.weight() <= 0) {
+                    continue;
+                }
+                Object[] row = bySession.computeIfAbsent(set.sessionId(),
+                    id -> new Object[]{0.0, id, set.sessionDate()});
+                row[0] = (Double) row[0] + set.weight() * set.reps();
+            }
+            candidates.addAll(bySession.values());
+        } else {
+            for (ArchivedSet set : archived) {
+                if (set.sessionId() == excludedSessionId || set.weight() == null || set.weight() <= 0) {
+                    continue;
+                }
+                boolean eligible = switch (pr.getRecordType()) {
+                    case MAX_E1RM -> set.reps() <= MAX_REPS_FOR_E1RM;
+                    case MAX_REPS_AT_WEIGHT -> Math.abs(set.weight() - pr.getWeightKey()) < EPSILON;
+                    default -> true;
+                };
+                if (eligible) {
+                    candidates.add(new Object[]{set.weight(), set.reps(), set.sessionId(), set.sessionDate()});
+                }
+            }
+        }
+        Comparator<Object[]> byDate = Comparator.comparing(row -> (LocalDateTime) row[row.length - 1]);
+        Comparator<Object[]> ranking = switch (pr.getRecordType()) {
+            case MAX_WEIGHT -> Comparator.<Object[]>comparingDouble(row -> -((Number) row[0]).doubleValue())
+                .thenComparingInt(row -> -((Number) row[1]).intValue())
+                .thenComparing(byDate);
+            case MAX_E1RM -> Comparator.<Object[]>comparingDouble(
+                    row -> -epley(((Number) row[0]).doubleValue(), ((Number) row[1]).intValue()))
+                .thenComparing(byDate);
+            case MAX_REPS_AT_WEIGHT -> Comparator.<Object[]>comparingInt(row -> -((Number) row[1]).intValue())
+                .thenComparing(byDate);
+            case MAX_SESSION_VOLUME -> Comparator.<Object[]>comparingDouble(row -> -((Number) row[0]).doubleValue())
+                .thenComparing(byDate);
+        };
+        return candidates.stream().min(ranking);
+    }
+
+    /**
+     * 개인 기록 조회 (exerciseId가 없으면 전체 종목의 대표 기록, 있으면 중량별 횟수 기록 포함)
+     */
+    @Transactional(readOnly = true)
+    public List<PersonalRecordDTO> getPersonalRecords(String username, Long exerciseId) {
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        List<PersonalRecord> records = exerciseId != null
+            ? personalRecordRepository.findByUserIdAndExerciseId(user.getId(), exerciseId)
+            : personalRecordRepository.findSummaryByUserId(user.getId());
+        return records.stream().map(pr -> toDTO(pr, null)).toList();
+    }
+
+    /**
+     * Epley 추정 1RM (1회는 중량 그대로, 12회 초과는 추정하지 않음)
+     */
+    static Double epley(double weight, int reps) {
+        if (reps < 1 || reps > MAX_REPS_FOR_E1RM) {
+            return null;
+        }
+        return reps == 1 ? weight : weight * (1 + reps / 30.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    private static String key(Long exerciseId, RecordType type, Double weightKey) {
+        return exerciseId + ":" + type + ":" + weightKey;
+    }
+
+    private static PersonalRecordDTO toDTO(PersonalRecord pr, Double previousValue) {
+        return PersonalRecordDTO.builder()
+            .exerciseId(pr.getExerciseType().getId())
+            .exerciseName(pr.getExerciseType().getName())
+            .recordType(pr.getRecordType())
+            .value(pr.getValue())
+            .previousValue(previousValue)
+            .weight(pr.getWeight())
+            .reps(pr.getReps())
+            .sessionId(pr.getSessionId())
+            .achievedAt(pr.getAchievedAt().toLocalDate())
+            .build();
+    }
+
+    /**
+     * 기존 기록과 비교하여 신규 생성 / 갱신 (갱신된 것만 broken에 추가)
+     */
+    private record Upsert(User user, WorkoutSession session, Map<String, PersonalRecord> existing,
+                          List<PersonalRecord> changed, List<PersonalRecordDTO> broken) {
+
+        void apply(ExerciseType exerciseType, RecordType type, double weightKey,
+                   double value, Double weight, Integer reps) {
+            PersonalRecord current = existing.get(key(exerciseType.getId(), type, weightKey));
+            if (current == null) {
+                PersonalRecord created = PersonalRecord.builder()
+                    .user(user)
+                    .exerciseType(exerciseType)
+                    .recordType(type)
+                    .weightKey(weightKey)
+                    .value(value)
+                    .weight(weight)
+                    .reps(reps)
+                    .sessionId(session.getId())
+                    .achievedAt(session.getDate())
+                    .build();
+                existing.put(key(exerciseType.getId(), type, weightKey), created);
+                changed.add(created);
+                return;
+            }
+            if (value <= current.getValue() + EPSILON) {
+                return;
+            }
+            double previous = current.getValue();
+            current.setValue(value);
+            current.setWeight(weight);
+            current.setReps(reps);
+            current.setSessionId(session.getId());
+            current.setAchievedAt(session.getDate());
+            changed.add(current);
+            broken.add(toDTO(current, previous));
+        }
+    }
+}
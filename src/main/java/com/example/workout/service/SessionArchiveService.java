@@ -0,0 +1,307 @@
+package com.example.workout.service;
+
+import com.example.workout.archive.ArchivedSet;
+import com.example.workout.archive.SessionArchiveCodec;
+import com.example.workout.dto.ExerciseRecordDTO;
+import com.example.workout.dto.ExerciseTypeDTO;
+import com.example.workout.dto.WorkoutSessionDTO;
+import com.example.workout.entity.ExerciseRecord;
+import com.example.workout.entity.SessionArchive;
+import com.example.workout.entity.WorkoutSession;
+import com.example.workout.repository.ExerciseRecordRepository;
+import com.example.workout.repository.ExerciseTypeRepository;
+import com.example.workout.repository.SessionArchiveRepository;
+import com.example.workout.repository.UserRepository;
+import com.example.workout.repository.WorkoutSessionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 오래된 세션의 세트 기록 보관 (hot/cold 분리)
+ * - archive.after-days보다 오래된 세션의 exercise_records를 사용자×연도 블롭(session_archives)으로 옮김
+ * - 세션 헤더와 합계 컬럼은 그대로 두므로 대시보드/주간 집계/연속 운동은 변경 없음
+ *   (기록을 지우기 전에 합계를 보관할 세트로 다시 채움, 보관 후에는 기록으로 재계산할 수 없음)
+ * - 보관 대상 세션은 PESSIMISTIC_WRITE로 잠가 같은 세션의 동시 삭제와 엇갈리지 않게 함
+ * - 세션 상세/목록, 성장 추이, 개인 기록/마지막 수행 복구는 이 서비스로 보관분을 함께 읽음
+ * - 디코딩 결과는 (보관 id, version) 키로 로컬 캐시 (블롭이 바뀌면 version이 올라 새 키, 무효화 불필요)
+ */
+@Service
+public class SessionArchiveService {
+    private static final int BATCH_SIZE = 500;
+    private static final long MAX_CACHED_SETS = 2_000_000;
+
+    private final SessionArchiveRepository archiveRepository;
+    private final WorkoutSessionRepository sessionRepository;
+    private final ExerciseRecordRepository recordRepository;
+    private final ExerciseTypeRepository exerciseTypeRepository;
+    private final UserRepository userRepository;
+    private final ExerciseCatalog exerciseCatalog;
+    private final int afterDays;
+    private final Cache<String, Decoded> decoded = Caffeine.newBuilder()
+        .maximumWeight(MAX_CACHED_SETS)
+        .weigher((String key, Decoded value) -> Math.max(1, value.sets().size()))
+        .build();
+
+    /**
+     * 디코딩된 연도 블롭 (세션 날짜순, 불변)
+     */
+    record Decoded(List<ArchivedSet> sets, Map<Long, List<ArchivedSet>> bySession) {
+        static Decoded of(List<ArchivedSet> sets) {
+            Map<Long, List<ArchivedSet>> bySession = new HashMap<>();
+            for (ArchivedSet set : sets) {
+                bySession.computeIfAbsent(set.sessionId(), id -> new ArrayList<>()).add(set);
+            }
+            return new Decoded(List.copyOf(sets), bySession);
+        }
+    }
+
+    public SessionArchiveService(SessionArchiveRepository archiveRepository,
+                                 WorkoutSessionRepository sessionRepository,
+                                 ExerciseRecordRepository recordRepository,
+                                 ExerciseTypeRepository exerciseTypeRepository,
+                                 UserRepository userRepository,
+                                 ExerciseCatalog exerciseCatalog,
+                                 @Value("${archive.after-days:365}") int afterDays) {
+        this.archiveRepository = archiveRepository;
+        this.sessionRepository = sessionRepository;
+        this.recordRepository = recordRepository;
+        this.exerciseTypeRepository = exerciseTypeRepository;
+        this.userRepository = userRepository;
+        this.exerciseCatalog = exerciseCatalog;
+        this.afterDays = afterDays;
+    }
+
+    /**
+     * 사용자의 보관 대상 세션을 연도별 블롭에 병합하고 원본 기록을 삭제 (백필 작업에서 사용자 단위 트랜잭션으로 호출)
+     *
+     * @return 보관한 세션 수
+     */
+    @Transactional
+    public int archiveUser(Long userId) {
+        LocalDateTime cutoff = LocalDate.now().minusDays(afterDays).atStartOfDay();
+        Map<Integer, List<WorkoutSession>> sessionsByYear = new TreeMap<>();
+        for (WorkoutSession session : sessionRepository.findArchivableForUpdate(userId, cutoff)) {
+            sessionsByYear.computeIfAbsent(session.getDate().getYear(), year -> new ArrayList<>()).add(session);
+        }
+
+        int archived = 0;
+        for (Map.Entry<Integer, List<WorkoutSession>> entry : sessionsByYear.entrySet()) {
+            List<WorkoutSession> sessions = entry.getValue();
+            List<Long> sessionIds = sessions.stream().map(WorkoutSession::getId).toList();
+            List<ArchivedSet> added = new ArrayList<>();
+            for (List<Long> batch : batches(sessionIds)) {
+                for (Object[] row : recordRepository.findArchiveRows(batch)) {
+                    added.add(toArchivedSet(row));
+                }
+            }
+
+            SessionArchive archive = archiveRepository.findByUser_IdAndArchiveYear(userId, entry.getKey())
+                .orElseGet(() -> SessionArchive.builder()
+                    .user(userRepository.getReferenceById(userId))
+                    .archiveYear(entry.getKey())
+                    .build());
+            List<ArchivedSet> merged = new ArrayList<>(added);
+            if (archive.getPayload() != null) {
+                merged.addAll(SessionArchiveCodec.decode(archive.getPayload()));
+            }
+            merged.sort(SessionArchiveCodec.ORDER);
+            archive.setPayload(SessionArchiveCodec.encode(merged));
+            archive.setSessionCount(archive.getSessionCount() + sessionIds.size());
+            archive.setRecordCount(merged.size());
+            archive.setUpdatedAt(LocalDateTime.now());
+            archiveRepository.save(archive);
+
+            applyTotals(sessions, added);
+            for (List<Long> batch : batches(sessionIds)) {
+                recordRepository.deleteBySessionIdIn(batch);
+            }
+            // 커밋 시 @Version이 올라 세션 JSON 조각 캐시도 새 키가 됨
+            sessions.forEach(session -> session.setArchived(true));
+            archived += sessionIds.size();
+        }
+        return archived;
+    }
+
+    /**
+     * 합계 컬럼이 비어 있는 보관 세션을 블롭의 세트로 채움 (session-totals 백필, refreshTotalsByUserId는 보관 세션을 건너뜀)
+     */
+    @Transactional
+    public int fillMissingTotals(Long userId) {
+        List<WorkoutSession> sessions = sessionRepository.findArchivedWithoutTotals(userId);
+        if (!sessions.isEmpty()) {
+            applyTotals(sessions, userSets(userId));
+        }
+        return sessions.size();
+    }
+
+    /**
+     * 세트로 세션 합계 컬럼 계산 (refreshTotalsByUserId와 같은 규칙: 볼륨은 중량 있는 세트만, 세트가 없으면 0)
+     */
+    static void applyTotals(List<WorkoutSession> sessions, List<ArchivedSet> sets) {
+        Map<Long, List<ArchivedSet>> bySession = new HashMap<>();
+        for (ArchivedSet set : sets) {
+            bySession.computeIfAbsent(set.sessionId(), id -> new ArrayList<>()).add(set);
+        }
+        for (WorkoutSession session : sessions) {
+            List<ArchivedSet> sessionSets = bySession.getOrDefault(session.getId(), List.of());
+            double volume = 0;
+            Set<Long> exerciseIds = new HashSet<>();
+            for (ArchivedSet set : sessionSets) {
+                if (set.weight() != null) {
+                    volume += set.weight() * set.reps();
+                }
+                exerciseIds.add(set.exerciseId());
+            }
+            session.setTotalVolume(volume);
+            session.setTotalSets(sessionSets.size());
+            session.setExerciseCount(exerciseIds.size());
+        }
+    }
+
+    /**
+     * 보관된 세션이면 DTO의 세트 목록을 블롭에서 채움 (종목 이름은 카탈로그에서)
+     */
+    public WorkoutSessionDTO fill(WorkoutSession session, WorkoutSessionDTO dto) {
+        if (!session.isArchived()) {
+            return dto;
+        }
+        ExerciseCatalog.Snapshot catalog = exerciseCatalog.snapshot();
+        List<ExerciseRecordDTO> records = new ArrayList<>();
+        for (ArchivedSet set : sessionSets(session)) {
+            ExerciseTypeDTO exercise = catalog.findById(set.exerciseId());
+            records.add(new ExerciseRecordDTO(set.recordId(), set.exerciseId(),
+                exercise != null ? exercise.getName() : null,
+                set.setNumber(), set.reps(), set.weight(), set.duration(), set.rpe()));
+        }
+        dto.setExercisesPerformed(records);
+        return dto;
+    }
+
+    /**
+     * 보관된 세션의 세트 (보관되지 않은 세션이면 빈 목록)
+     */
+    public List<ArchivedSet> sessionSets(WorkoutSession session) {
+        if (!session.isArchived()) {
+            return List.of();
+        }
+        int year = session.getDate().getYear();
+        for (Object[] row : archiveRepository.findVersionsByUserId(session.getUser().getId())) {
+            if (((Number) row[1]).intValue() == year) {
+                return load(row).bySession().getOrDefault(session.getId(), List.of());
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 보관된 세션 삭제 전: 블롭에서 세트를 빼고, 롤업 복구용 비영속 기록으로 돌려줌
+     */
+    @Transactional
+    public List<ExerciseRecord> removeSession(WorkoutSession session) {
+        if (!session.isArchived()) {
+            return List.of();
+        }
+        Optional<SessionArchive> found = archiveRepository.findByUser_IdAndArchiveYear(
+            session.getUser().getId(), session.getDate().getYear());
+        if (found.isEmpty()) {
+            return List.of();
+        }
+        SessionArchive archive = found.get();
+        List<ArchivedSet> remaining = new ArrayList<>();
+        List<ExerciseRecord> removed = new ArrayList<>();
+        for (ArchivedSet set : SessionArchiveCodec.decode(archive.getPayload())) {
+            if (set.sessionId() == session.getId()) {
+                removed.add(set.toRecord(session, exerciseTypeRepository.getReferenceById(set.exerciseId())));
+            } else {
+                remaining.add(set);
+            }
+        }
+        if (archive.getSessionCount() <= 1) {
+            archiveRepository.delete(archive);
+        } else {
+            archive.setPayload(SessionArchiveCodec.encode(remaining));
+            archive.setSessionCount(archive.getSessionCount() - 1);
+            archive.setRecordCount(remaining.size());
+            archive.setUpdatedAt(LocalDateTime.now());
+        }
+        return removed;
+    }
+
+    /**
+     * 사용자+종목의 보관된 세트 (세션 날짜순)
+     */
+    public List<ArchivedSet> exerciseSets(Long userId, Long exerciseId) {
+        return exerciseSets(userId, exerciseId, LocalDateTime.MIN, LocalDateTime.MAX);
+    }
+
+    /**
+     * 사용자+종목의 [start, end) 구간 보관 세트 (세션 날짜순, 구간 밖 연도 블롭은 읽지 않음)
+     */
+    public List<ArchivedSet> exerciseSets(Long userId, Long exerciseId, LocalDateTime start, LocalDateTime end) {
+        List<ArchivedSet> result = new ArrayList<>();
+        for (Object[] row : archiveRepository.findVersionsByUserId(userId)) {
+            int year = ((Number) row[1]).intValue();
+            if (year < start.getYear() || year > end.getYear()) {
+                continue;
+            }
+            for (ArchivedSet set : load(row).sets()) {
+                if (set.exerciseId() == exerciseId
+                    && !set.sessionDate().isBefore(start) && set.sessionDate().isBefore(end)) {
+                    result.add(set);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자의 보관된 세트 전체 (세션 날짜순)
+     */
+    public List<ArchivedSet> userSets(Long userId) {
+        List<ArchivedSet> result = new ArrayList<>();
+        for (Object[] row : archiveRepository.findVersionsByUserId(userId)) {
+            result.addAll(load(row).sets());
+        }
+        return result;
+    }
+
+    /**
+     * findVersionsByUserId 행 (id, archiveYear, version)의 디코딩 결과
+     */
+    private Decoded load(Object[] row) {
+        Long id = (Long) row[0];
+        return decoded.get(id + ":" + ((Number) row[2]).longValue(), key -> Decoded.of(
+            archiveRepository.findPayloadById(id).map(SessionArchiveCodec::decode).orElse(List.of())));
+    }
+
+    /**
+     * findArchiveRows 행 (id, sessionId, date, exerciseId, setNumber, reps, weight, duration, rpe)
+     */
+    private static ArchivedSet toArchivedSet(Object[] row) {
+        return new ArchivedSet(
+            (Long) row[0],
+            (Long) row[1],
+            (LocalDateTime) row[2],
+            (Long) row[3],
+            ((Number) row[4]).intValue(),
+            ((Number) row[5]).intValue(),
+            row[6] != null ? ((Number) row[6]).doubleValue() : null,
+            row[7] != null ? ((Number) row[7]).intValue() : null,
+            row[8] != null ? ((Number) row[8]).doubleValue() : null);
+    }
+
+    private static List<List<Long>> batches(List<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            batches.add(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+        }
+        return batches;
+    }
+}
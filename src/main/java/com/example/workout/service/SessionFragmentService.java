@@ -0,0 +1,145 @@
+package com.example.workout.service;
+
+import com.example.workout.entity.User;
+import com.example.workout.entity.WorkoutSession;
+import com.example.workout.exception.ResourceNotFoundException;
+import com.example.workout.exception.UserNotFoundException;
+import com.example.workout.mapper.WorkoutSessionMapper;
+import com.example.workout.repository.UserRepository;
+import com.example.workout.repository.WorkoutSessionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 세션 JSON 조각 캐시 (세션 목록/상세의 JSON 응답 전용)
+ * - 세션별 직렬화 결과(byte[])를 (id, version, 카탈로그 ETag) 키로 sessionFragments 캐시에 보관
+ * - 목록은 (id, version)만 조회한 뒤 캐시된 조각을 이어 붙이고, 미스만 기록까지 조회해 매핑/직렬화
+ * - 세션이 바뀌면 version이 올라 새 키가 되므로 무효화하지 않음 (옛 조각은 용량 제한으로 밀려남)
+ */
+@Service
+@RequiredArgsConstructor
+public class SessionFragmentService {
+    public static final String CACHE_NAME = "sessionFragments";
+
+    private static final int FETCH_BATCH_SIZE = 100;
+
+    private final WorkoutSessionRepository sessionRepository;
+    private final UserRepository userRepository;
+    private final WorkoutSessionMapper sessionMapper;
+    private final ExerciseCatalog exerciseCatalog;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final SessionArchiveService archiveService;
+
+    /**
+     * 세션 목록 JSON 배열 (WorkoutSessionService.getUserSessions / getUserSessionsByDateRange와 같은 범위와 순서)
+     */
+    @Transactional(readOnly = true)
+    public byte[] getUserSessionsJson(String username, String startDateStr, String endDateStr) {
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        List<Object[]> versions = startDateStr != null && endDateStr != null
+            ? sessionRepository.findVersionsByUserIdAndDateBetween(user.getId(),
+                LocalDate.parse(startDateStr).atStartOfDay(), LocalDate.parse(endDateStr).atTime(23, 59, 59))
+            : sessionRepository.findVersionsByUserId(user.getId(), PageRequest.of(0, 100));
+
+        String catalogEtag = exerciseCatalog.snapshot().etag();
+        Cache cache = cache();
+        List<byte[]> fragments = new ArrayList<>(versions.size());
+        Map<Long, Integer> misses = new LinkedHashMap<>();
+        for (Object[] row : versions) {
+            Long id = (Long) row[0];
+            byte[] fragment = cache.get(key(id, ((Number) row[1]).longValue(), catalogEtag), byte[].class);
+            if (fragment == null) {
+                misses.put(id, fragments.size());
+            }
+            fragments.add(fragment);
+        }
+
+        List<Long> missIds = new ArrayList<>(misses.keySet());
+        for (int from = 0; from < missIds.size(); from += FETCH_BATCH_SIZE) {
+            List<Long> batch = missIds.subList(from, Math.min(from + FETCH_BATCH_SIZE, missIds.size()));
+            for (WorkoutSession session : sessionRepository.findWithRecordsByIdIn(batch)) {
+                fragments.set(misses.get(session.getId()), render(cache, session, catalogEtag));
+            }
+        }
+        return join(fragments);
+    }
+
+    @Transactional(readOnly = true)
+    public byte[] getSessionJson(Long sessionId, String username) {
+        Long version = sessionRepository.findVersionByIdAndUsername(sessionId, username)
+            .orElseThrow(() -> new ResourceNotFoundException("운동 세션을 찾을 수 없거나 접근 권한이 없습니다."));
+        String catalogEtag = exerciseCatalog.snapshot().etag();
+        Cache cache = cache();
+        byte[] fragment = cache.get(key(sessionId, version, catalogEtag), byte[].class);
+        if (fragment != null) {
+            return fragment;
+        }
+        WorkoutSession session = sessionRepository.findByIdAndUser_Username(sessionId, username)
+            .orElseThrow(() -> new ResourceNotFoundException("운동 세션을 찾을 수 없거나 접근 권한이 없습니다."));
+        return render(cache, session, catalogEtag);
+    }
+
+    private byte[] render(Cache cache, WorkoutSession session, String catalogEtag) {
+        try {
+            byte[] fragment = objectMapper.writeValueAsBytes(
+                archiveService.fill(session, sessionMapper.toDTO(session)));
+            cache.put(key(session.getId(), session.getVersion(), catalogEtag), fragment);
+            return fragment;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("세션 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 조각을 JSON 배열로 이어 붙임 (조회 사이에 삭제되어 비어 있는 조각은 건너뜀)
+     */
+    static byte[] join(List<byte[]> fragments) {
+        int count = 0;
+        int length = 2;
+        for (byte[] fragment : fragments) {
+            if (fragment != null) {
+                length += fragment.length;
+                count++;
+            }
+        }
+        byte[] result = new byte[length + Math.max(0, count - 1)];
+        int position = 0;
+        result[position++] = '[';
+        for (byte[] fragment : fragments) {
+            if (fragment == null) {
+                continue;
+            }
+            if (position > 1) {
+                result[position++] = ',';
+            }
+            System.arraycopy(fragment, 0, result, position, fragment.length);
+            position += fragment.length;
+        }
+        result[position] = ']';
+        return result;
+    }
+
+    // 종목 이름이 조각에 들어가므로 카탈로그가 바뀌면 새 키
+    private static String key(Long sessionId, long version, String catalogEtag) {
+        return sessionId + ":" + version + ":" + catalogEtag;
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+}
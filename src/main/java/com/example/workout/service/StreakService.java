@@ -0,0 +1,188 @@
+package com.example.workout.service;
+
+import com.example.workout.entity.StreakRun;
+import com.example.workout.entity.User;
+import com.example.workout.entity.UserStreak;
+import com.example.workout.repository.StreakRunRepository;
+import com.example.workout.repository.UserStreakRepository;
+import com.example.workout.repository.WorkoutSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 연속 운동(streak) 상태 관리
+ * - 활동일이 이어진 구간을 user_streak_runs에 한 행씩 저장하고, 대시보드용 요약은 user_streaks 한 행
+ * - 세션 저장: 그 날 앞뒤 구간을 잇거나 늘림 (인덱스 조회 몇 번, 과거 날짜 입력도 동일)
+ * - 세션 삭제: 그 날 다른 세션이 없을 때만, 그 날이 속한 구간 하나를 자르거나 둘로 나눔
+ * - 요약은 마지막 구간과 최장 구간을 인덱스로 한 번씩 읽어 갱신 (이력 스캔 없음)
+ * - 전체 활동일 스캔은 구간이 아직 없는 사용자의 첫 저장과 백필 재구축에서만
+ */
+@Service
+@RequiredArgsConstructor
+public class StreakService {
+    private static final int PAGE_SIZE = 64;
+    private static final LocalDate HISTORY_START = LocalDate.of(2000, 1, 1);
+
+    private final UserStreakRepository userStreakRepository;
+    private final StreakRunRepository streakRunRepository;
+    private final WorkoutSessionRepository sessionRepository;
+
+    /**
+     * 저장된 상태 (구간이 아직 없는 기존 사용자는 첫 세션 저장이나 streak 백필 전까지 비어 있음)
+     */
+    @Transactional(readOnly = true)
+    public Optional<UserStreak> getState(User user) {
+        return userStreakRepository.findByUser_Id(user.getId());
+    }
+
+    /**
+     * 세션 저장 시 호출 (createSession 트랜잭션 안, 세션 저장 이후)
+     */
+    @Transactional
+    public void onSessionCreated(User user, LocalDate day) {
+        Long userId = user.getId();
+        if (!streakRunRepository.existsByUser_Id(userId)) {
+            // 기능 도입 전 사용자: 방금 저장한 세션을 포함해 한 번만 전체 이력으로 구성
+            rebuildState(user);
+            return;
+        }
+        Optional<StreakRun> containing = containing(userId, day);
+        if (containing.isPresent()) {
+            return;
+        }
+
+        Optional<StreakRun> before = streakRunRepository.findByUser_IdAndRunEnd(userId, day.minusDays(1));
+        Optional<StreakRun> after = streakRunRepository.findByUser_IdAndRunStart(userId, day.plusDays(1));
+        if (before.isPresent() && after.isPresent()) {
+            StreakRun merged = before.get();
+            merged.setRunEnd(after.get().getRunEnd());
+            streakRunRepository.delete(after.get());
+            save(merged);
+        } else if (before.isPresent()) {
+            before.get().setRunEnd(day);
+            save(before.get());
+        } else if (after.isPresent()) {
+            after.get().setRunStart(day);
+            save(after.get());
+        } else {
+            save(StreakRun.builder().user(user).runStart(day).runEnd(day).build());
+        }
+        refreshState(user);
+    }
+
+    /**
+     * 세션 삭제 시 호출 (deleteSession 트랜잭션 안, 세션 삭제 이후)
+     */
+    @Transactional
+    public void onSessionDeleted(User user, LocalDate day) {
+        Long userId = user.getId();
+        if (sessionRepository.existsByUser_IdAndDateGreaterThanEqualAndDateLessThan(
+                userId, day.atStartOfDay(), day.plusDays(1).atStartOfDay())) {
+            return;
+        }
+        Optional<StreakRun> found = containing(userId, day);
+        if (found.isEmpty()) {
+            // 구간이 없는 사용자는 백필 전까지 상태도 없음
+            return;
+        }
+
+        StreakRun run = found.get();
+        LocalDate end = run.getRunEnd();
+        if (run.getRunStart().equals(end)) {
+            streakRunRepository.delete(run);
+        } else if (day.equals(run.getRunStart())) {
+            run.setRunStart(day.plusDays(1));
+            save(run);
+        } else if (day.equals(end)) {
+            run.setRunEnd(day.minusDays(1));
+            save(run);
+        } else {
+            run.setRunEnd(day.minusDays(1));
+            save(run);
+            save(StreakRun.builder().user(user).runStart(day.plusDays(1)).runEnd(end).build());
+        }
+        refreshState(user);
+    }
+
+    /**
+     * 구간과 상태를 지우고 전체 활동일로 다시 계산 (백필, 기존 사용자의 첫 저장)
+     */
+    @Transactional
+    public void rebuildState(User user) {
+        streakRunRepository.deleteByUserId(user.getId());
+        for (StreakRun run : scan(user)) {
+            save(run);
+        }
+        refreshState(user);
+    }
+
+    /**
+     * 마지막 구간과 최장 구간으로 요약 행 갱신 (구간이 없으면 삭제)
+     */
+    private void refreshState(User user) {
+        Optional<UserStreak> existing = userStreakRepository.findByUser_Id(user.getId());
+        Optional<StreakRun> current = streakRunRepository.findFirstByUser_IdOrderByRunEndDesc(user.getId());
+        if (current.isEmpty()) {
+            existing.ifPresent(userStreakRepository::delete);
+            return;
+        }
+        StreakRun longest = streakRunRepository.findFirstByUser_IdOrderByLengthDescRunEndDesc(user.getId())
+            .orElse(current.get());
+        UserStreak state = existing.orElseGet(() -> UserStreak.builder().user(user).build());
+        state.setCurrentStart(current.get().getRunStart());
+        state.setLastActiveDay(current.get().getRunEnd());
+        state.setCurrentStreak(current.get().getLength());
+        state.setLongestStart(longest.getRunStart());
+        state.setLongestEnd(longest.getRunEnd());
+        state.setLongestStreak(longest.getLength());
+        userStreakRepository.save(state);
+    }
+
+    private Optional<StreakRun> containing(Long userId, LocalDate day) {
+        return streakRunRepository.findFirstByUser_IdAndRunStartLessThanEqualOrderByRunStartDesc(userId, day)
+            .filter(run -> !day.isAfter(run.getRunEnd()));
+    }
+
+    private void save(StreakRun run) {
+        run.setLength((int) ChronoUnit.DAYS.between(run.getRunStart(), run.getRunEnd()) + 1);
+        streakRunRepository.save(run);
+    }
+
+    /**
+     * 활동일을 오름차순으로 훑어 구간 목록으로 (날짜별 GROUP BY 결과를 키셋 페이지로 읽음)
+     */
+    private List<StreakRun> scan(User user) {
+        List<StreakRun> runs = new ArrayList<>();
+        StreakRun current = null;
+        LocalDate cursor = HISTORY_START;
+        while (true) {
+            List<Object> days = sessionRepository.findActiveDaysFrom(
+                user.getId(), cursor.atStartOfDay(), PageRequest.of(0, PAGE_SIZE));
+            for (Object value : days) {
+                LocalDate day = toLocalDate(value);
+                if (current != null && day.equals(current.getRunEnd().plusDays(1))) {
+                    current.setRunEnd(day);
+                } else {
+                    current = StreakRun.builder().user(user).runStart(day).runEnd(day).build();
+                    runs.add(current);
+                }
+                cursor = day.plusDays(1);
+            }
+            if (days.size() < PAGE_SIZE) {
+                return runs;
+            }
+        }
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof LocalDate ? (LocalDate) value : ((java.sql.Date) value).toLocalDate();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.workout.service;
+
+import com.example.workout.cache.CacheInvalidationBus;
+import com.example.workout.event.RemoteInvalidationEvent;
+import com.example.workout.event.UserDataChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 데이터 버전 관리 (Conditional GET용 ETag 생성)
+ * - 쓰기 트랜잭션 커밋 후 해당 사용자의 버전을 올림
+ * - 버전은 노드 전역 시계(clock)에서 발급하므로 캐시에서 밀려난 사용자도 이전 버전과 겹치지 않음
+ * - 노드 시작 시각(epoch)을 ETag에 포함하여 재시작 후 버전 충돌 방지
+ * - 다른 노드의 변경도 CacheInvalidationBus로 전달받아 버전을 올림 (이 노드가 발급한 ETag 무효화)
+ * - 버스 키에 변경 영역을 함께 실어 LiveUpdateHub도 같은 메시지로 다른 노드의 변경을 알림
+ */
+@Service
+@RequiredArgsConstructor
+public class UserDataVersionService {
+    private final CacheInvalidationBus invalidationBus;
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong clock = new AtomicLong();
+    private final Cache<String, Long> versions = Caffeine.newBuilder()
+        .maximumSize(100_000)
+        .expireAfterAccess(1, TimeUnit.DAYS)
+        .build();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        bump(event.username());
+        invalidationBus.publish(CacheInvalidationBus.REGION_USER_DATA_VERSION, event.busKey());
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(RemoteInvalidationEvent event) {
+        if (!CacheInvalidationBus.REGION_USER_DATA_VERSION.equals(event.region())) {
+            return;
+        }
+        if (event.key() != null) {
+            UserDataChangedEvent change = UserDataChangedEvent.fromBusKey(event.key());
+            bump(change != null ? change.username() : event.key());
+        } else {
+            versions.invalidateAll();
+        }
+    }
+
+    public long bump(String username) {
+        long next = clock.incrementAndGet();
+        versions.put(username, next);
+        return next;
+    }
+
+    public long currentVersion(String username) {
+        return versions.get(username, key -> clock.incrementAndGet());
+    }
+
+    /**
+     * 약한 ETag: W/"{epoch}-{version}-{yyyyMMdd}"
+     * - 대시보드/오늘 식단처럼 '오늘' 기준 응답이 날짜가 바뀌면 달라지므로 기준 날짜 포함
+     */
+    public String etag(String username, LocalDate today) {
+        return "W/\"" + Long.toString(epoch, 36) + "-" + currentVersion(username) + "-"
+            + today.toString().replace("-", "") + "\"";
+    }
+}
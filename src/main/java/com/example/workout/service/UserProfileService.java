@@ -2,9 +2,11 @@ package com.example.workout.service;
 
 import com.example.workout.entity.User;
 import com.example.workout.entity.UserProfile;
+import com.example.workout.event.UserDataChangedEvent;
 import com.example.workout.repository.UserProfileRepository;
 import com.example.workout.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,7 +15,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserProfileService {
     private final UserProfileRepository userProfileRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 프로필이 없으면 빈 프로필을 만들어 반환
+     * - 생성도 쓰기이므로 데이터 버전을 올림 (이전 ETag로 만든 304가 생성 전 응답을 재사용하지 않게)
+     */
+    @Transactional
     public UserProfile getProfile(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -21,7 +29,9 @@ public class UserProfileService {
                 .orElseGet(() -> {
                     UserProfile newProfile = new UserProfile();
                     newProfile.setUser(user);
-                    return userProfileRepository.save(newProfile);
+                    UserProfile saved = userProfileRepository.save(newProfile);
+                    eventPublisher.publishEvent(new UserDataChangedEvent(username, UserDataChangedEvent.Area.PROFILE));
+                    return saved;
                 });
     }
 
@@ -42,7 +52,9 @@ public class UserProfileService {
         if (updatedProfile.getSkeletalMuscleMass() != null) profile.setSkeletalMuscleMass(updatedProfile.getSkeletalMuscleMass());
         if (updatedProfile.getBodyFatMass() != null) profile.setBodyFatMass(updatedProfile.getBodyFatMass());
         if (updatedProfile.getBasalMetabolicRate() != null) profile.setBasalMetabolicRate(updatedProfile.getBasalMetabolicRate());
-        
-        return userProfileRepository.save(profile);
+
+        UserProfile saved = userProfileRepository.save(profile);
+        eventPublisher.publishEvent(new UserDataChangedEvent(username, UserDataChangedEvent.Area.PROFILE));
+        return saved;
     }
 }
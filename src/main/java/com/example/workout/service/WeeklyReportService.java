@@ -0,0 +1,311 @@
+package com.example.workout.service;
+
+import com.example.workout.dto.WeeklyReportDTO;
+import com.example.workout.dto.WeeklyReportSummaryDTO;
+import com.example.workout.entity.WeeklyReport;
+import com.example.workout.exception.ResourceNotFoundException;
+import com.example.workout.repository.*;
+import com.example.workout.scheduling.SchedulerLockService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 주간 리포트 사전 생성
+ * - 매주 월요일 지난 주(월~일) 리포트를 만들어 weekly_reports에 JSON으로 저장, 조회는 id로 한 행만 읽음
+ * - 사용자를 id 키셋으로 batchSize씩 나누고, 묶음마다 집계 쿼리 5개(세션/볼륨/PR/부위/식단)로 계산
+ * - 묶음은 가상 스레드에서 처리하되 세마포어로 동시 실행 수(parallelism)를 제한하여 커넥션 풀(5)을 지킴
+ * - scheduler_locks 행 잠금으로 여러 노드 중 하나만 실행 (끝나도 LOCK_AT_LEAST 동안은 잠금 유지)
+ * - 스케줄 실행은 스케줄러 스레드에서 바로 반환하고 생성은 가상 스레드에서 진행
+ */
+@Service
+public class WeeklyReportService {
+    private static final Logger log = LoggerFactory.getLogger(WeeklyReportService.class);
+
+    private static final String LOCK_NAME = "weeklyReport";
+    private static final Duration LOCK_AT_MOST = Duration.ofHours(1);
+    // 노드 간 시계 차이로 같은 cron이 조금 늦게 떠도 다시 생성하지 않도록 유지하는 최소 시간
+    private static final Duration LOCK_AT_LEAST = Duration.ofMinutes(30);
+    // 세션 date 컬럼은 서버 시간대(Asia/Seoul) 로컬 시각으로 저장됨
+    private static final ZoneId STORAGE_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int MAX_LIST_SIZE = 52;
+
+    private final UserRepository userRepository;
+    private final WorkoutSessionRepository sessionRepository;
+    private final PersonalRecordRepository personalRecordRepository;
+    private final MuscleLoadDailyRepository muscleLoadDailyRepository;
+    private final DietSessionRepository dietSessionRepository;
+    private final WeeklyReportRepository weeklyReportRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final boolean enabled;
+    private final int parallelism;
+    private final int batchSize;
+
+    public WeeklyReportService(UserRepository userRepository,
+                               WorkoutSessionRepository sessionRepository,
+                               PersonalRecordRepository personalRecordRepository,
+                               MuscleLoadDailyRepository muscleLoadDailyRepository,
+                               DietSessionRepository dietSessionRepository,
+                               WeeklyReportRepository weeklyReportRepository,
+                               SchedulerLockService schedulerLockService,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${report.weekly.enabled:true}") boolean enabled,
+                               @Value("${report.weekly.parallelism:2}") int parallelism,
+                               @Value("${report.weekly.batch-size:200}") int batchSize) {
+        this.userRepository = userRepository;
+        this.sessionRepository = sessionRepository;
+        this.personalRecordRepository = personalRecordRepository;
+        this.muscleLoadDailyRepository = muscleLoadDailyRepository;
+        this.dietSessionRepository = dietSessionRepository;
+        this.weeklyReportRepository = weeklyReportRepository;
+        this.schedulerLockService = schedulerLockService;
+        this.objectMapper = objectMapper;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.parallelism = Math.max(1, parallelism);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 사용자 한 명의 한 주 집계 (배치 안에서만 사용)
+     */
+    private static final class Accumulator {
+        private int sessions;
+        private final Set<LocalDate> trainingDays = new HashSet<>();
+        private long duration;
+        private double volume;
+        private double previousVolume;
+        private long sets;
+        private final List<WeeklyReportDTO.PersonalRecordItem> personalRecords = new ArrayList<>();
+        private final Map<String, Double> muscleBalance = new TreeMap<>();
+        private int dietDays;
+        private double calories;
+        private double protein;
+
+        private boolean isEmpty() {
+            return sessions == 0 && previousVolume == 0 && dietDays == 0;
+        }
+    }
+
+    /**
+     * 생성은 별도 가상 스레드에서 실행 (스케줄러 스레드를 붙잡으면 무효화 버스 flush/poll과 SSE heartbeat가 밀림)
+     */
+    @Scheduled(cron = "${report.weekly.cron:0 0 7 * * MON}", zone = "Asia/Seoul")
+    public void generateLastWeek() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate weekStart = LocalDate.now(STORAGE_ZONE).with(DayOfWeek.MONDAY).minusWeeks(1);
+        Thread.ofVirtual().name("weekly-report").start(() -> {
+            try {
+                generate(weekStart);
+            } catch (RuntimeException e) {
+                log.error("주간 리포트 생성 실패: week={}", weekStart, e);
+            }
+        });
+    }
+
+    /**
+     * weekStart 주의 리포트 생성 (같은 주를 다시 실행하면 덮어씀)
+     *
+     * @return 생성된 리포트 수 (다른 노드가 실행 중이면 0)
+     */
+    public int generate(LocalDate weekStart) {
+        LocalDateTime lockedAt = LocalDateTime.now();
+        if (!schedulerLockService.tryLock(LOCK_NAME, LOCK_AT_MOST)) {
+            return 0;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            int generated = runBatches(weekStart.with(DayOfWeek.MONDAY));
+            log.info("주간 리포트 생성 완료: week={}, reports={}, elapsed={}ms",
+                weekStart, generated, (System.nanoTime() - startedAt) / 1_000_000);
+            return generated;
+        } finally {
+            schedulerLockService.unlock(LOCK_NAME, lockedAt.plus(LOCK_AT_LEAST));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<WeeklyReportSummaryDTO> getReports(String username) {
+        return weeklyReportRepository.findSummariesByUsername(username, PageRequest.of(0, MAX_LIST_SIZE)).stream()
+            .map(row -> new WeeklyReportSummaryDTO((Long) row[0], (LocalDate) row[1]))
+            .toList();
+    }
+
+    /**
+     * 저장된 JSON 그대로 반환 (역직렬화/재직렬화 없음)
+     */
+    @Transactional(readOnly = true)
+    public String getReportJson(Long id, String username) {
+        return weeklyReportRepository.findJsonByIdAndUsername(id, username)
+            .orElseThrow(() -> new ResourceNotFoundException("주간 리포트를 찾을 수 없습니다."));
+    }
+
+    private int runBatches(LocalDate weekStart) {
+        Semaphore permits = new Semaphore(parallelism);
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long lastId = 0;
+            while (true) {
+                List<Long> userIds = userRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                lastId = userIds.get(userIds.size() - 1);
+                // 실행 중인 묶음이 parallelism개면 다음 id 페이지도 읽지 않고 대기 (메모리/커넥션 모두 제한)
+                permits.acquire();
+                results.add(executor.submit(() -> {
+                    try {
+                        return generateBatch(userIds, weekStart);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+                if (userIds.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int generated = 0;
+        for (Future<Integer> result : results) {
+            try {
+                generated += result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                // 한 묶음 실패는 다른 묶음에 영향 없음 (다음 실행에서 덮어씀)
+                log.error("주간 리포트 묶음 생성 실패: week={}", weekStart, e.getCause());
+            }
+        }
+        return generated;
+    }
+
+    private int generateBatch(List<Long> userIds, LocalDate weekStart) {
+        Map<Long, Accumulator> reports = readTransaction.execute(status -> aggregate(userIds, weekStart));
+        Map<Long, String> jsonByUser = new HashMap<>();
+        reports.forEach((userId, acc) -> {
+            if (!acc.isEmpty()) {
+                jsonByUser.put(userId, toJson(weekStart, acc));
+            }
+        });
+        if (jsonByUser.isEmpty()) {
+            return 0;
+        }
+
+        writeTransaction.executeWithoutResult(status -> {
+            Map<Long, WeeklyReport> existing = new HashMap<>();
+            for (WeeklyReport report : weeklyReportRepository.findByWeekStartAndUser_IdIn(weekStart, jsonByUser.keySet())) {
+                existing.put(report.getUser().getId(), report);
+            }
+            LocalDateTime now = LocalDateTime.now(STORAGE_ZONE);
+            List<WeeklyReport> changed = new ArrayList<>(jsonByUser.size());
+            jsonByUser.forEach((userId, json) -> {
+                WeeklyReport report = existing.get(userId);
+                if (report == null) {
+                    report = WeeklyReport.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .weekStart(weekStart)
+                        .build();
+                }
+                report.setReportJson(json);
+                report.setCreatedAt(now);
+                changed.add(report);
+            });
+            weeklyReportRepository.saveAll(changed);
+        });
+        return jsonByUser.size();
+    }
+
+    private Map<Long, Accumulator> aggregate(List<Long> userIds, LocalDate weekStart) {
+        LocalDate weekEnd = weekStart.plusWeeks(1);
+        LocalDate previousStart = weekStart.minusWeeks(1);
+        Map<Long, Accumulator> reports = new HashMap<>();
+
+        for (Object[] row : sessionRepository.findDailySessionStats(userIds, weekStart.atStartOfDay(), weekEnd.atStartOfDay())) {
+            Accumulator acc = reports.computeIfAbsent((Long) row[0], id -> new Accumulator());
+            acc.sessions += ((Number) row[2]).intValue();
+            acc.duration += ((Number) row[3]).longValue();
+            acc.trainingDays.add(toLocalDate(row[1]));
+        }
+        for (Object[] row : sessionRepository.findDailyVolumeStats(userIds, previousStart.atStartOfDay(), weekEnd.atStartOfDay())) {
+            Accumulator acc = reports.computeIfAbsent((Long) row[0], id -> new Accumulator());
+            double volume = ((Number) row[2]).doubleValue();
+            if (toLocalDate(row[1]).isBefore(weekStart)) {
+                acc.previousVolume += volume;
+            } else {
+                acc.volume += volume;
+                acc.sets += ((Number) row[3]).longValue();
+            }
+        }
+        for (Object[] row : personalRecordRepository.findAchievedBetween(userIds, weekStart.atStartOfDay(), weekEnd.atStartOfDay())) {
+            reports.computeIfAbsent((Long) row[0], id -> new Accumulator()).personalRecords.add(
+                new WeeklyReportDTO.PersonalRecordItem((String) row[1], String.valueOf(row[2]), ((Number) row[3]).doubleValue()));
+        }
+        for (Object[] row : muscleLoadDailyRepository.sumCategorySets(userIds, weekStart, weekEnd)) {
+            reports.computeIfAbsent((Long) row[0], id -> new Accumulator()).muscleBalance
+                .put((String) row[1], round(((Number) row[2]).doubleValue()));
+        }
+        for (Object[] row : dietSessionRepository.findDailyIntake(userIds, weekStart, weekEnd)) {
+            Accumulator acc = reports.computeIfAbsent((Long) row[0], id -> new Accumulator());
+            acc.dietDays++;
+            acc.calories += ((Number) row[2]).doubleValue();
+            acc.protein += ((Number) row[3]).doubleValue();
+        }
+        return reports;
+    }
+
+    private String toJson(LocalDate weekStart, Accumulator acc) {
+        WeeklyReportDTO report = WeeklyReportDTO.builder()
+            .weekStart(weekStart)
+            .sessions(acc.sessions)
+            .trainingDays(acc.trainingDays.size())
+            .totalDuration(acc.duration)
+            .volume(round(acc.volume))
+            .previousVolume(round(acc.previousVolume))
+            .volumeChange(acc.previousVolume > 0
+                ? round((acc.volume - acc.previousVolume) / acc.previousVolume * 100) : null)
+            .sets(acc.sets)
+            .personalRecords(acc.personalRecords.isEmpty() ? null : acc.personalRecords)
+            .muscleBalance(acc.muscleBalance.isEmpty() ? null : acc.muscleBalance)
+            .dietLoggedDays(acc.dietDays)
+            .averageCalories(acc.dietDays > 0 ? round(acc.calories / acc.dietDays) : null)
+            .averageProtein(acc.dietDays > 0 ? round(acc.protein / acc.dietDays) : null)
+            .build();
+        try {
+            return objectMapper.writeValueAsString(report);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주간 리포트 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof LocalDate ? (LocalDate) value : ((java.sql.Date) value).toLocalDate();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -2,9 +2,11 @@ package com.example.workout.service;
 
 import com.example.workout.dto.WorkoutRoutineDTO;
 import com.example.workout.entity.*;
+import com.example.workout.event.UserDataChangedEvent;
 import com.example.workout.mapper.WorkoutRoutineMapper;
 import com.example.workout.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,7 @@ public class WorkoutRoutineService {
     private final UserRepository userRepository;
     private final ExerciseTypeRepository exerciseRepository;
     private final WorkoutRoutineMapper routineMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public WorkoutRoutineDTO createRoutine(String username, WorkoutRoutineDTO dto) {
@@ -45,6 +48,7 @@ public class WorkoutRoutineService {
         routine.setExercises(exercises);
 
         routine = routineRepository.save(routine);
+        eventPublisher.publishEvent(new UserDataChangedEvent(username, UserDataChangedEvent.Area.ROUTINES));
         return routineMapper.toDTO(routine);
     }
 
@@ -73,5 +77,6 @@ public class WorkoutRoutineService {
         WorkoutRoutine routine = routineRepository.findByIdAndUser_Username(id, username)
             .orElseThrow(() -> new RuntimeException("Routine not found or access denied"));
         routineRepository.delete(routine);
+        eventPublisher.publishEvent(new UserDataChangedEvent(username, UserDataChangedEvent.Area.ROUTINES));
     }
 }
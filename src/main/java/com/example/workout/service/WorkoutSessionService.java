@@ -1,15 +1,20 @@
 package com.example.workout.service;
 
 import com.example.workout.dto.ExerciseRecordDTO;
+import com.example.workout.dto.PersonalRecordDTO;
 import com.example.workout.dto.VolumeDataPointDTO;
 import com.example.workout.dto.WorkoutDashboardDTO;
 import com.example.workout.dto.WorkoutSessionDTO;
 import com.example.workout.entity.*;
+import com.example.workout.event.UserDataChangedEvent;
+import com.example.workout.event.WorkoutSessionChangedEvent;
 import com.example.workout.exception.ResourceNotFoundException;
 import com.example.workout.exception.UserNotFoundException;
 import com.example.workout.mapper.WorkoutSessionMapper;
 import com.example.workout.repository.*;
+import com.example.workout.web.FieldSelection;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,20 +33,40 @@ import java.util.stream.Collectors;
 public class WorkoutSessionService {
 	private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
 
+    // fields= 로 선택할 수 있는 세션 필드
+    public static final Set<String> SESSION_FIELDS = Set.of(
+        "id", "date", "duration", "notes", "routineId", "totalVolume", "totalSets", "exerciseCount", "exercisesPerformed");
+
     private final WorkoutSessionRepository sessionRepository;
     private final UserRepository userRepository;
     private final ExerciseTypeRepository exerciseTypeRepository;
     private final ExerciseRecordRepository exerciseRecordRepository;
     private final WorkoutSessionMapper sessionMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PersonalRecordService personalRecordService;
+    private final LastPerformanceService lastPerformanceService;
+    private final MuscleLoadService muscleLoadService;
+    private final StreakService streakService;
+    private final SessionArchiveService archiveService;
 
 	private User getUser(String username) {
 		return userRepository.findByUsername(username)
 			.orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + username));
 	}
 
+    // 트랜잭션이 끝날 때까지 사용자 행 잠금
+    private User lockUser(String username) {
+        return userRepository.findByUsernameForUpdate(username)
+            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + username));
+    }
+
+    /**
+     * 세션 저장과 파생 테이블(PR, 마지막 수행, 부위 부하, 연속 운동) 갱신
+     * - 사용자 행을 잠가 같은 사용자의 동시 저장/삭제를 직렬화 (파생 행 증분이 사라지거나 유니크 키 충돌 방지)
+     */
     @Transactional
     public WorkoutSessionDTO createSession(String username, WorkoutSessionDTO dto) {
-        User user = getUser(username);
+        User user = lockUser(username);
 
         WorkoutSession session = new WorkoutSession();
         session.setUser(user);
@@ -62,8 +87,22 @@ public class WorkoutSessionService {
         session.setDuration(dto.getDuration());
         session.setNotes(dto.getNotes());
 
+        // 합계는 INSERT에 함께 기록 (목록/차트 쿼리에서 기록 조인 제거)
+        List<ExerciseRecordDTO> recordDTOs = dto.getExercisesPerformed() != null ? dto.getExercisesPerformed() : List.of();
+        double totalVolume = 0;
+        for (ExerciseRecordDTO recordDTO : recordDTOs) {
+            if (recordDTO.getWeight() != null && recordDTO.getReps() != null) {
+                totalVolume += recordDTO.getWeight() * recordDTO.getReps();
+            }
+        }
+        session.setTotalVolume(totalVolume);
+        session.setTotalSets(recordDTOs.size());
+        session.setExerciseCount((int) recordDTOs.stream().map(ExerciseRecordDTO::getExerciseId).distinct().count());
+
         session = sessionRepository.save(session);
 
+        Set<Long> exerciseIds = new HashSet<>();
+        List<ExerciseRecord> savedRecords = new ArrayList<>();
         if (dto.getExercisesPerformed() != null && !dto.getExercisesPerformed().isEmpty()) {
             for (ExerciseRecordDTO recordDTO : dto.getExercisesPerformed()) {
                 ExerciseRecord record = new ExerciseRecord();
@@ -80,10 +119,22 @@ public class WorkoutSessionService {
                 record.setRpe(recordDTO.getRpe());
 
                 exerciseRecordRepository.save(record);
+                exerciseIds.add(exerciseType.getId());
+                savedRecords.add(record);
             }
         }
 
-        return sessionMapper.toDTO(session);
+        List<PersonalRecordDTO> newPersonalRecords = personalRecordService.applySession(user, session, savedRecords);
+        lastPerformanceService.applySession(user, session, savedRecords);
+        muscleLoadService.apply(user, session.getDate().toLocalDate(), savedRecords, 1);
+        streakService.onSessionCreated(user, session.getDate().toLocalDate());
+
+        eventPublisher.publishEvent(new WorkoutSessionChangedEvent(
+            user.getId(), username, session.getId(), session.getDate().toLocalDate(), exerciseIds, false));
+        eventPublisher.publishEvent(new UserDataChangedEvent(username, UserDataChangedEvent.Area.SESSIONS));
+        WorkoutSessionDTO result = sessionMapper.toDTO(session);
+        result.setNewPersonalRecords(newPersonalRecords);
+        return result;
     }
 
     /**
@@ -94,7 +145,7 @@ public class WorkoutSessionService {
         User user = getUser(username);
 
         return sessionRepository.findByUserIdOrderByDateDesc(user.getId(), pageable)
-            .map(sessionMapper::toDTO);
+            .map(this::toDTO);
     }
 
     /**
@@ -113,10 +164,75 @@ public class WorkoutSessionService {
 
         return sessionRepository.findByUserIdAndDateBetweenOrderByDateDesc(user.getId(), start, end)
                 .stream()
-                .map(sessionMapper::toDTO)
+                .map(this::toDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * fields= 세션 목록 (요청된 필드만 담은 맵)
+     * - exercisesPerformed를 요청하지 않으면 세션 컬럼만 스칼라로 조회 (기록/종목 로딩 없음)
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getUserSessionFields(String username, String startDateStr, String endDateStr,
+                                                          FieldSelection fields) {
+        boolean byRange = startDateStr != null && endDateStr != null;
+        if (fields.includes("exercisesPerformed")) {
+            List<WorkoutSessionDTO> sessions = byRange
+                ? getUserSessionsByDateRange(username, startDateStr, endDateStr)
+                : getUserSessions(username);
+            return sessions.stream().map(dto -> toFields(dto, fields)).toList();
+        }
+
+        User user = getUser(username);
+        List<Object[]> rows = byRange
+            ? sessionRepository.findSummariesByUserIdAndDateBetween(user.getId(),
+                LocalDate.parse(startDateStr).atStartOfDay(), LocalDate.parse(endDateStr).atTime(23, 59, 59))
+            : sessionRepository.findSummariesByUserId(user.getId(), PageRequest.of(0, 100));
+        return rows.stream().map(row -> toFields(row, fields)).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> getSessionFields(Long sessionId, String username, FieldSelection fields) {
+        if (fields.includes("exercisesPerformed")) {
+            return toFields(getSessionById(sessionId, username), fields);
+        }
+        List<Object[]> rows = sessionRepository.findSummaryByIdAndUsername(sessionId, username);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("운동 세션을 찾을 수 없거나 접근 권한이 없습니다.");
+        }
+        return toFields(rows.get(0), fields);
+    }
+
+    /**
+     * findSummaries* 행 (id, date, duration, notes, routineId, totalVolume, totalSets, exerciseCount)
+     */
+    private static Map<String, Object> toFields(Object[] row, FieldSelection fields) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        fields.put(result, "id", () -> row[0]);
+        fields.put(result, "date", () -> ((LocalDateTime) row[1]).toLocalDate());
+        fields.put(result, "duration", () -> row[2]);
+        fields.put(result, "notes", () -> row[3]);
+        fields.put(result, "routineId", () -> row[4]);
+        fields.put(result, "totalVolume", () -> row[5]);
+        fields.put(result, "totalSets", () -> row[6]);
+        fields.put(result, "exerciseCount", () -> row[7]);
+        return result;
+    }
+
+    private static Map<String, Object> toFields(WorkoutSessionDTO dto, FieldSelection fields) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        fields.put(result, "id", dto::getId);
+        fields.put(result, "date", dto::getDate);
+        fields.put(result, "duration", dto::getDuration);
+        fields.put(result, "notes", dto::getNotes);
+        fields.put(result, "routineId", dto::getRoutineId);
+        fields.put(result, "totalVolume", dto::getTotalVolume);
+        fields.put(result, "totalSets", dto::getTotalSets);
+        fields.put(result, "exerciseCount", dto::getExerciseCount);
+        fields.put(result, "exercisesPerformed", dto::getExercisesPerformed);
+        return result;
+    }
+
     /**
      * 대시보드 조회 - 최적화된 버전
      * - 4개 쿼리 → 3개 쿼리로 통합 (통계 + 최근세션 + heatmap)
@@ -141,15 +257,15 @@ public class WorkoutSessionService {
         List<WorkoutSession> recentSessions = sessionRepository
             .findRecentByUserId(user.getId(), PageRequest.of(0, 3));
         List<WorkoutSessionDTO> recentSessionDTOs = recentSessions.stream()
-            .map(sessionMapper::toDTO)
+            .map(this::toDTO)
             .collect(Collectors.toList());
 
-        // 볼륨 차트 데이터 (DB에서 집계, Native Query로 LIMIT 10 적용)
+        // 볼륨 차트 데이터 (DB에서 집계, 최근 10개 세션)
         List<Object[]> volumeData = sessionRepository
-            .findRecentSessionVolumes(user.getId());
+            .findRecentSessionVolumes(user.getId(), PageRequest.of(0, 10));
         List<VolumeDataPointDTO> volumeChartData = new ArrayList<>();
         for (Object[] row : volumeData) {
-            // Native Query는 java.sql.Timestamp 반환
+            // 드라이버/쿼리 종류에 따라 java.sql.Timestamp일 수 있음
             LocalDateTime date;
             if (row[0] instanceof LocalDateTime) {
                 date = (LocalDateTime) row[0];
@@ -189,6 +305,24 @@ public class WorkoutSessionService {
         }
         List<Integer> heatmapLevels = Arrays.stream(levels).boxed().collect(Collectors.toList());
 
+        // 주간 운동일 수 (heatmap 마지막 칸 = 오늘)
+        int daysIntoWeek = today.getDayOfWeek().getValue();
+        int daysThisWeek = 0;
+        for (int i = 365 - daysIntoWeek; i < 365; i++) {
+            if (levels[i] > 0) daysThisWeek++;
+        }
+        int daysLast4Weeks = 0;
+        for (int i = 365 - 28; i < 365; i++) {
+            if (levels[i] > 0) daysLast4Weeks++;
+        }
+
+        // 연속 운동: 마지막 활동일이 어제보다 이전이면 현재 연속 기록은 끊긴 것으로 표시
+        Optional<UserStreak> streak = streakService.getState(user);
+        int currentStreak = streak
+            .filter(s -> !s.getLastActiveDay().isBefore(today.minusDays(1)))
+            .map(UserStreak::getCurrentStreak)
+            .orElse(0);
+
         return WorkoutDashboardDTO.builder()
             .totalVolume(totalVolume)
             .totalWorkouts(totalWorkouts)
@@ -197,6 +331,11 @@ public class WorkoutSessionService {
             .volumeChartData(volumeChartData)
             .heatmapStartDate(startDate)
             .heatmapLevels(heatmapLevels)
+            .currentStreak(currentStreak)
+            .longestStreak(streak.map(UserStreak::getLongestStreak).orElse(0))
+            .lastActiveDate(streak.map(UserStreak::getLastActiveDay).orElse(null))
+            .daysThisWeek(daysThisWeek)
+            .averageDaysPerWeek(daysLast4Weeks / 4.0)
             .build();
     }
 
@@ -204,14 +343,35 @@ public class WorkoutSessionService {
     public WorkoutSessionDTO getSessionById(Long sessionId, String username) {
         WorkoutSession session = sessionRepository.findByIdAndUser_Username(sessionId, username)
             .orElseThrow(() -> new ResourceNotFoundException("운동 세션을 찾을 수 없거나 접근 권한이 없습니다."));
-        return sessionMapper.toDTO(session);
+        return toDTO(session);
     }
 
     @Transactional
     public void deleteSession(Long id, String username) {
+        // 저장과 같은 순서(사용자 행 먼저)로 잠가 파생 테이블 되돌리기를 직렬화
+        lockUser(username);
         WorkoutSession session = sessionRepository.findByIdAndUser_Username(id, username)
             .orElseThrow(() -> new ResourceNotFoundException("운동 세션을 찾을 수 없거나 접근 권한이 없습니다."));
+        // 보관된 세션은 세트가 블롭에 있으므로 블롭에서 빼낸 기록으로 롤업을 되돌림
+        Collection<ExerciseRecord> records = session.isArchived()
+            ? archiveService.removeSession(session)
+            : session.getExercisesPerformed();
+        Set<Long> exerciseIds = records.stream()
+            .map(record -> record.getExerciseType().getId())
+            .collect(Collectors.toSet());
         sessionRepository.delete(session);
+        personalRecordService.repairAfterDelete(session.getUser().getId(), session.getId());
+        lastPerformanceService.repairAfterDelete(session.getUser().getId(), session.getId());
+        muscleLoadService.apply(session.getUser(), session.getDate().toLocalDate(), records, -1);
+        streakService.onSessionDeleted(session.getUser(), session.getDate().toLocalDate());
+        eventPublisher.publishEvent(new WorkoutSessionChangedEvent(
+            session.getUser().getId(), username, session.getId(), session.getDate().toLocalDate(), exerciseIds, true));
+        eventPublisher.publishEvent(new UserDataChangedEvent(username, UserDataChangedEvent.Area.SESSIONS));
     }
 
+    // 보관된 세션은 세트 목록을 블롭에서 채움
+    private WorkoutSessionDTO toDTO(WorkoutSession session) {
+        WorkoutSessionDTO dto = sessionMapper.toDTO(session);
+        return session.isArchived() ? archiveService.fill(session, dto) : dto;
+    }
 }
@@ -0,0 +1,157 @@
+package com.example.workout.service;
+
+import com.example.workout.dto.VolumeSeriesDTO;
+import com.example.workout.dto.WeeklyWorkoutDTO;
+import com.example.workout.entity.User;
+import com.example.workout.exception.BusinessException;
+import com.example.workout.exception.ErrorCode;
+import com.example.workout.exception.UserNotFoundException;
+import com.example.workout.repository.UserRepository;
+import com.example.workout.repository.WorkoutSessionRepository;
+import com.example.workout.timeseries.Lttb;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 차트용 운동 통계 집계 (클라이언트가 세션 전체를 받아 reduce하지 않도록 서버에서 계산)
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkoutStatsService {
+    // 세션 date 컬럼은 서버 시간대(Asia/Seoul) 로컬 시각으로 저장됨
+    private static final ZoneId STORAGE_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int DEFAULT_WEEKS = 12;
+    private static final int MAX_WEEKS = 520;
+    private static final int MIN_POINTS = 3;
+    private static final int MAX_POINTS = 2000;
+
+    private final WorkoutSessionRepository sessionRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * ISO 주별 세션 수 / 운동 시간 / 볼륨
+     * - 세션별 합계를 GROUP BY 한 번으로 가져와 사용자 시간대의 주(월요일 시작)로 접음
+     *
+     * @param from 시작 주에 포함되는 날짜 (기본: 최근 12주)
+     * @param to   마지막 주에 포함되는 날짜 (기본: 오늘)
+     */
+    @Transactional(readOnly = true)
+    public List<WeeklyWorkoutDTO> getWeeklyWorkouts(String username, LocalDate from, LocalDate to, String tz) {
+        ZoneId zoneId = ZoneId.of(tz);
+        LocalDate lastWeek = (to != null ? to : LocalDate.now(zoneId)).with(DayOfWeek.MONDAY);
+        LocalDate firstWeek = from != null ? from.with(DayOfWeek.MONDAY) : lastWeek.minusWeeks(DEFAULT_WEEKS - 1);
+        if (firstWeek.isAfter(lastWeek)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "시작일이 종료일보다 늦습니다.");
+        }
+        int weeks = (int) ChronoUnit.WEEKS.between(firstWeek, lastWeek) + 1;
+        if (weeks > MAX_WEEKS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "조회 기간은 최대 " + MAX_WEEKS + "주입니다.");
+        }
+
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + username));
+
+        long[] sessions = new long[weeks];
+        long[] durations = new long[weeks];
+        double[] volumes = new double[weeks];
+        List<Object[]> rows = sessionRepository.findSessionTotals(user.getId(),
+            toStorage(firstWeek, zoneId), toStorage(lastWeek.plusWeeks(1), zoneId));
+        for (Object[] row : rows) {
+            LocalDate localDate = ((LocalDateTime) row[0]).atZone(STORAGE_ZONE)
+                .withZoneSameInstant(zoneId).toLocalDate();
+            int week = (int) ChronoUnit.WEEKS.between(firstWeek, localDate.with(DayOfWeek.MONDAY));
+            if (week < 0 || week >= weeks) {
+                continue;
+            }
+            sessions[week]++;
+            durations[week] += row[1] != null ? ((Number) row[1]).longValue() : 0;
+            volumes[week] += row[2] != null ? ((Number) row[2]).doubleValue() : 0.0;
+        }
+
+        List<WeeklyWorkoutDTO> result = new ArrayList<>(weeks);
+        for (int i = 0; i < weeks; i++) {
+            LocalDate weekStart = firstWeek.plusWeeks(i);
+            result.add(WeeklyWorkoutDTO.builder()
+                .isoWeek(String.format("%d-W%02d",
+                    weekStart.get(IsoFields.WEEK_BASED_YEAR), weekStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR)))
+                .weekStart(weekStart)
+                .sessions(sessions[i])
+                .totalDuration(durations[i])
+                .volume(volumes[i])
+                .build());
+        }
+        return result;
+    }
+
+    /**
+     * 기간 볼륨 시계열을 세션 또는 일 단위로 DB 집계한 뒤 LTTB로 points개 이하로 축소
+     * - 기간이 길어도 응답 크기와 차트 렌더링 비용은 points로 고정
+     *
+     * @param bucket SESSION(세션별) 또는 DAY(일별, 기본)
+     */
+    @Transactional(readOnly = true)
+    public VolumeSeriesDTO getVolumeSeries(String username, LocalDate from, LocalDate to, int points, String bucket) {
+        LocalDate end = to != null ? to : LocalDate.now(STORAGE_ZONE);
+        LocalDate start = from != null ? from : end.minusYears(1);
+        if (start.isAfter(end)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "시작일이 종료일보다 늦습니다.");
+        }
+        boolean perSession = "SESSION".equalsIgnoreCase(bucket);
+        int threshold = Math.max(MIN_POINTS, Math.min(points, MAX_POINTS));
+
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        LocalDateTime rangeStart = start.atStartOfDay();
+        LocalDateTime rangeEnd = end.plusDays(1).atStartOfDay();
+
+        List<VolumeSeriesDTO.Point> series = new ArrayList<>();
+        if (perSession) {
+            for (Object[] row : sessionRepository.findSessionTotals(user.getId(), rangeStart, rangeEnd)) {
+                series.add(new VolumeSeriesDTO.Point((LocalDateTime) row[0], ((Number) row[2]).doubleValue()));
+            }
+            series.sort(Comparator.comparing(VolumeSeriesDTO.Point::getDate));
+        } else {
+            for (Object[] row : sessionRepository.findDailyVolumes(user.getId(), rangeStart, rangeEnd)) {
+                LocalDate date = row[0] instanceof LocalDate ? (LocalDate) row[0]
+                    : ((java.sql.Date) row[0]).toLocalDate();
+                series.add(new VolumeSeriesDTO.Point(date.atStartOfDay(), ((Number) row[1]).doubleValue()));
+            }
+        }
+
+        double[] x = new double[series.size()];
+        double[] y = new double[series.size()];
+        for (int i = 0; i < series.size(); i++) {
+            x[i] = series.get(i).getDate().toEpochSecond(ZoneOffset.UTC);
+            y[i] = series.get(i).getVolume();
+        }
+        int[] selected = Lttb.downsample(x, y, threshold);
+        List<VolumeSeriesDTO.Point> reduced = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            reduced.add(series.get(index));
+        }
+
+        return VolumeSeriesDTO.builder()
+            .from(start)
+            .to(end)
+            .bucket(perSession ? "SESSION" : "DAY")
+            .sourcePoints(series.size())
+            .points(reduced)
+            .build();
+    }
+
+    private static LocalDateTime toStorage(LocalDate date, ZoneId zoneId) {
+        return date.atStartOfDay(zoneId).withZoneSameInstant(STORAGE_ZONE).toLocalDateTime();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.workout.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 샤드 키 (ShardRoutingDataSource가 커넥션을 고를 때 사용)
+ * - 요청 단위로 ShardRoutingInterceptor가 설정하고, 값이 없으면 primary
+ * - 다른 스레드로 넘기는 작업은 wrap으로 감싸서 같은 샤드를 보게 함
+ * - 커넥션은 트랜잭션 시작 시점에 고르므로 트랜잭션 안에서 바꿔도 적용되지 않음
+ */
+public final class ShardContext {
+    public static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static void set(String shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 샤드 키 (설정되지 않았으면 null)
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 지정한 샤드에서 실행하고 이전 값을 복원
+     */
+    public static <T> T callIn(String shard, Supplier<T> work) {
+        String previous = CURRENT.get();
+        set(shard);
+        try {
+            return work.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    public static void runIn(String shard, Runnable work) {
+        callIn(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * 호출 스레드의 샤드를 실행 스레드로 넘김
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> supplier) {
+        String shard = CURRENT.get();
+        if (shard == null) {
+            return supplier;
+        }
+        return () -> callIn(shard, supplier);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.workout.shard;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+
+/**
+ * 샤드 간 행 복사 (엔티티를 거치지 않는 JDBC 복사, id를 그대로 유지)
+ * - 컬럼 목록은 원본 행에서 가져오므로 엔티티에 컬럼이 추가되어도 수정할 필요 없음
+ * - 트랜잭션은 호출자가 대상/원본 DataSource 기준으로 잡음
+ */
+final class ShardDataCopier {
+    private static final Logger log = LoggerFactory.getLogger(ShardDataCopier.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private ShardDataCopier() {
+    }
+
+    /**
+     * 사용자 소유 행을 원본에서 읽어 대상에 그대로 삽입
+     *
+     * @return 복사한 행 수
+     */
+    static int copy(JdbcTemplate source, JdbcTemplate target, ShardTables.Table table, Long userId) {
+        List<Map<String, Object>> rows = source.queryForList(
+            "SELECT * FROM " + table.name() + " WHERE " + table.ownerCondition(), userId);
+        insert(target, table.name(), rows);
+        return rows.size();
+    }
+
+    static int delete(JdbcTemplate jdbc, ShardTables.Table table, Long userId) {
+        return jdbc.update("DELETE FROM " + table.name() + " WHERE " + table.ownerCondition(), userId);
+    }
+
+    static boolean exists(JdbcTemplate jdbc, ShardTables.Table table, Long userId) {
+        Integer count = jdbc.queryForObject(
+            "SELECT COUNT(*) FROM " + table.name() + " WHERE " + table.ownerCondition(), Integer.class, userId);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 참조 테이블 전체를 원본과 같게 맞춤 (id 기준: 있으면 UPDATE, 없으면 INSERT, 원본에 없는 행은 DELETE)
+     * - 대상에서 아직 참조 중인 행은 삭제하지 못하므로 남겨 두고 경고만 기록
+     *
+     * @return 갱신/삽입한 행 수
+     */
+    static int replicate(JdbcTemplate source, JdbcTemplate target, String table) {
+        List<Map<String, Object>> rows = source.queryForList("SELECT * FROM " + table);
+        Set<Object> targetIds = new HashSet<>(target.queryForList("SELECT id FROM " + table, Object.class));
+        Set<Object> sourceIds = new HashSet<>();
+
+        List<Map<String, Object>> inserts = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            Object id = row.get("id");
+            sourceIds.add(id);
+            if (!targetIds.contains(id)) {
+                inserts.add(row);
+                continue;
+            }
+            List<String> columns = new ArrayList<>(row.keySet());
+            columns.removeIf(column -> column.equalsIgnoreCase("id"));
+            List<Object> args = new ArrayList<>(columns.size() + 1);
+            StringJoiner assignments = new StringJoiner(", ");
+            for (String column : columns) {
+                assignments.add(column + " = ?");
+                args.add(row.get(column));
+            }
+            args.add(id);
+            target.update("UPDATE " + table + " SET " + assignments + " WHERE id = ?", args.toArray());
+        }
+        insert(target, table, inserts);
+
+        for (Object id : targetIds) {
+            if (sourceIds.contains(id)) {
+                continue;
+            }
+            try {
+                target.update("DELETE FROM " + table + " WHERE id = ?", id);
+            } catch (DataAccessException e) {
+                log.warn("복제 대상에서 참조 중인 행은 삭제하지 않음: table={}, id={}", table, id);
+            }
+        }
+        return rows.size();
+    }
+
+    private static void insert(JdbcTemplate target, String table, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+            + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>();
+            for (Map<String, Object> row : rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()))) {
+                Object[] args = new Object[columns.size()];
+                for (int i = 0; i < args.length; i++) {
+                    args[i] = row.get(columns.get(i));
+                }
+                batch.add(args);
+            }
+            target.batchUpdate(sql, batch);
+        }
+    }
+}
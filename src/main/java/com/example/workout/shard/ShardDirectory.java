@@ -0,0 +1,150 @@
+package com.example.workout.shard;
+
+import com.example.workout.cache.CacheInvalidationBus;
+import com.example.workout.event.RemoteInvalidationEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 -> 샤드 디렉터리 (primary의 shard_directory 테이블)
+ * - 요청마다 조회하므로 username 기준으로 로컬 캐시, 변경 시 CacheInvalidationBus로 다른 노드에도 무효화
+ * - 신규 사용자는 sharding.placement 샤드 중 userId로 골라 기록 (이후 위치는 디렉터리가 결정하므로 샤드를 늘려도 재해싱 없음)
+ * - 라우팅과 무관하게 항상 primary 커넥션을 사용
+ */
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardDirectory {
+    public static final String REGION_SHARD_DIRECTORY = "region:shardDirectory";
+
+    private final JdbcTemplate primary;
+    private final CacheInvalidationBus invalidationBus;
+    private final List<String> placement;
+    private final Cache<String, Placement> placements = Caffeine.newBuilder()
+        .maximumSize(100_000)
+        .expireAfterAccess(1, TimeUnit.DAYS)
+        .build();
+
+    /**
+     * @param shard     사용자 데이터가 있는 샤드 키
+     * @param migrating 샤드 이동 중 여부
+     */
+    public record Placement(Long userId, String shard, boolean migrating) {
+    }
+
+    public ShardDirectory(ShardRoutingDataSource dataSource,
+                          CacheInvalidationBus invalidationBus,
+                          @Value("${sharding.placement:}") List<String> placement) {
+        this.primary = new JdbcTemplate(dataSource.shard(ShardContext.PRIMARY));
+        this.invalidationBus = invalidationBus;
+        List<String> shards = placement.stream().filter(key -> !key.isBlank()).toList();
+        if (shards.isEmpty()) {
+            shards = dataSource.shardKeys().stream()
+                .filter(key -> !ShardContext.PRIMARY.equals(key))
+                .toList();
+        }
+        if (shards.isEmpty()) {
+            shards = List.of(ShardContext.PRIMARY);
+        }
+        shards.forEach(dataSource::shard);
+        this.placement = shards;
+    }
+
+    /**
+     * 사용자의 현재 위치 (없는 사용자면 null)
+     */
+    public Placement lookup(String username) {
+        Placement cached = placements.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+        List<Placement> rows = primary.query(
+            "SELECT u.id, d.shard_key, d.migrating FROM users u "
+                + "LEFT JOIN shard_directory d ON d.user_id = u.id WHERE u.username = ?",
+            (rs, rowNum) -> {
+                String shard = rs.getString(2);
+                return new Placement(rs.getLong(1), shard != null ? shard : ShardContext.PRIMARY, rs.getBoolean(3));
+            },
+            username);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        placements.put(username, rows.get(0));
+        return rows.get(0);
+    }
+
+    /**
+     * 신규 사용자를 둘 샤드
+     */
+    public String choose(Long userId) {
+        return placement.get(Math.floorMod(userId, placement.size()));
+    }
+
+    /**
+     * 샤드 위치 기록 (이동 완료 시 migrating도 해제)
+     */
+    public void assign(Long userId, String shard) {
+        write(userId, shard, false);
+    }
+
+    public void markMigrating(Long userId, String currentShard, boolean migrating) {
+        write(userId, currentShard, migrating);
+    }
+
+    public Optional<String> usernameOf(Long userId) {
+        return primary.query("SELECT username FROM users WHERE id = ?",
+            (rs, rowNum) -> rs.getString(1), userId).stream().findFirst();
+    }
+
+    /**
+     * 샤드별 사용자 수 (디렉터리에 없는 사용자는 primary로 집계)
+     */
+    public Map<String, Long> userCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        primary.query(
+            "SELECT d.shard_key, COUNT(*) FROM users u "
+                + "LEFT JOIN shard_directory d ON d.user_id = u.id GROUP BY d.shard_key",
+            rs -> {
+                String shard = rs.getString(1);
+                counts.merge(shard != null ? shard : ShardContext.PRIMARY, rs.getLong(2), Long::sum);
+            });
+        return counts;
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(RemoteInvalidationEvent event) {
+        if (!REGION_SHARD_DIRECTORY.equals(event.region())) {
+            return;
+        }
+        if (event.key() != null) {
+            placements.invalidate(event.key());
+        } else {
+            placements.invalidateAll();
+        }
+    }
+
+    private void write(Long userId, String shard, boolean migrating) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = primary.update(
+            "UPDATE shard_directory SET shard_key = ?, migrating = ?, updated_at = ? WHERE user_id = ?",
+            shard, migrating, now, userId);
+        if (updated == 0) {
+            primary.update(
+                "INSERT INTO shard_directory (user_id, shard_key, migrating, updated_at) VALUES (?, ?, ?, ?)",
+                userId, shard, migrating, now);
+        }
+        usernameOf(userId).ifPresent(username -> {
+            placements.invalidate(username);
+            invalidationBus.publish(REGION_SHARD_DIRECTORY, username);
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.workout.shard;
+
+import com.example.workout.event.ExerciseCatalogChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.SchemaToolingSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.tool.schema.Action;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 샤드 스키마 갱신과 운동 종목 카탈로그 복제
+ * - sharding.init-schema=true면 시작 시 각 샤드에 Hibernate 스키마 UPDATE 실행 (ddl-auto는 primary에만 적용됨)
+ *   없는 테이블/컬럼/인덱스/외래 키를 추가하고, 컬럼 타입 변경과 삭제는 하지 않음
+ * - exercise_types는 primary가 원본이고, 시작 시와 종목 변경 커밋 후 모든 샤드에 맞춤
+ *   (샤드의 exercise_records/personal_records가 같은 id로 참조)
+ */
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardReplicator {
+    private static final Logger log = LoggerFactory.getLogger(ShardReplicator.class);
+
+    // 옛 javax 이름의 스키마 동작 설정 (SchemaToolingSettings 상수가 deprecated라 문자열로 지움)
+    private static final String LEGACY_DATABASE_ACTION = "javax.persistence.schema-generation.database.action";
+    private static final String LEGACY_SCRIPTS_ACTION = "javax.persistence.schema-generation.scripts.action";
+
+    private final ShardRoutingDataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ShardSchemaMetadata schemaMetadata;
+    private final boolean initSchema;
+
+    public ShardReplicator(ShardRoutingDataSource dataSource,
+                           EntityManagerFactory entityManagerFactory,
+                           ShardSchemaMetadata schemaMetadata,
+                           @Value("${sharding.init-schema:false}") boolean initSchema) {
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+        this.schemaMetadata = schemaMetadata;
+        this.initSchema = initSchema;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (initSchema) {
+            updateSchema();
+        }
+        replicateCatalog();
+    }
+
+    /**
+     * 샤드마다 ddl-auto=update와 같은 스키마 UPDATE (primary 설정과 관계없이 UPDATE만, 스크립트 출력 없음)
+     */
+    private void updateSchema() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        ServiceRegistry serviceRegistry = sessionFactory.unwrap(SessionFactoryImplementor.class).getServiceRegistry();
+        Map<String, Object> settings = new HashMap<>(sessionFactory.getProperties());
+        settings.remove(SchemaToolingSettings.HBM2DDL_AUTO);
+        settings.remove(LEGACY_DATABASE_ACTION);
+        settings.remove(LEGACY_SCRIPTS_ACTION);
+        settings.remove(SchemaToolingSettings.JAKARTA_HBM2DDL_SCRIPTS_ACTION);
+        settings.put(SchemaToolingSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, Action.UPDATE);
+        for (String shard : dataSource.shardKeys()) {
+            if (!ShardContext.PRIMARY.equals(shard)) {
+                // 스키마 도구는 라우팅 DataSource로 커넥션을 얻으므로 샤드 컨텍스트 안에서 실행
+                ShardContext.runIn(shard, () -> SchemaManagementToolCoordinator.process(
+                    schemaMetadata.metadata(), serviceRegistry, settings, action -> {
+                    }));
+                log.info("샤드 스키마 갱신: shard={}", shard);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ExerciseCatalogChangedEvent event) {
+        replicateCatalog();
+    }
+
+    public void replicateCatalog() {
+        JdbcTemplate primary = new JdbcTemplate(dataSource.shard(ShardContext.PRIMARY));
+        for (String shard : dataSource.shardKeys()) {
+            if (ShardContext.PRIMARY.equals(shard)) {
+                continue;
+            }
+            try {
+                int rows = ShardDataCopier.replicate(primary, new JdbcTemplate(dataSource.shard(shard)),
+                    ShardTables.EXERCISE_TYPES);
+                log.info("운동 종목 카탈로그 복제: shard={}, rows={}", shard, rows);
+            } catch (RuntimeException e) {
+                // 다음 변경 또는 재시작 때 다시 맞춤
+                log.warn("운동 종목 카탈로그 복제 실패: shard={}", shard, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.workout.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ShardContext의 샤드 키로 커넥션을 고르는 DataSource (JPA/JdbcTemplate 모두 이 DataSource를 사용)
+ * - 키가 없으면 primary (인증, 카탈로그, 캐시 무효화 로그, 배치 작업)
+ * - 등록되지 않은 키는 잘못된 라우팅이므로 primary로 떨어지지 않고 예외
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    private final Map<String, DataSource> shards;
+
+    public ShardRoutingDataSource(DataSource primary, Map<String, DataSource> shards) {
+        Map<String, DataSource> all = new LinkedHashMap<>();
+        all.put(ShardContext.PRIMARY, primary);
+        all.putAll(shards);
+        this.shards = Collections.unmodifiableMap(all);
+
+        setTargetDataSources(new LinkedHashMap<Object, Object>(all));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shard = ShardContext.current();
+        return shard != null ? shard : ShardContext.PRIMARY;
+    }
+
+    /**
+     * primary를 포함한 샤드 키 (등록 순서)
+     */
+    public Set<String> shardKeys() {
+        return shards.keySet();
+    }
+
+    /**
+     * 라우팅을 거치지 않는 샤드 DataSource (마이그레이션/복제에서 두 샤드를 동시에 다룰 때)
+     */
+    public DataSource shard(String key) {
+        DataSource dataSource = shards.get(key);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("등록되지 않은 샤드입니다: " + key);
+        }
+        return dataSource;
+    }
+
+    @Override
+    public void destroy() {
+        for (DataSource dataSource : shards.values()) {
+            if (dataSource instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+}
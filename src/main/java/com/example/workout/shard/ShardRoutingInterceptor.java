@@ -0,0 +1,66 @@
+package com.example.workout.shard;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 인증된 사용자의 샤드를 요청 스레드에 설정 (이후 트랜잭션은 모두 해당 샤드 커넥션 사용)
+ * - 사용자 조회/인증은 필터 단계에서 primary로 끝난 뒤이므로 여기서 바꿔도 영향 없음
+ * - 샤드 이동 중인 사용자는 503으로 거절 (복사 중 원본에 쓰기가 생기지 않도록)
+ */
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardRoutingInterceptor implements AsyncHandlerInterceptor {
+    private final ShardDirectory directory;
+
+    public ShardRoutingInterceptor(ShardDirectory directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String username = currentUsername();
+        if (username == null) {
+            return true;
+        }
+        ShardDirectory.Placement placement = directory.lookup(username);
+        if (placement == null) {
+            return true;
+        }
+        if (placement.migrating()) {
+            throw new RejectedExecutionException("사용자 데이터를 다른 저장소로 옮기는 중입니다.");
+        }
+        ShardContext.set(placement.shard());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ShardContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ShardContext.clear();
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof UserDetails userDetails) {
+            return userDetails.getUsername();
+        }
+        return principal instanceof String name ? name : null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.workout.shard;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * SessionFactory 생성 시 매핑 메타데이터를 보관 (샤드 스키마 UPDATE용)
+ * - SessionFactory는 메타데이터를 노출하지 않으므로 Integrator로 받아 둠 (ShardingConfig에서 등록)
+ */
+public class ShardSchemaMetadata implements Integrator {
+    private volatile Metadata metadata;
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        this.metadata = null;
+    }
+
+    public Metadata metadata() {
+        if (metadata == null) {
+            throw new IllegalStateException("Hibernate 매핑 메타데이터가 아직 준비되지 않았습니다.");
+        }
+        return metadata;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.workout.shard;
+
+import com.example.workout.dto.ShardMigrationDTO;
+import com.example.workout.exception.BusinessException;
+import com.example.workout.exception.ErrorCode;
+import com.example.workout.exception.UserNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 사용자 샤드 배치와 이동(리샤딩)
+ * - 가입: 디렉터리가 고른 샤드에 users 행 복제본을 만든 뒤 디렉터리에 기록
+ * - 이동: migrating 표시(요청 차단) -> 대상 샤드에 한 트랜잭션으로 복사 -> 디렉터리 전환 -> 원본 삭제
+ *   복사가 실패하면 대상은 롤백되고 디렉터리는 원래 샤드로 돌아감 (원본은 전환 전까지 그대로)
+ * - 행 id를 그대로 옮기므로 샤드마다 AUTO_INCREMENT 범위가 겹치지 않아야 함
+ *   (예: auto_increment_increment=샤드 수, auto_increment_offset=샤드 번호)
+ */
+@Service
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardService {
+    private static final Logger log = LoggerFactory.getLogger(ShardService.class);
+
+    private final ShardRoutingDataSource dataSource;
+    private final ShardDirectory directory;
+    private final long drainMs;
+
+    public ShardService(ShardRoutingDataSource dataSource,
+                        ShardDirectory directory,
+                        @Value("${sharding.migration.drain-ms:3000}") long drainMs) {
+        this.dataSource = dataSource;
+        this.directory = directory;
+        this.drainMs = drainMs;
+    }
+
+    /**
+     * 신규 사용자 배치 (가입 직후, 토큰 발급 전에 호출)
+     */
+    public String placeNewUser(Long userId) {
+        String shard = directory.choose(userId);
+        if (!ShardContext.PRIMARY.equals(shard)) {
+            inTransaction(shard, target -> ShardDataCopier.copy(jdbc(ShardContext.PRIMARY), target, ShardTables.USERS, userId));
+        }
+        directory.assign(userId, shard);
+        return shard;
+    }
+
+    /**
+     * 사용자 데이터를 다른 샤드로 이동
+     * - 이동 중인 사용자의 요청은 503 (Retry-After)으로 거절되고, 이미 처리 중인 요청은 drain-ms 동안 기다림
+     */
+    public ShardMigrationDTO migrate(Long userId, String targetShard) {
+        if (!dataSource.shardKeys().contains(targetShard)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "등록되지 않은 샤드입니다: " + targetShard);
+        }
+        String username = directory.usernameOf(userId)
+            .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+        ShardDirectory.Placement placement = directory.lookup(username);
+        if (placement.migrating()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이미 이동 중인 사용자입니다: " + userId);
+        }
+        String sourceShard = placement.shard();
+        if (sourceShard.equals(targetShard)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이미 " + targetShard + " 샤드에 있습니다.");
+        }
+
+        long startedAt = System.nanoTime();
+        directory.markMigrating(userId, sourceShard, true);
+        Map<String, Integer> copied;
+        try {
+            drain();
+            JdbcTemplate source = jdbc(sourceShard);
+            copied = inTransaction(targetShard, target -> {
+                Map<String, Integer> counts = new LinkedHashMap<>();
+                for (ShardTables.Table table : ShardTables.USER_DATA) {
+                    // primary에는 원본 users 행이 항상 있고, 다른 샤드에는 가입 시 만든 복제본이 남아 있을 수 있음
+                    if (table == ShardTables.USERS && ShardDataCopier.exists(target, table, userId)) {
+                        continue;
+                    }
+                    counts.put(table.name(), ShardDataCopier.copy(source, target, table, userId));
+                }
+                return counts;
+            });
+        } catch (RuntimeException e) {
+            directory.markMigrating(userId, sourceShard, false);
+            throw e;
+        }
+        directory.assign(userId, targetShard);
+
+        try {
+            inTransaction(sourceShard, source -> {
+                for (int i = ShardTables.USER_DATA.size() - 1; i >= 0; i--) {
+                    ShardTables.Table table = ShardTables.USER_DATA.get(i);
+                    // primary의 users 행은 인증 원본이므로 유지
+                    if (table == ShardTables.USERS && ShardContext.PRIMARY.equals(sourceShard)) {
+                        continue;
+                    }
+                    ShardDataCopier.delete(source, table, userId);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 디렉터리는 이미 대상을 가리키므로 원본에 남은 행은 읽히지 않음 (다음 정리 때 삭제)
+            log.warn("샤드 이동 후 원본 정리 실패: userId={}, shard={}", userId, sourceShard, e);
+        }
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("사용자 샤드 이동 완료: userId={}, {} -> {}, rows={}, elapsed={}ms",
+            userId, sourceShard, targetShard, copied, elapsedMs);
+        return ShardMigrationDTO.builder()
+            .userId(userId)
+            .fromShard(sourceShard)
+            .toShard(targetShard)
+            .copiedRows(copied)
+            .elapsedMs(elapsedMs)
+            .build();
+    }
+
+    public Set<String> shardKeys() {
+        return dataSource.shardKeys();
+    }
+
+    public Map<String, Long> userCounts() {
+        return directory.userCounts();
+    }
+
+    private void drain() {
+        if (drainMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(drainMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 이동이 중단되었습니다.", e);
+        }
+    }
+
+    private JdbcTemplate jdbc(String shard) {
+        return new JdbcTemplate(dataSource.shard(shard));
+    }
+
+    /**
+     * 샤드 DataSource 하나에 대한 로컬 트랜잭션 (라우팅 DataSource/JPA 트랜잭션과 무관)
+     */
+    private <T> T inTransaction(String shard, Function<JdbcTemplate, T> work) {
+        DataSource shardDataSource = dataSource.shard(shard);
+        JdbcTemplate jdbc = new JdbcTemplate(shardDataSource);
+        return new TransactionTemplate(new DataSourceTransactionManager(shardDataSource))
+            .execute(status -> work.apply(jdbc));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.workout.shard;
+
+import java.util.List;
+
+/**
+ * 사용자 단위로 샤드에 놓이는 테이블 (외래 키 순서: 부모가 먼저)
+ * - 복사는 이 순서, 삭제는 역순
+ * - 조건의 ?는 사용자 id 하나 (자식 테이블은 부모 테이블 서브쿼리로 소유자를 찾음)
+ * - users 행은 FK 대상이라 샤드에 복제본을 두지만 인증은 primary의 원본을 사용 (가입 후 변경되지 않음)
+ */
+public final class ShardTables {
+
+    public record Table(String name, String ownerCondition) {
+    }
+
+    public static final Table USERS = new Table("users", "id = ?");
+
+    public static final List<Table> USER_DATA = List.of(
+        USERS,
+        new Table("user_profiles", "user_id = ?"),
+        new Table("workout_routines", "user_id = ?"),
+        new Table("routine_exercises", "routine_id IN (SELECT id FROM workout_routines WHERE user_id = ?)"),
+        new Table("workout_sessions", "user_id = ?"),
+        new Table("exercise_records", "session_id IN (SELECT id FROM workout_sessions WHERE user_id = ?)"),
+        new Table("diet_sessions", "user_id = ?"),
+        new Table("food_entries", "diet_session_id IN (SELECT id FROM diet_sessions WHERE user_id = ?)"),
+        new Table("personal_records", "user_id = ?"),
+        new Table("last_performances", "user_id = ?"),
+        new Table("muscle_load_daily", "user_id = ?"),
+        new Table("user_streaks", "user_id = ?"),
+        new Table("user_streak_runs", "user_id = ?"),
+        new Table("weekly_reports", "user_id = ?"),
+        new Table("session_archives", "user_id = ?")
+    );
+
+    // 모든 샤드에 복제되는 참조 테이블 (primary가 원본)
+    public static final String EXERCISE_TYPES = "exercise_types";
+
+    private ShardTables() {
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.workout.timeseries;
+
+/**
+ * Largest-Triangle-Three-Buckets 다운샘플링
+ * - 첫/마지막 점은 항상 유지하고, 나머지를 (threshold - 2)개 구간으로 나눠 구간마다 한 점을 선택
+ * - 선택 기준: 직전 선택점과 다음 구간 평균점으로 만든 삼각형의 넓이가 가장 큰 점 (급격한 변화/피크 보존)
+ * - 시간 O(n), 입력 배열은 x 오름차순이어야 함
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * @param x         x 좌표 (오름차순)
+     * @param y         y 좌표
+     * @param threshold 목표 점 개수 (3 미만이거나 입력보다 크면 전체 유지)
+     * @return 선택된 점의 인덱스 (오름차순)
+     */
+    public static int[] downsample(double[] x, double[] y, int threshold) {
+        int n = x.length;
+        if (y.length != n) {
+            throw new IllegalArgumentException("x와 y의 길이가 다릅니다.");
+        }
+        if (threshold >= n || threshold < 3) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] sampled = new int[threshold];
+        int count = 0;
+        sampled[count++] = 0;
+
+        double every = (double) (n - 2) / (threshold - 2);
+        int a = 0;
+        for (int i = 0; i < threshold - 2; i++) {
+            // 다음 구간의 평균점
+            int avgStart = (int) Math.floor((i + 1) * every) + 1;
+            int avgEnd = Math.min((int) Math.floor((i + 2) * every) + 1, n);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                avgX += x[j];
+                avgY += y[j];
+            }
+            int avgLength = avgEnd - avgStart;
+            avgX /= avgLength;
+            avgY /= avgLength;
+
+            // 현재 구간에서 삼각형 넓이가 최대인 점
+            int rangeStart = (int) Math.floor(i * every) + 1;
+            int rangeEnd = (int) Math.floor((i + 1) * every) + 1;
+            double maxArea = -1;
+            int maxIndex = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                double area = Math.abs((x[a] - avgX) * (y[j] - y[a]) - (x[a] - x[j]) * (avgY - y[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = j;
+                }
+            }
+            sampled[count++] = maxIndex;
+            a = maxIndex;
+        }
+
+        sampled[count] = n - 1;
+        return sampled;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.workout.web;
+
+import com.example.workout.exception.DeadlineExceededException;
+import com.example.workout.shard.ShardContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * /api/rx 읽기 경로의 블로킹 조회 실행기
+ * - 요청 스레드는 CompletableFuture를 반환하고 바로 반납 (서블릿 비동기 처리), 조회는 가상 스레드에서 실행
+ * - 동시 실행은 커넥션 풀 크기(rx.max-in-flight)로 제한: 나머지는 스레드 대신 세마포어 대기열에서 대기
+ * - 대기열이 rx.max-queued를 넘으면 바로 RejectedExecutionException (503) - 커넥션 타임아웃까지 쌓이지 않음
+ * - 요청의 샤드(ShardContext)도 조회 스레드로 넘김
+ * - 요청 기한이 지나도록 슬롯을 얻지 못한 조회는 실행하지 않음 (이미 떠난 클라이언트의 작업 정리)
+ */
+@Component
+public class BoundedReadExecutor {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final int maxQueued;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    public BoundedReadExecutor(@Value("${rx.max-in-flight:${spring.datasource.hikari.maximum-pool-size:10}}") int maxInFlight,
+                               @Value("${rx.max-queued:2000}") int maxQueued,
+                               MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxInFlight, true);
+        this.maxQueued = maxQueued;
+        Gauge.builder("rx.reads.active", active, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("rx.reads.queued", queued, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * 요청 기한(Deadline)을 조회 스레드로 넘기고, 기한 안에 실행 슬롯을 얻지 못하면 DeadlineExceededException
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> read) {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("읽기 대기열이 가득 찼습니다."));
+        }
+        return CompletableFuture.supplyAsync(ShardContext.wrap(Deadline.wrap(() -> {
+            try {
+                if (!acquire()) {
+                    throw new DeadlineExceededException("요청 처리 기한 안에 조회를 시작하지 못했습니다.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("읽기 작업이 중단되었습니다.");
+            } finally {
+                queued.decrementAndGet();
+            }
+            active.incrementAndGet();
+            try {
+                return read.get();
+            } finally {
+                active.decrementAndGet();
+                permits.release();
+            }
+        })), executor);
+    }
+
+    private boolean acquire() throws InterruptedException {
+        Long remainingMillis = Deadline.remainingMillis();
+        if (remainingMillis == null) {
+            permits.acquire();
+            return true;
+        }
+        return remainingMillis > 0 && permits.tryAcquire(remainingMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.workout.web;
+
+import com.example.workout.service.UserDataVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 사용자별 조회 API의 Conditional GET 처리
+ * - 컨트롤러(=리포지토리 조회) 실행 전에 사용자 데이터 버전으로 ETag를 만들고
+ *   If-None-Match가 일치하면 바로 304 응답
+ * - 일치하지 않으면 ETag와 Cache-Control(no-cache)을 붙이고 정상 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final UserDataVersionService dataVersionService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        String username = currentUsername();
+        if (username == null) {
+            return true;
+        }
+
+        // ETag는 데이터 버전 기준이므로 표현(JSON/CBOR 등)별로 캐시가 섞이지 않게 함
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        String etag = dataVersionService.etag(username, LocalDate.now(zoneOf(request)));
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return false;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        return true;
+    }
+
+    private String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof UserDetails userDetails) {
+            return userDetails.getUsername();
+        }
+        return principal instanceof String name ? name : null;
+    }
+
+    private ZoneId zoneOf(HttpServletRequest request) {
+        String tz = request.getParameter("tz");
+        if (tz == null) {
+            return DEFAULT_ZONE;
+        }
+        try {
+            return ZoneId.of(tz);
+        } catch (DateTimeException e) {
+            return DEFAULT_ZONE;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.workout.web;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 현재 요청의 처리 기한 (스레드 로컬, System.nanoTime 기준)
+ * - DeadlineInterceptor가 요청 시작 시 설정하고 완료 시 해제
+ * - 트랜잭션 시작 시 남은 시간이 트랜잭션/JDBC 쿼리 타임아웃이 됨 (DeadlineAwareJpaTransactionManager)
+ * - 다른 스레드에서 조회를 실행할 때는 wrap()으로 기한을 넘겨줌
+ */
+public final class Deadline {
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private Deadline() {
+    }
+
+    public static void set(Long deadlineNanos) {
+        if (deadlineNanos != null) {
+            CURRENT.set(deadlineNanos);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return 기한(nanoTime), 없으면 null
+     */
+    public static Long current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return 남은 시간(ms), 기한이 없으면 null (이미 지났으면 0 이하)
+     */
+    public static Long remainingMillis() {
+        Long deadline = CURRENT.get();
+        return deadline != null ? TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()) : null;
+    }
+
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        return wrap(CURRENT.get(), task);
+    }
+
+    /**
+     * wrap()과 같되 기한을 지금부터 timeoutMillis 이내로 줄임 (요청 기한이 더 이르면 요청 기한)
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task, long timeoutMillis) {
+        long limit = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Long deadline = CURRENT.get();
+        return wrap(deadline != null && deadline - limit < 0 ? deadline : limit, task);
+    }
+
+    private static <T> Supplier<T> wrap(Long deadline, Supplier<T> task) {
+        return () -> {
+            Long previous = CURRENT.get();
+            set(deadline);
+            try {
+                return task.get();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.workout.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 처리 기한 설정
+ * - 기한 = X-Request-Timeout-Ms 헤더 (클라이언트가 기다릴 남은 시간) > @RequestDeadline > deadline.default-ms
+ * - deadline.max-ms를 넘을 수 없음 (클라이언트가 기한을 늘려 커넥션을 오래 잡지 못하게)
+ */
+@Component
+public class DeadlineInterceptor implements AsyncHandlerInterceptor {
+    public static final String HEADER = "X-Request-Timeout-Ms";
+
+    private final long defaultMillis;
+    private final long maxMillis;
+
+    public DeadlineInterceptor(@Value("${deadline.default-ms:15000}") long defaultMillis,
+                               @Value("${deadline.max-ms:30000}") long maxMillis) {
+        this.defaultMillis = defaultMillis;
+        this.maxMillis = maxMillis;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long millis = Math.min(budget(request, handler), maxMillis);
+        Deadline.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Deadline.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Deadline.clear();
+    }
+
+    private long budget(HttpServletRequest request, Object handler) {
+        String header = request.getHeader(HEADER);
+        if (header != null) {
+            try {
+                long millis = Long.parseLong(header.trim());
+                if (millis > 0) {
+                    return millis;
+                }
+            } catch (NumberFormatException ignored) {
+                // 잘못된 값은 무시하고 기본 기한 사용
+            }
+        }
+        if (handler instanceof HandlerMethod method) {
+            RequestDeadline deadline = AnnotatedElementUtils.findMergedAnnotation(method.getMethod(), RequestDeadline.class);
+            if (deadline == null) {
+                deadline = AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(), RequestDeadline.class);
+            }
+            if (deadline != null) {
+                return deadline.millis();
+            }
+        }
+        return defaultMillis;
+    }
+}
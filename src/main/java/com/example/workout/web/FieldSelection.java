@@ -0,0 +1,61 @@
+package com.example.workout.web;
+
+import com.example.workout.exception.BusinessException;
+import com.example.workout.exception.ErrorCode;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * fields= 파라미터 (응답에 포함할 필드, 쉼표 구분)
+ * - 허용 목록에 없는 필드는 400
+ * - 서비스는 includes()로 필요한 연관관계만 조회하고, put()으로 요청된 필드만 응답 맵에 담음
+ */
+public final class FieldSelection {
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection parse(String fields, Set<String> allowed) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "알 수 없는 필드입니다: " + name + " (허용: " + String.join(",", new TreeSet<>(allowed)) + ")");
+            }
+            selected.add(name);
+        }
+        if (selected.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "fields에 하나 이상의 필드를 지정해야 합니다.");
+        }
+        return new FieldSelection(selected);
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    public boolean includesAny(String... names) {
+        for (String name : names) {
+            if (fields.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청된 필드만 담음 (값 계산은 포함될 때만)
+     */
+    public void put(Map<String, Object> target, String field, Supplier<?> value) {
+        if (fields.contains(field)) {
+            target.put(field, value.get());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.workout.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔드포인트별 기본 처리 기한 (X-Request-Timeout-Ms 헤더가 없을 때 사용).
+ *
+ * 사용 예:
+ * <pre>
+ * &#64;RequestDeadline(millis = 5000)
+ * &#64;GetMapping("/dashboard")
+ * public ResponseEntity&lt;WorkoutDashboardDTO&gt; getWorkoutDashboard(...)
+ * </pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequestDeadline {
+    long millis();
+}
@@ -0,0 +1,85 @@
+package com.example.workout.analytics;
+
+import com.example.workout.analytics.AnalyticsSnapshot.GroupBy;
+import com.example.workout.analytics.AnalyticsSnapshot.Groups;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AnalyticsSnapshot 테스트")
+class AnalyticsSnapshotTest {
+
+    // 2025-03-03 월요일
+    private static final int MONDAY = (int) LocalDate.of(2025, 3, 3).toEpochDay();
+
+    private AnalyticsSnapshot snapshot() {
+        return AnalyticsSnapshot.builder()
+            .session(10).add(MONDAY, 1, 100f, (short) 5, 8f).add(MONDAY, 1, 90f, (short) 8, Float.NaN)
+            .session(11).add(MONDAY + 2, 2, 40f, (short) 10, 7f)
+            .session(12).add(MONDAY + 8, 1, 105f, (short) 3, 9f)
+            .build();
+    }
+
+    @Test
+    @DisplayName("종목별 세트 수, 볼륨, 최고 중량, RPE 합계")
+    void shouldGroupByExercise() {
+        Groups groups = snapshot().aggregate(GroupBy.EXERCISE, MONDAY, MONDAY + 30, 0);
+
+        assertThat(groups.keys()).containsExactly(1, 2);
+        assertThat(groups.sets()).containsExactly(3, 1);
+        assertThat(groups.volume()).containsExactly(100 * 5 + 90 * 8 + 105 * 3, 400.0);
+        assertThat(groups.topWeight()).containsExactly(105f, 40f);
+        assertThat(groups.rpeSum()).containsExactly(17.0, 7.0);
+        assertThat(groups.rpeCount()).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("주별 묶음은 월요일 시작, 구간과 종목 필터 적용")
+    void shouldGroupByWeekWithFilters() {
+        Groups groups = snapshot().aggregate(GroupBy.WEEK, MONDAY - 3, MONDAY + 8, 1);
+
+        assertThat(groups.keys()).containsExactly(MONDAY, MONDAY + 7);
+        assertThat(groups.sets()).containsExactly(2, 1);
+
+        Groups days = snapshot().aggregate(GroupBy.DAY, MONDAY + 1, MONDAY + 2, 0);
+        assertThat(days.keys()).containsExactly(MONDAY + 2);
+    }
+
+    @Test
+    @DisplayName("세션 추가는 뒤에 붙고, 적재 때 읽은 세션은 다시 추가하지 않음")
+    void shouldAppendNewSessionsOnly() {
+        AnalyticsSnapshot snapshot = snapshot();
+        int rows = snapshot.rows();
+
+        boolean duplicate = snapshot.appendSession(11, MONDAY + 2,
+            new int[]{2}, new float[]{40f}, new short[]{10}, new float[]{7f});
+        boolean appended = snapshot.appendSession(13, MONDAY + 9,
+            new int[]{3, 3}, new float[]{60f, 60f}, new short[]{12, 12}, new float[]{Float.NaN, Float.NaN});
+
+        assertThat(duplicate).isFalse();
+        assertThat(appended).isTrue();
+        assertThat(snapshot.rows()).isEqualTo(rows + 2);
+        Groups groups = snapshot.aggregate(GroupBy.EXERCISE, MONDAY, MONDAY + 30, 0);
+        assertThat(groups.keys()).containsExactly(1, 2, 3);
+        assertThat(groups.volume()[2]).isEqualTo(1440.0);
+        assertThat(groups.rpeCount()[2]).isZero();
+    }
+
+    @Test
+    @DisplayName("용량을 넘는 추가는 배열을 늘림")
+    void shouldGrowColumns() {
+        AnalyticsSnapshot snapshot = AnalyticsSnapshot.builder().build();
+        long before = snapshot.estimatedBytes();
+        for (int session = 1; session <= 100; session++) {
+            snapshot.appendSession(session, MONDAY + session, new int[]{1, 1, 1},
+                new float[]{50f, 50f, 50f}, new short[]{5, 5, 5}, new float[]{8f, 8f, 8f});
+        }
+
+        assertThat(snapshot.rows()).isEqualTo(300);
+        assertThat(snapshot.estimatedBytes()).isGreaterThan(before);
+        assertThat(snapshot.aggregate(GroupBy.EXERCISE, MONDAY, MONDAY + 200, 1).sets()).containsExactly(300);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.workout.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SessionArchiveCodec 테스트")
+class SessionArchiveCodecTest {
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 같은 세트 목록")
+    void shouldRoundTrip() {
+        LocalDateTime day = LocalDateTime.of(2024, 3, 4, 18, 30);
+        List<ArchivedSet> sets = List.of(
+            new ArchivedSet(101, 10, day, 3, 1, 5, 102.5, null, 8.5),
+            new ArchivedSet(102, 10, day, 3, 2, 5, 62.3, null, null),
+            new ArchivedSet(95, 11, day.plusDays(2), 7, 1, 1, null, 1800, null),
+            new ArchivedSet(140, 12, day.plusDays(9), 3, 1, 12, 0.125, 45, 7.25));
+
+        List<ArchivedSet> decoded = SessionArchiveCodec.decode(SessionArchiveCodec.encode(sets));
+
+        assertThat(decoded).containsExactlyElementsOf(sets);
+    }
+
+    @Test
+    @DisplayName("반복되는 세션/종목 열은 원본보다 작게 압축")
+    void shouldCompressRepeatedColumns() {
+        List<ArchivedSet> sets = new ArrayList<>();
+        LocalDateTime day = LocalDateTime.of(2023, 1, 2, 7, 0);
+        long recordId = 1000;
+        for (int session = 0; session < 150; session++) {
+            for (int set = 1; set <= 20; set++) {
+                sets.add(new ArchivedSet(recordId++, 500 + session, day.plusDays(session * 2L),
+                    1 + set / 5, set, 8, 60.0 + (set % 5) * 2.5, null, null));
+            }
+        }
+
+        byte[] payload = SessionArchiveCodec.encode(sets);
+
+        // 행당 약 60바이트인 원본 컬럼보다 훨씬 작아야 함
+        assertThat(payload.length).isLessThan(sets.size() * 4);
+        assertThat(SessionArchiveCodec.decode(payload)).containsExactlyElementsOf(sets);
+    }
+
+    @Test
+    @DisplayName("빈 목록도 인코딩/디코딩 가능")
+    void shouldHandleEmptyList() {
+        assertThat(SessionArchiveCodec.decode(SessionArchiveCodec.encode(List.of()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식이 다른 블롭은 IllegalArgumentException")
+    void shouldRejectUnknownPayload() {
+        assertThatThrownBy(() -> SessionArchiveCodec.decode(new byte[]{1, 2, 3, 4}))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        byte[] payload = SessionArchiveCodec.encode(List.of(
+            new ArchivedSet(1, 1, LocalDateTime.of(2024, 1, 1, 0, 0), 1, 1, 10, 20.0, null, null)));
+        byte[] truncated = java.util.Arrays.copyOf(payload, payload.length - 4);
+        assertThatThrownBy(() -> SessionArchiveCodec.decode(truncated))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.workout.backfill;
+
+import com.example.workout.entity.BackfillCheckpoint;
+import com.example.workout.entity.BackfillJob;
+import com.example.workout.entity.User;
+import com.example.workout.exception.BusinessException;
+import com.example.workout.repository.BackfillCheckpointRepository;
+import com.example.workout.repository.BackfillJobRepository;
+import com.example.workout.repository.UserRepository;
+import com.example.workout.scheduling.SchedulerLockService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BackfillEngine 테스트")
+class BackfillEngineTest {
+
+    @Mock
+    private BackfillJobRepository jobRepository;
+
+    @Mock
+    private BackfillCheckpointRepository checkpointRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> rebuilt = Collections.synchronizedList(new ArrayList<>());
+
+    private BackfillEngine engine() {
+        return engine(List.of());
+    }
+
+    private BackfillEngine engine(List<String> autoStart) {
+        BackfillTask task = BackfillTask.of("totals", user -> {
+            if (user.getId() == 2L) {
+                throw new IllegalStateException("rebuild failed");
+            }
+            rebuilt.add(user.getId());
+        });
+        return new BackfillEngine(List.of(task), jobRepository, checkpointRepository, userRepository,
+            schedulerLockService, transactionManager, 4, 2, 100, 1, autoStart);
+    }
+
+    @Test
+    @DisplayName("사용자 id 범위를 파티션 수만큼 균등 분할하여 체크포인트 생성")
+    @SuppressWarnings("unchecked")
+    void shouldSplitUserIdRangeIntoPartitions() {
+        when(userRepository.findIdStats()).thenReturn(rows(new Object[]{1L, 100L, 100L}));
+        when(jobRepository.save(any())).thenAnswer(invocation -> {
+            BackfillJob job = invocation.getArgument(0);
+            job.setId(1L);
+            return job;
+        });
+        when(checkpointRepository.summarize(1L)).thenReturn(rows(new Object[]{0L, 0L, 4L}));
+
+        engine().start("totals", "admin");
+
+        ArgumentCaptor<List<BackfillCheckpoint>> saved = ArgumentCaptor.forClass(List.class);
+        verify(checkpointRepository).saveAll(saved.capture());
+        assertThat(saved.getValue())
+            .extracting(BackfillCheckpoint::getRangeStart, BackfillCheckpoint::getRangeEnd, BackfillCheckpoint::getLastUserId)
+            .containsExactly(
+                tuple(0L, 25L, 0L),
+                tuple(25L, 50L, 25L),
+                tuple(50L, 75L, 50L),
+                tuple(75L, 100L, 75L));
+    }
+
+    @Test
+    @DisplayName("같은 작업이 RUNNING이면 작업 id와 함께 거부")
+    void shouldRejectStartWhileRunning() {
+        BackfillJob running = job(7L, BackfillJob.Status.RUNNING);
+        when(jobRepository.findFirstByTaskNameAndStatus("totals", BackfillJob.Status.RUNNING))
+            .thenReturn(Optional.of(running));
+
+        assertThatThrownBy(() -> engine().start("totals", "admin"))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("id=7");
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("잠금이 살아 있으면 resume은 상태를 바꾸지 않고 거부")
+    void shouldRejectResumeWhileLocked() {
+        when(schedulerLockService.tryLock(eq("backfill:7"), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> engine().resume(7L))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("잠금");
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    @DisplayName("파티션을 키셋으로 처리하고 실패한 사용자는 건너뛰어 체크포인트에 기록")
+    void shouldProcessPartitionAndCheckpoint() {
+        BackfillJob job = job(7L, BackfillJob.Status.RUNNING);
+        BackfillCheckpoint checkpoint = checkpoint(0L, 10L);
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(checkpointRepository.findByJobIdOrderByPartitionNo(7L)).thenReturn(List.of(checkpoint));
+        when(userRepository.findIdsInRange(eq(0L), eq(10L), any())).thenReturn(List.of(1L, 2L, 3L));
+        when(userRepository.getReferenceById(anyLong())).thenAnswer(invocation -> user(invocation.getArgument(0)));
+
+        engine().run(7L);
+
+        assertThat(rebuilt).containsExactly(1L, 3L);
+        assertThat(checkpoint.getLastUserId()).isEqualTo(3L);
+        assertThat(checkpoint.getProcessed()).isEqualTo(2L);
+        assertThat(checkpoint.getFailed()).isEqualTo(1L);
+        assertThat(checkpoint.getDone()).isTrue();
+        assertThat(job.getStatus()).isEqualTo(BackfillJob.Status.COMPLETED);
+        verify(schedulerLockService).unlock("backfill:7");
+    }
+
+    @Test
+    @DisplayName("connection-budget은 노드 전체 한도라 다른 작업의 파티션이 끝날 때까지 기다림")
+    void shouldShareConnectionBudgetAcrossJobs() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BackfillTask task = BackfillTask.of("totals", user -> {
+            rebuilt.add(user.getId());
+            if (user.getId() == 1L) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        BackfillEngine engine = new BackfillEngine(List.of(task), jobRepository, checkpointRepository, userRepository,
+            schedulerLockService, transactionManager, 4, 1, 100, 1, List.of());
+        BackfillCheckpoint first = checkpoint(0L, 10L);
+        BackfillCheckpoint second = checkpoint(10L, 20L);
+        when(jobRepository.findById(anyLong()))
+            .thenAnswer(invocation -> Optional.of(job(invocation.getArgument(0), BackfillJob.Status.RUNNING)));
+        when(checkpointRepository.findByJobIdOrderByPartitionNo(7L)).thenReturn(List.of(first));
+        when(checkpointRepository.findByJobIdOrderByPartitionNo(8L)).thenReturn(List.of(second));
+        when(userRepository.findIdsInRange(eq(0L), eq(10L), any())).thenReturn(List.of(1L));
+        when(userRepository.findIdsInRange(eq(10L), eq(20L), any())).thenReturn(List.of(11L));
+        when(userRepository.getReferenceById(anyLong())).thenAnswer(invocation -> user(invocation.getArgument(0)));
+
+        Thread firstJob = Thread.ofVirtual().start(() -> engine.run(7L));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread secondJob = Thread.ofVirtual().start(() -> engine.run(8L));
+        Thread.sleep(200);
+        assertThat(rebuilt).containsExactly(1L);
+
+        release.countDown();
+        firstJob.join(5000);
+        secondJob.join(5000);
+        assertThat(rebuilt).containsExactly(1L, 11L);
+        assertThat(second.getDone()).isTrue();
+    }
+
+    @Test
+    @DisplayName("재개 시 죽은 노드의 잠금이 만료될 때까지 다시 시도한 뒤 실행")
+    void shouldRetryUntilLockExpires() {
+        BackfillJob job = job(7L, BackfillJob.Status.RUNNING);
+        when(schedulerLockService.tryLock(eq("backfill:7"), any())).thenReturn(false, false, true);
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+
+        engine().runWhenUnlocked(7L);
+
+        verify(schedulerLockService, times(3)).tryLock(eq("backfill:7"), any());
+        verify(checkpointRepository).findByJobIdOrderByPartitionNo(7L);
+        assertThat(job.getStatus()).isEqualTo(BackfillJob.Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("잠금을 기다리는 사이 다른 노드가 작업을 끝내면 실행하지 않음")
+    void shouldStopWaitingWhenFinishedElsewhere() {
+        when(schedulerLockService.tryLock(eq("backfill:7"), any())).thenReturn(false);
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job(7L, BackfillJob.Status.COMPLETED)));
+
+        engine().runWhenUnlocked(7L);
+
+        verify(checkpointRepository, never()).findByJobIdOrderByPartitionNo(any());
+        verify(schedulerLockService, never()).unlock(any());
+    }
+
+    @Test
+    @DisplayName("자동 시작 작업이 이미 완료/실행 중이면 잠금도 잡지 않고 건너뜀")
+    void shouldSkipAutoStartWhenAlreadyDone() {
+        when(jobRepository.existsByTaskNameAndStatusIn(eq("totals"), any())).thenReturn(true);
+
+        engine(List.of("totals")).startPending();
+
+        verifyNoInteractions(schedulerLockService);
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("한 번도 완료되지 않은 자동 시작 작업은 잠금을 잡은 노드 하나만 시작")
+    void shouldAutoStartPendingTaskOnce() {
+        when(jobRepository.existsByTaskNameAndStatusIn(eq("totals"), any())).thenReturn(false);
+        when(schedulerLockService.tryLock(eq("backfillAutoStart"), any())).thenReturn(false);
+
+        engine(List.of("totals")).startPending();
+
+        verify(jobRepository, never()).save(any());
+        verify(schedulerLockService, never()).unlock(any());
+    }
+
+    private static BackfillJob job(Long id, BackfillJob.Status status) {
+        return BackfillJob.builder()
+            .id(id)
+            .taskName("totals")
+            .status(status)
+            .totalUsers(3L)
+            .requestedBy("admin")
+            .startedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private static BackfillCheckpoint checkpoint(long rangeStart, long rangeEnd) {
+        return BackfillCheckpoint.builder()
+            .jobId(7L)
+            .partitionNo(0)
+            .rangeStart(rangeStart)
+            .rangeEnd(rangeEnd)
+            .lastUserId(rangeStart)
+            .processed(0L)
+            .failed(0L)
+            .done(false)
+            .build();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
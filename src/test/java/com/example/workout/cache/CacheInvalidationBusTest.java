@@ -0,0 +1,209 @@
+package com.example.workout.cache;
+
+import com.example.workout.entity.CacheInvalidation;
+import com.example.workout.event.RemoteInvalidationEvent;
+import com.example.workout.repository.CacheInvalidationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationBus 테스트")
+class CacheInvalidationBusTest {
+    private static final String NODE = "node-a";
+    private static final String OTHER_NODE = "node-b";
+    private static final String REGION = CacheInvalidationBus.REGION_USER_DATA_VERSION;
+
+    @Mock
+    private CacheInvalidationRepository repository;
+
+    @Mock
+    private ObjectProvider<CacheManager> cacheManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CacheInvalidationBus bus(long gapTimeoutMillis) {
+        return new CacheInvalidationBus(repository, cacheManager, eventPublisher, transactionManager,
+            true, NODE, 60, gapTimeoutMillis);
+    }
+
+    @Nested
+    @DisplayName("outbox flush")
+    class Flush {
+
+        @Test
+        @DisplayName("쌓인 무효화를 한 번에 기록하고 키는 타입 접두사로 직렬화")
+        @SuppressWarnings("unchecked")
+        void shouldWriteQueuedInvalidations() {
+            CacheInvalidationBus bus = bus(10_000);
+            bus.publish("sessions", 7L);
+            bus.publish(REGION, "user");
+
+            bus.flush();
+
+            ArgumentCaptor<List<CacheInvalidation>> saved = ArgumentCaptor.forClass(List.class);
+            verify(repository).saveAll(saved.capture());
+            assertThat(saved.getValue())
+                .extracting(CacheInvalidation::getCacheName, CacheInvalidation::getCacheKey, CacheInvalidation::getNodeId)
+                .containsExactly(
+                    tuple("sessions", "l:7", NODE),
+                    tuple(REGION, "s:user", NODE));
+        }
+
+        @Test
+        @DisplayName("기록에 실패하면 다시 큐에 넣어 다음 주기에 재시도")
+        @SuppressWarnings("unchecked")
+        void shouldRequeueOnFailure() {
+            when(repository.saveAll(any())).thenThrow(new IllegalStateException("db down")).thenReturn(List.of());
+            CacheInvalidationBus bus = bus(10_000);
+            bus.publish("sessions", 7L);
+
+            bus.flush();
+            bus.flush();
+
+            ArgumentCaptor<List<CacheInvalidation>> saved = ArgumentCaptor.forClass(List.class);
+            verify(repository, times(2)).saveAll(saved.capture());
+            assertThat(saved.getAllValues().get(1))
+                .extracting(CacheInvalidation::getCacheKey)
+                .containsExactly("l:7");
+        }
+
+        @Test
+        @DisplayName("재시도 큐가 한도를 넘으면 캐시별 전체 비우기 한 건씩으로 압축")
+        @SuppressWarnings("unchecked")
+        void shouldCollapseOverflowToCacheWideClears() {
+            when(repository.saveAll(any())).thenThrow(new IllegalStateException("db down")).thenReturn(List.of());
+            CacheInvalidationBus bus = bus(10_000);
+            for (long key = 0; key < 10_000; key++) {
+                bus.publish("sessions", key);
+            }
+            bus.publish(REGION, "user");
+
+            bus.flush();
+            bus.flush();
+
+            ArgumentCaptor<List<CacheInvalidation>> saved = ArgumentCaptor.forClass(List.class);
+            verify(repository, times(2)).saveAll(saved.capture());
+            assertThat(saved.getAllValues().get(1))
+                .extracting(CacheInvalidation::getCacheName, CacheInvalidation::getCacheKey)
+                .containsExactly(
+                    tuple("sessions", null),
+                    tuple(REGION, null));
+        }
+
+        @Test
+        @DisplayName("큐가 비어 있으면 트랜잭션을 열지 않음")
+        void shouldSkipEmptyOutbox() {
+            bus(10_000).flush();
+
+            verifyNoInteractions(repository, transactionManager);
+        }
+    }
+
+    @Nested
+    @DisplayName("poll")
+    class Poll {
+
+        @Test
+        @DisplayName("시작 전에는 읽지 않고, 시작 시 커서를 최대 id로 맞춰 이전 로그를 재생하지 않음")
+        void shouldInitializeCursorOnStart() {
+            CacheInvalidationBus bus = bus(10_000);
+            bus.poll();
+            verifyNoInteractions(repository);
+
+            when(repository.findMaxId()).thenReturn(10L);
+            bus.start();
+            bus.poll();
+
+            verify(repository).findByIdGreaterThanOrderByIdAsc(eq(10L), any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("자기 노드가 쓴 로그는 건너뛰고 다른 노드의 로그만 적용")
+        void shouldSkipOwnRows() {
+            when(repository.findMaxId()).thenReturn(10L);
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).thenReturn(List.of(
+                row(11L, NODE, "s:mine"),
+                row(12L, OTHER_NODE, "s:theirs")));
+            CacheInvalidationBus bus = bus(10_000);
+            bus.start();
+
+            bus.poll();
+
+            verify(eventPublisher).publishEvent(new RemoteInvalidationEvent(REGION, "theirs"));
+            verifyNoMoreInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("건너뛴 번호는 다음 poll에서 다시 확인하고, 늦게 커밋된 로그도 적용")
+        void shouldApplyLateRowsInGap() {
+            when(repository.findMaxId()).thenReturn(10L);
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).thenReturn(List.of(
+                row(11L, OTHER_NODE, "s:first"),
+                row(13L, OTHER_NODE, "s:third")));
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(13L), any())).thenReturn(List.of());
+            when(repository.findByIdIn(Set.of(12L))).thenReturn(List.of(row(12L, OTHER_NODE, "s:second")));
+            CacheInvalidationBus bus = bus(10_000);
+            bus.start();
+
+            bus.poll();
+            bus.poll();
+            bus.poll();
+
+            verify(eventPublisher).publishEvent(new RemoteInvalidationEvent(REGION, "second"));
+            // 늦게 온 번호를 적용한 뒤에는 더 확인하지 않음
+            verify(repository, times(1)).findByIdIn(any());
+            verify(repository, times(2)).findByIdGreaterThanOrderByIdAsc(eq(13L), any());
+        }
+
+        @Test
+        @DisplayName("기한 안에 나타나지 않은 번호는 더 확인하지 않음")
+        void shouldDropGapAfterTimeout() throws InterruptedException {
+            when(repository.findMaxId()).thenReturn(10L);
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).thenReturn(List.of(
+                row(12L, OTHER_NODE, "s:second")));
+            when(repository.findByIdGreaterThanOrderByIdAsc(eq(12L), any())).thenReturn(List.of());
+            when(repository.findByIdIn(Set.of(11L))).thenReturn(List.of());
+            CacheInvalidationBus bus = bus(1);
+            bus.start();
+
+            bus.poll();
+            Thread.sleep(20);
+            bus.poll();
+            bus.poll();
+
+            verify(repository, times(1)).findByIdIn(any());
+        }
+    }
+
+    private static CacheInvalidation row(Long id, String nodeId, String key) {
+        return CacheInvalidation.builder()
+            .id(id)
+            .cacheName(REGION)
+            .cacheKey(key)
+            .nodeId(nodeId)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.workout.config;
+
+import com.example.workout.controller.UserProfileController;
+import com.example.workout.entity.UserProfile;
+import com.example.workout.security.CurrentUsernameArgumentResolver;
+import com.example.workout.service.UserDataVersionService;
+import com.example.workout.service.UserProfileService;
+import com.example.workout.web.ConditionalGetInterceptor;
+import com.example.workout.web.MessagePackHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BinaryFormatConfig 콘텐츠 협상 테스트")
+class BinaryFormatConfigTest {
+    private static final String TEST_USERNAME = "testuser";
+    private static final String ETAG = "W/\"abc-1-20261019\"";
+
+    @Mock
+    private UserProfileService userProfileService;
+
+    @Mock
+    private UserDataVersionService dataVersionService;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // 애플리케이션과 같은 순서: JSON 변환기 뒤에 바이너리 변환기
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new MappingJackson2HttpMessageConverter(objectMapper));
+        new BinaryFormatConfig(objectMapper).extendMessageConverters(converters);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserProfileController(userProfileService))
+            .setMessageConverters(converters.toArray(HttpMessageConverter[]::new))
+            .setCustomArgumentResolvers(new CurrentUsernameArgumentResolver())
+            .addInterceptors(new ConditionalGetInterceptor(dataVersionService))
+            .build();
+
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(TEST_USERNAME, null, List.of()));
+        when(dataVersionService.etag(eq(TEST_USERNAME), any(LocalDate.class))).thenReturn(ETAG);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Accept가 없으면 JSON으로 응답하고 Vary: Accept를 붙임")
+    void shouldDefaultToJson() throws Exception {
+        stubProfile();
+
+        MvcResult result = mockMvc.perform(get("/api/users/profile"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andReturn();
+
+        assertThat(objectMapper.readValue(result.getResponse().getContentAsByteArray(), UserProfile.class).getAge())
+            .isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("Accept: application/cbor면 CBOR로 응답")
+    void shouldNegotiateCbor() throws Exception {
+        assertDecodes(MediaType.APPLICATION_CBOR, objectMapper.copyWith(new CBORFactory()));
+    }
+
+    @Test
+    @DisplayName("Accept: application/x-jackson-smile이면 Smile로 응답")
+    void shouldNegotiateSmile() throws Exception {
+        assertDecodes(MediaType.parseMediaType("application/x-jackson-smile"), objectMapper.copyWith(new SmileFactory()));
+    }
+
+    @Test
+    @DisplayName("Accept: application/x-msgpack이면 MessagePack으로 응답")
+    void shouldNegotiateMessagePack() throws Exception {
+        assertDecodes(MessagePackHttpMessageConverter.APPLICATION_MSGPACK, objectMapper.copyWith(new MessagePackFactory()));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식만 허용하면 406")
+    void shouldRejectUnsupportedAccept() throws Exception {
+        stubProfile();
+
+        mockMvc.perform(get("/api/users/profile").accept(MediaType.APPLICATION_XML))
+            .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 형식과 관계없이 본문 없이 304, Vary: Accept 유지")
+    void shouldKeepVaryOnNotModified() throws Exception {
+        mockMvc.perform(get("/api/users/profile")
+                .accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+
+        verifyNoInteractions(userProfileService);
+    }
+
+    private void assertDecodes(MediaType mediaType, ObjectMapper decoder) throws Exception {
+        stubProfile();
+
+        MvcResult result = mockMvc.perform(get("/api/users/profile").accept(mediaType))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(mediaType))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+            .andReturn();
+
+        UserProfile decoded = decoder.readValue(result.getResponse().getContentAsByteArray(), UserProfile.class);
+        assertThat(decoded.getAge()).isEqualTo(30);
+        assertThat(decoded.getWeight()).isEqualTo(72.5);
+    }
+
+    private void stubProfile() {
+        UserProfile profile = new UserProfile();
+        profile.setId(1L);
+        profile.setAge(30);
+        profile.setWeight(72.5);
+        when(userProfileService.getProfile(TEST_USERNAME)).thenReturn(profile);
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.workout.search;
+
+import com.example.workout.dto.ExerciseTypeDTO;
+import com.example.workout.entity.ExerciseType.ExerciseCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExerciseSearchIndex 테스트")
+class ExerciseSearchIndexTest {
+
+    private ExerciseSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = ExerciseSearchIndex.build(List.of(
+            exercise(1L, "플랫 바벨 벤치 프레스", ExerciseCategory.CHEST,
+                "대흉근(흉골부), 삼두근, 전면 삼각근", "가슴의 기본 컴파운드(프리웨이트) 프레스"),
+            exercise(2L, "인클라인 덤벨 프레스", ExerciseCategory.CHEST,
+                "대흉근(쇄골부/상부), 삼두근, 전면 삼각근", "상부 흉근에 더 큰 자극을 주는 인클라인 프레스"),
+            exercise(3L, "덤벨 숄더 프레스", ExerciseCategory.SHOULDERS,
+                "전면/측면 삼각근, 상완삼두근(보조)", "어깨 전체를 키우는 기본 프레스"),
+            exercise(4L, "랫 풀 다운", ExerciseCategory.BACK,
+                "광배근, 상완이두근, 대원근", "케이블 수직 당기기로 광배근을 공략"),
+            exercise(5L, "벤치", ExerciseCategory.CHEST,
+                "대흉근", "테스트용 짧은 이름")
+        ));
+    }
+
+    @Nested
+    @DisplayName("이름 검색")
+    class NameSearch {
+
+        @Test
+        @DisplayName("정확히 일치 > 접두어 > 부분 일치 순으로 정렬")
+        void shouldRankExactMatchFirst() {
+            List<ExerciseTypeDTO> results = index.search("벤치", null, 10);
+
+            assertThat(results).extracting(ExerciseTypeDTO::getId).containsExactly(5L, 1L);
+        }
+
+        @Test
+        @DisplayName("공백을 무시하고 부분 일치")
+        void shouldIgnoreWhitespace() {
+            List<ExerciseTypeDTO> results = index.search("벤치 프레스", null, 10);
+
+            assertThat(results).extracting(ExerciseTypeDTO::getId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("카테고리 필터 적용")
+        void shouldFilterByCategory() {
+            List<ExerciseTypeDTO> results = index.search("프레스", ExerciseCategory.SHOULDERS, 10);
+
+            assertThat(results).extracting(ExerciseTypeDTO::getId).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("limit 만큼만 반환")
+        void shouldRespectLimit() {
+            assertThat(index.search("프레스", null, 2)).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("초성 검색")
+    class ChoseongSearch {
+
+        @Test
+        @DisplayName("초성만으로 검색")
+        void shouldMatchChoseongOnlyQuery() {
+            List<ExerciseTypeDTO> results = index.search("ㄹㅍㄷ", null, 10);
+
+            assertThat(results).extracting(ExerciseTypeDTO::getId).containsExactly(4L);
+        }
+
+        @Test
+        @DisplayName("초성 접두어 일치가 부분 일치보다 우선")
+        void shouldRankChoseongPrefixFirst() {
+            List<ExerciseTypeDTO> results = index.search("ㄷㅂ", null, 10);
+
+            assertThat(results).extracting(ExerciseTypeDTO::getId).containsExactly(3L, 2L);
+        }
+
+        @Test
+        @DisplayName("음절과 초성 혼합 검색")
+        void shouldMatchMixedQuery() {
+            List<ExerciseTypeDTO> results = index.search("벤ㅊㅍ", null, 10);
+
+            assertThat(results).extracting(ExerciseTypeDTO::getId).containsExactly(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("근육/설명 검색")
+    class MuscleSearch {
+
+        @Test
+        @DisplayName("보조 근육도 근육 토큰으로 검색")
+        void shouldMatchSecondaryMuscle() {
+            List<ExerciseTypeDTO> results = index.search("상완삼두근", null, 10);
+
+            assertThat(results).extracting(ExerciseTypeDTO::getId).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("'전면/측면 삼각근'을 개별 근육으로 펼쳐 검색")
+        void shouldExpandSlashSeparatedMuscles() {
+            List<ExerciseTypeDTO> results = index.search("측면삼각근", null, 10);
+
+            assertThat(results).extracting(ExerciseTypeDTO::getId).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("같은 근육 점수면 이름이 짧은 순")
+        void shouldOrderTiesByNameLength() {
+            List<ExerciseTypeDTO> results = index.search("대흉근", null, 10);
+
+            assertThat(results).extracting(ExerciseTypeDTO::getId).containsExactly(5L, 1L, 2L);
+        }
+
+        @Test
+        @DisplayName("괄호 안 부위로 검색")
+        void shouldMatchQualifier() {
+            List<ExerciseTypeDTO> results = index.search("흉골부", null, 10);
+
+            assertThat(results).extracting(ExerciseTypeDTO::getId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("설명 부분 일치")
+        void shouldMatchDescription() {
+            List<ExerciseTypeDTO> results = index.search("컴파운드", null, 10);
+
+            assertThat(results).extracting(ExerciseTypeDTO::getId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("일치하는 항목이 없으면 빈 결과")
+        void shouldReturnEmptyWhenNoMatch() {
+            assertThat(index.search("스쿼트", null, 10)).isEmpty();
+            assertThat(index.search("  ", null, 10)).isEmpty();
+        }
+    }
+
+    private static ExerciseTypeDTO exercise(Long id, String name, ExerciseCategory category,
+                                            String muscleGroup, String description) {
+        return ExerciseTypeDTO.builder()
+            .id(id)
+            .name(name)
+            .category(category)
+            .muscleGroup(muscleGroup)
+            .description(description)
+            .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.workout.service;
+
+import com.example.workout.cache.CacheInvalidationBus;
+import com.example.workout.dto.AnalyticsDTO;
+import com.example.workout.entity.User;
+import com.example.workout.event.WorkoutSessionChangedEvent;
+import com.example.workout.exception.BusinessException;
+import com.example.workout.repository.ExerciseRecordRepository;
+import com.example.workout.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalyticsService 테스트")
+class AnalyticsServiceTest {
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 12);
+
+    @Mock
+    private ExerciseRecordRepository exerciseRecordRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SessionArchiveService archiveService;
+
+    @Mock
+    private ExerciseCatalog exerciseCatalog;
+
+    @Mock
+    private ExerciseCatalog.Snapshot catalog;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private AnalyticsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AnalyticsService(exerciseRecordRepository, userRepository, archiveService, exerciseCatalog,
+            invalidationBus, 1 << 20, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("조회 기간 검증")
+    class Range {
+
+        @Test
+        @DisplayName("주별 조회 기간이 최대 주 수를 넘으면 스냅샷을 읽지 않고 거부")
+        void shouldRejectLongWeekRange() {
+            assertThatThrownBy(() -> service.query("user", "WEEK", null, DAY.minusYears(20), DAY))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("주별 조회 기간");
+            verifyNoInteractions(userRepository, exerciseRecordRepository);
+        }
+
+        @Test
+        @DisplayName("epochDay 범위를 벗어나는 날짜는 그룹 방식과 관계없이 거부")
+        void shouldRejectExtremeDates() {
+            assertThatThrownBy(() -> service.query("user", "EXERCISE", null, LocalDate.MIN, DAY))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("조회 날짜");
+            assertThatThrownBy(() -> service.query("user", "WEEK", null, null, LocalDate.MAX))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("조회 날짜");
+            verifyNoInteractions(userRepository, exerciseRecordRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("세션 변경 반영")
+    class SessionChanged {
+
+        @BeforeEach
+        void setUp() {
+            when(userRepository.findByUsername("user")).thenReturn(Optional.of(user()));
+            when(exerciseCatalog.snapshot()).thenReturn(catalog);
+            when(exerciseRecordRepository.findAnalyticsRows(1L)).thenReturn(rows(
+                new Object[]{10L, DAY.atTime(9, 0), 3L, 100.0, 5, 8.0}));
+        }
+
+        @Test
+        @DisplayName("캐시된 스냅샷에는 새 세션의 세트만 읽어 추가하고 다시 적재하지 않음")
+        void shouldAppendCreatedSession() {
+            service.query("user", "DAY", null, DAY, DAY.plusDays(1));
+            when(exerciseRecordRepository.findAnalyticsRowsBySessionId(11L)).thenReturn(rows(
+                new Object[]{11L, DAY.plusDays(1).atTime(9, 0), 3L, 110.0, 3, null}));
+
+            service.onSessionChanged(event(11L, DAY.plusDays(1), false));
+            AnalyticsDTO result = service.query("user", "DAY", null, DAY, DAY.plusDays(1));
+
+            assertThat(result.getGroups())
+                .extracting(AnalyticsDTO.Group::getStart, AnalyticsDTO.Group::getSets, AnalyticsDTO.Group::getTopWeight)
+                .containsExactly(
+                    tuple(DAY, 1, 100.0),
+                    tuple(DAY.plusDays(1), 1, 110.0));
+            verify(exerciseRecordRepository, times(1)).findAnalyticsRows(1L);
+            verify(invalidationBus).publish(AnalyticsService.REGION_ANALYTICS, "1");
+        }
+
+        @Test
+        @DisplayName("삭제는 스냅샷을 버려 다음 조회에서 다시 적재")
+        void shouldInvalidateOnDelete() {
+            service.query("user", "DAY", null, DAY, DAY);
+
+            service.onSessionChanged(event(10L, DAY, true));
+            service.query("user", "DAY", null, DAY, DAY);
+
+            verify(exerciseRecordRepository, never()).findAnalyticsRowsBySessionId(anyLong());
+            verify(exerciseRecordRepository, times(2)).findAnalyticsRows(1L);
+            verify(invalidationBus).publish(AnalyticsService.REGION_ANALYTICS, "1");
+        }
+    }
+
+    @Test
+    @DisplayName("캐시된 스냅샷이 없으면 새 세션의 세트를 읽지 않고 다른 노드에만 무효화 전파")
+    void shouldSkipAppendWhenNotCached() {
+        service.onSessionChanged(event(11L, DAY, false));
+
+        verifyNoInteractions(exerciseRecordRepository);
+        verify(invalidationBus).publish(AnalyticsService.REGION_ANALYTICS, "1");
+    }
+
+    private static WorkoutSessionChangedEvent event(Long sessionId, LocalDate date, boolean deleted) {
+        return new WorkoutSessionChangedEvent(1L, "user", sessionId, date, Set.of(3L), deleted);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(1L);
+        return user;
+    }
+}
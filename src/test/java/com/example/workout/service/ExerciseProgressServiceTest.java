@@ -0,0 +1,100 @@
+package com.example.workout.service;
+
+import com.example.workout.archive.ArchivedSet;
+import com.example.workout.service.ExerciseProgressService.DailyProgress;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExerciseProgressService 테스트")
+class ExerciseProgressServiceTest {
+    private static final LocalDate DAY = LocalDate.of(2020, 3, 4);
+
+    @Nested
+    @DisplayName("aggregate 메서드")
+    class Aggregate {
+
+        @Test
+        @DisplayName("보관 세트를 날짜별로 묶어 최고 중량, 추정 1RM, 볼륨, 세트 수를 계산")
+        void shouldAggregateByDate() {
+            List<DailyProgress> days = ExerciseProgressService.aggregate(List.of(
+                set(1, DAY.atTime(7, 0), 100.0, 5),
+                set(2, DAY.atTime(19, 0), 120.0, 1),
+                set(3, DAY.plusDays(2).atTime(7, 0), 80.0, 10)));
+
+            assertThat(days).hasSize(2);
+            DailyProgress first = days.get(0);
+            assertThat(first.date()).isEqualTo(DAY);
+            assertThat(first.topSetWeight()).isEqualTo(120.0);
+            // 100 x 5: Epley 116.7, Brzycki 112.5 / 120 x 1: 120
+            assertThat(first.epley()).isEqualTo(120.0);
+            assertThat(first.brzycki()).isEqualTo(120.0);
+            assertThat(first.volume()).isEqualTo(620.0);
+            assertThat(first.sets()).isEqualTo(2);
+
+            DailyProgress second = days.get(1);
+            assertThat(second.date()).isEqualTo(DAY.plusDays(2));
+            assertThat(second.epley()).isEqualTo(106.7);
+            assertThat(second.brzycki()).isEqualTo(106.7);
+            assertThat(second.volume()).isEqualTo(800.0);
+        }
+
+        @Test
+        @DisplayName("중량 없는 세트는 빼고, 13회 이상 세트는 1RM 추정에서만 뺌")
+        void shouldFollowDailyProgressRules() {
+            List<DailyProgress> days = ExerciseProgressService.aggregate(List.of(
+                set(1, DAY.atTime(7, 0), null, 20),
+                set(2, DAY.atTime(7, 0), 40.0, 15),
+                set(3, DAY.plusDays(1).atTime(7, 0), 0.0, 10)));
+
+            assertThat(days).singleElement().satisfies(day -> {
+                assertThat(day.topSetWeight()).isEqualTo(40.0);
+                assertThat(day.epley()).isNull();
+                assertThat(day.brzycki()).isNull();
+                assertThat(day.volume()).isEqualTo(600.0);
+                assertThat(day.sets()).isEqualTo(1);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("combine 메서드")
+    class Combine {
+
+        @Test
+        @DisplayName("같은 날은 최고값은 큰 쪽, 볼륨과 세트 수는 합치고 날짜순으로 정렬")
+        void shouldMergeSameDay() {
+            List<DailyProgress> hot = List.of(
+                new DailyProgress(DAY, 100.0, 116.7, null, 500.0, 1),
+                new DailyProgress(DAY.plusDays(5), 90.0, 105.0, 101.3, 450.0, 1));
+            List<DailyProgress> archived = List.of(
+                new DailyProgress(DAY.minusDays(3), 70.0, 81.7, 81.3, 350.0, 1),
+                new DailyProgress(DAY, 95.0, 120.0, 110.0, 300.0, 2));
+
+            List<DailyProgress> combined = ExerciseProgressService.combine(hot, archived);
+
+            assertThat(combined).extracting(DailyProgress::date)
+                .containsExactly(DAY.minusDays(3), DAY, DAY.plusDays(5));
+            assertThat(combined.get(1)).isEqualTo(new DailyProgress(DAY, 100.0, 120.0, 110.0, 800.0, 3));
+        }
+
+        @Test
+        @DisplayName("한쪽이 비어 있으면 다른 쪽 그대로")
+        void shouldKeepOtherSideWhenEmpty() {
+            List<DailyProgress> hot = List.of(new DailyProgress(DAY, 100.0, 116.7, 112.5, 500.0, 1));
+
+            assertThat(ExerciseProgressService.combine(hot, List.of())).containsExactlyElementsOf(hot);
+            assertThat(ExerciseProgressService.combine(List.of(), hot)).containsExactlyElementsOf(hot);
+        }
+    }
+
+    private static ArchivedSet set(long recordId, LocalDateTime date, Double weight, int reps) {
+        return new ArchivedSet(recordId, recordId, date, 3, 1, reps, weight, null, null);
+    }
+}
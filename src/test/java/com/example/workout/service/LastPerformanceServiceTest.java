@@ -0,0 +1,112 @@
+package com.example.workout.service;
+
+import com.example.workout.archive.ArchivedSet;
+import com.example.workout.entity.ExerciseRecord;
+import com.example.workout.entity.ExerciseType;
+import com.example.workout.entity.LastPerformance;
+import com.example.workout.entity.WorkoutSession;
+import com.example.workout.repository.ExerciseRecordRepository;
+import com.example.workout.repository.LastPerformanceRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LastPerformanceService 테스트")
+class LastPerformanceServiceTest {
+    private static final Long USER_ID = 1L;
+    private static final Long EXERCISE_ID = 3L;
+    private static final Long DELETED_SESSION_ID = 20L;
+    private static final LocalDateTime ARCHIVED_DAY = LocalDateTime.of(2020, 3, 4, 18, 0);
+    private static final LocalDateTime HOT_DAY = LocalDateTime.of(2026, 9, 1, 18, 0);
+
+    @Mock
+    private LastPerformanceRepository lastPerformanceRepository;
+
+    @Mock
+    private ExerciseRecordRepository exerciseRecordRepository;
+
+    @Mock
+    private SessionArchiveService archiveService;
+
+    private LastPerformanceService lastPerformanceService;
+
+    private LastPerformance lastPerformance;
+
+    @BeforeEach
+    void setUp() {
+        lastPerformanceService = new LastPerformanceService(lastPerformanceRepository, exerciseRecordRepository,
+            new ObjectMapper(), archiveService);
+        lastPerformance = LastPerformance.builder()
+            .exerciseType(ExerciseType.builder().id(EXERCISE_ID).build())
+            .sessionId(DELETED_SESSION_ID)
+            .performedAt(HOT_DAY.plusDays(7))
+            .setsJson("[[100.0,5,null]]")
+            .build();
+        when(lastPerformanceRepository.findByUser_IdAndSessionId(USER_ID, DELETED_SESSION_ID))
+            .thenReturn(List.of(lastPerformance));
+    }
+
+    @Test
+    @DisplayName("남은 hot 세션이 없으면 가장 최근 보관 세션의 세트로 복구")
+    void shouldRepairFromLatestArchivedSession() {
+        when(exerciseRecordRepository.findLatestSessionIds(eq(USER_ID), eq(EXERCISE_ID), eq(DELETED_SESSION_ID), any()))
+            .thenReturn(List.of());
+        when(archiveService.exerciseSets(USER_ID, EXERCISE_ID)).thenReturn(List.of(
+            new ArchivedSet(501, 5, ARCHIVED_DAY, EXERCISE_ID, 1, 5, 80.0, null, null),
+            new ArchivedSet(602, 6, ARCHIVED_DAY.plusDays(3), EXERCISE_ID, 2, 6, 85.0, null, null),
+            new ArchivedSet(601, 6, ARCHIVED_DAY.plusDays(3), EXERCISE_ID, 1, 8, 85.0, null, 8.0)));
+
+        lastPerformanceService.repairAfterDelete(USER_ID, DELETED_SESSION_ID);
+
+        assertThat(lastPerformance.getSessionId()).isEqualTo(6L);
+        assertThat(lastPerformance.getPerformedAt()).isEqualTo(ARCHIVED_DAY.plusDays(3));
+        assertThat(lastPerformance.getSetsJson()).isEqualTo("[[85.0,8,8.0],[85.0,6,null]]");
+        verify(lastPerformanceRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("남은 hot 세션이 보관 세션보다 최근이면 hot 세션으로 복구")
+    void shouldPreferNewerHotSession() {
+        WorkoutSession session = new WorkoutSession();
+        session.setId(21L);
+        session.setDate(HOT_DAY);
+        when(exerciseRecordRepository.findLatestSessionIds(eq(USER_ID), eq(EXERCISE_ID), eq(DELETED_SESSION_ID), any()))
+            .thenReturn(List.of(21L));
+        when(exerciseRecordRepository.findBySession_IdAndExerciseType_IdOrderBySetNumberAsc(21L, EXERCISE_ID))
+            .thenReturn(List.of(ExerciseRecord.builder().session(session).setNumber(1).reps(5).weight(90.0).build()));
+        when(archiveService.exerciseSets(USER_ID, EXERCISE_ID)).thenReturn(List.of(
+            new ArchivedSet(501, 5, ARCHIVED_DAY, EXERCISE_ID, 1, 5, 80.0, null, null)));
+
+        lastPerformanceService.repairAfterDelete(USER_ID, DELETED_SESSION_ID);
+
+        assertThat(lastPerformance.getSessionId()).isEqualTo(21L);
+        assertThat(lastPerformance.getPerformedAt()).isEqualTo(HOT_DAY);
+        assertThat(lastPerformance.getSetsJson()).isEqualTo("[[90.0,5,null]]");
+    }
+
+    @Test
+    @DisplayName("삭제된 세션 말고는 보관분에도 없으면 마지막 수행 기록 삭제")
+    void shouldDeleteWhenNothingLeft() {
+        when(exerciseRecordRepository.findLatestSessionIds(eq(USER_ID), eq(EXERCISE_ID), eq(DELETED_SESSION_ID), any()))
+            .thenReturn(List.of());
+        when(archiveService.exerciseSets(USER_ID, EXERCISE_ID)).thenReturn(List.of(
+            new ArchivedSet(2001, DELETED_SESSION_ID, ARCHIVED_DAY, EXERCISE_ID, 1, 5, 80.0, null, null)));
+
+        lastPerformanceService.repairAfterDelete(USER_ID, DELETED_SESSION_ID);
+
+        verify(lastPerformanceRepository).delete(lastPerformance);
+    }
+}
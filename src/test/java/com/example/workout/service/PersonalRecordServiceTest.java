@@ -0,0 +1,159 @@
+package com.example.workout.service;
+
+import com.example.workout.archive.ArchivedSet;
+import com.example.workout.entity.ExerciseType;
+import com.example.workout.entity.PersonalRecord;
+import com.example.workout.entity.PersonalRecord.RecordType;
+import com.example.workout.repository.ExerciseRecordRepository;
+import com.example.workout.repository.PersonalRecordRepository;
+import com.example.workout.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PersonalRecordService 테스트")
+class PersonalRecordServiceTest {
+    private static final Long USER_ID = 1L;
+    private static final Long EXERCISE_ID = 3L;
+    private static final Long DELETED_SESSION_ID = 20L;
+    private static final LocalDateTime ARCHIVED_DAY = LocalDateTime.of(2020, 3, 4, 18, 0);
+    private static final LocalDateTime HOT_DAY = LocalDateTime.of(2026, 9, 1, 18, 0);
+
+    @Mock
+    private PersonalRecordRepository personalRecordRepository;
+
+    @Mock
+    private ExerciseRecordRepository exerciseRecordRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SessionArchiveService archiveService;
+
+    @InjectMocks
+    private PersonalRecordService personalRecordService;
+
+    @Nested
+    @DisplayName("repairAfterDelete 메서드")
+    class RepairAfterDelete {
+
+        @Test
+        @DisplayName("보관된 세트가 남은 DB 기록보다 무거우면 보관분으로 복구")
+        void shouldRepairFromArchivedSet() {
+            PersonalRecord pr = pr(RecordType.MAX_WEIGHT, 0.0);
+            when(personalRecordRepository.findByUser_IdAndSessionId(USER_ID, DELETED_SESSION_ID)).thenReturn(List.of(pr));
+            when(exerciseRecordRepository.findHeaviestSets(eq(USER_ID), eq(EXERCISE_ID), eq(DELETED_SESSION_ID), any()))
+                .thenReturn(rows(new Object[]{100.0, 5, 21L, HOT_DAY}));
+            when(archiveService.exerciseSets(USER_ID, EXERCISE_ID)).thenReturn(List.of(
+                set(5L, ARCHIVED_DAY, 110.0, 3)));
+
+            personalRecordService.repairAfterDelete(USER_ID, DELETED_SESSION_ID);
+
+            assertThat(pr.getValue()).isEqualTo(110.0);
+            assertThat(pr.getWeight()).isEqualTo(110.0);
+            assertThat(pr.getReps()).isEqualTo(3);
+            assertThat(pr.getSessionId()).isEqualTo(5L);
+            assertThat(pr.getAchievedAt()).isEqualTo(ARCHIVED_DAY);
+            verify(personalRecordRepository, never()).delete(any());
+        }
+
+        @Test
+        @DisplayName("세션 볼륨 기록은 보관 세트를 세션별로 합쳐 비교")
+        void shouldSumArchivedSessionVolume() {
+            PersonalRecord pr = pr(RecordType.MAX_SESSION_VOLUME, 0.0);
+            when(personalRecordRepository.findByUser_IdAndSessionId(USER_ID, DELETED_SESSION_ID)).thenReturn(List.of(pr));
+            when(exerciseRecordRepository.findBestSessionVolumes(eq(USER_ID), eq(EXERCISE_ID), eq(DELETED_SESSION_ID), any()))
+                .thenReturn(rows(new Object[]{900.0, 21L, HOT_DAY}));
+            when(archiveService.exerciseSets(USER_ID, EXERCISE_ID)).thenReturn(List.of(
+                set(5L, ARCHIVED_DAY, 100.0, 5),
+                set(5L, ARCHIVED_DAY, 100.0, 5),
+                set(6L, ARCHIVED_DAY.plusDays(2), 120.0, 5)));
+
+            personalRecordService.repairAfterDelete(USER_ID, DELETED_SESSION_ID);
+
+            assertThat(pr.getValue()).isEqualTo(1000.0);
+            assertThat(pr.getSessionId()).isEqualTo(5L);
+            assertThat(pr.getAchievedAt()).isEqualTo(ARCHIVED_DAY);
+        }
+
+        @Test
+        @DisplayName("DB에도 보관분에도 후보가 없으면 기록 삭제")
+        void shouldDeleteWhenNoCandidate() {
+            PersonalRecord pr = pr(RecordType.MAX_E1RM, 0.0);
+            when(personalRecordRepository.findByUser_IdAndSessionId(USER_ID, DELETED_SESSION_ID)).thenReturn(List.of(pr));
+            when(exerciseRecordRepository.findBestEstimatedOneRepMaxSets(eq(USER_ID), eq(EXERCISE_ID), eq(DELETED_SESSION_ID), any()))
+                .thenReturn(List.of());
+            // 삭제된 세션 자신의 보관 세트와 1RM 대상이 아닌 고반복 세트는 후보가 아님
+            when(archiveService.exerciseSets(USER_ID, EXERCISE_ID)).thenReturn(List.of(
+                set(DELETED_SESSION_ID, ARCHIVED_DAY, 100.0, 5),
+                set(5L, ARCHIVED_DAY, 60.0, 15)));
+
+            personalRecordService.repairAfterDelete(USER_ID, DELETED_SESSION_ID);
+
+            verify(personalRecordRepository).delete(pr);
+        }
+    }
+
+    @Nested
+    @DisplayName("bestWithArchive 메서드")
+    class BestWithArchive {
+
+        @Test
+        @DisplayName("같은 중량과 횟수면 먼저 달성한 기록")
+        void shouldPreferEarlierOnTie() {
+            Optional<Object[]> best = PersonalRecordService.bestWithArchive(pr(RecordType.MAX_WEIGHT, 0.0),
+                rows(new Object[]{100.0, 5, 21L, HOT_DAY}),
+                List.of(set(5L, ARCHIVED_DAY, 100.0, 5)),
+                DELETED_SESSION_ID);
+
+            assertThat(best).get().satisfies(row -> assertThat(row[2]).isEqualTo(5L));
+        }
+
+        @Test
+        @DisplayName("중량별 횟수 기록은 같은 중량의 보관 세트만 후보")
+        void shouldMatchWeightKey() {
+            Optional<Object[]> best = PersonalRecordService.bestWithArchive(pr(RecordType.MAX_REPS_AT_WEIGHT, 80.0),
+                rows(new Object[]{80.0, 6, 21L, HOT_DAY}),
+                List.of(set(5L, ARCHIVED_DAY, 80.0, 8), set(6L, ARCHIVED_DAY, 82.5, 12)),
+                DELETED_SESSION_ID);
+
+            assertThat(best).get().satisfies(row -> {
+                assertThat(row[1]).isEqualTo(8);
+                assertThat(row[2]).isEqualTo(5L);
+            });
+        }
+    }
+
+    private static PersonalRecord pr(RecordType recordType, double weightKey) {
+        return PersonalRecord.builder()
+            .exerciseType(ExerciseType.builder().id(EXERCISE_ID).build())
+            .recordType(recordType)
+            .weightKey(weightKey)
+            .value(999.0)
+            .sessionId(DELETED_SESSION_ID)
+            .achievedAt(HOT_DAY.plusDays(1))
+            .build();
+    }
+
+    private static ArchivedSet set(Long sessionId, LocalDateTime date, double weight, int reps) {
+        return new ArchivedSet(sessionId * 100, sessionId, date, EXERCISE_ID, 1, reps, weight, null, null);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.workout.service;
+
+import com.example.workout.archive.ArchivedSet;
+import com.example.workout.archive.SessionArchiveCodec;
+import com.example.workout.entity.ExerciseRecord;
+import com.example.workout.entity.ExerciseType;
+import com.example.workout.entity.SessionArchive;
+import com.example.workout.entity.User;
+import com.example.workout.entity.WorkoutSession;
+import com.example.workout.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionArchiveService 테스트")
+class SessionArchiveServiceTest {
+    private static final LocalDateTime MARCH = LocalDateTime.of(2020, 3, 4, 18, 0);
+    private static final LocalDateTime MAY = LocalDateTime.of(2020, 5, 1, 7, 30);
+
+    @Mock
+    private SessionArchiveRepository archiveRepository;
+
+    @Mock
+    private WorkoutSessionRepository sessionRepository;
+
+    @Mock
+    private ExerciseRecordRepository recordRepository;
+
+    @Mock
+    private ExerciseTypeRepository exerciseTypeRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ExerciseCatalog exerciseCatalog;
+
+    private SessionArchiveService service;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        service = new SessionArchiveService(archiveRepository, sessionRepository, recordRepository,
+            exerciseTypeRepository, userRepository, exerciseCatalog, 365);
+        testUser = new User();
+        testUser.setId(1L);
+    }
+
+    @Nested
+    @DisplayName("archiveUser 메서드")
+    class ArchiveUser {
+
+        @Test
+        @DisplayName("잠근 세션의 기록을 블롭으로 옮기고, 지우기 전에 합계를 채운 뒤 보관 표시")
+        void shouldFillTotalsBeforeDeletingRecords() {
+            WorkoutSession first = session(10L, MARCH, false);
+            WorkoutSession second = session(11L, MAY, false);
+            when(sessionRepository.findArchivableForUpdate(eq(1L), any())).thenReturn(List.of(first, second));
+            when(recordRepository.findArchiveRows(List.of(10L, 11L))).thenReturn(rows(
+                new Object[]{101L, 10L, MARCH, 3L, 1, 5, 100.0, null, 8.0},
+                new Object[]{102L, 10L, MARCH, 3L, 2, 8, 80.0, null, null},
+                new Object[]{103L, 10L, MARCH, 7L, 1, 1, null, 600, null},
+                new Object[]{104L, 11L, MAY, 3L, 1, 5, 90.0, null, null}));
+            when(archiveRepository.findByUser_IdAndArchiveYear(1L, 2020)).thenReturn(Optional.empty());
+            when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+
+            int archived = service.archiveUser(1L);
+
+            assertThat(archived).isEqualTo(2);
+            assertThat(first.getTotalVolume()).isEqualTo(1140.0);
+            assertThat(first.getTotalSets()).isEqualTo(3);
+            assertThat(first.getExerciseCount()).isEqualTo(2);
+            assertThat(second.getTotalVolume()).isEqualTo(450.0);
+            assertThat(second.getTotalSets()).isEqualTo(1);
+            assertThat(second.getExerciseCount()).isEqualTo(1);
+            assertThat(first.isArchived()).isTrue();
+            assertThat(second.isArchived()).isTrue();
+
+            ArgumentCaptor<SessionArchive> saved = ArgumentCaptor.forClass(SessionArchive.class);
+            InOrder inOrder = inOrder(sessionRepository, archiveRepository, recordRepository);
+            inOrder.verify(sessionRepository).findArchivableForUpdate(eq(1L), any());
+            inOrder.verify(archiveRepository).save(saved.capture());
+            inOrder.verify(recordRepository).deleteBySessionIdIn(List.of(10L, 11L));
+            assertThat(saved.getValue().getSessionCount()).isEqualTo(2);
+            assertThat(saved.getValue().getRecordCount()).isEqualTo(4);
+            assertThat(SessionArchiveCodec.decode(saved.getValue().getPayload()))
+                .extracting(ArchivedSet::recordId)
+                .containsExactlyInAnyOrder(101L, 102L, 103L, 104L);
+        }
+
+        @Test
+        @DisplayName("보관 대상이 없으면 블롭도 기록도 건드리지 않음")
+        void shouldDoNothingWithoutArchivableSessions() {
+            when(sessionRepository.findArchivableForUpdate(eq(1L), any())).thenReturn(List.of());
+
+            assertThat(service.archiveUser(1L)).isZero();
+            verifyNoInteractions(archiveRepository, recordRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("removeSession 메서드")
+    class RemoveSession {
+
+        @Test
+        @DisplayName("블롭에서 세션의 세트를 빼고 롤업 복구용 기록으로 반환")
+        void shouldRemoveSetsFromArchive() {
+            SessionArchive archive = archive(2, List.of(
+                new ArchivedSet(101, 10, MARCH, 3, 1, 5, 100.0, null, null),
+                new ArchivedSet(104, 11, MAY, 3, 1, 5, 90.0, null, null),
+                new ArchivedSet(105, 11, MAY, 7, 1, 10, 20.0, null, 7.5)));
+            when(archiveRepository.findByUser_IdAndArchiveYear(1L, 2020)).thenReturn(Optional.of(archive));
+            when(exerciseTypeRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> ExerciseType.builder().id(invocation.getArgument(0)).build());
+            WorkoutSession session = session(11L, MAY, true);
+
+            List<ExerciseRecord> removed = service.removeSession(session);
+
+            assertThat(removed).extracting(ExerciseRecord::getId).containsExactly(104L, 105L);
+            assertThat(removed).allSatisfy(record -> assertThat(record.getSession()).isSameAs(session));
+            assertThat(removed.get(1).getExerciseType().getId()).isEqualTo(7L);
+            assertThat(removed.get(1).getRpe()).isEqualTo(7.5);
+            assertThat(archive.getSessionCount()).isEqualTo(1);
+            assertThat(archive.getRecordCount()).isEqualTo(1);
+            assertThat(SessionArchiveCodec.decode(archive.getPayload()))
+                .extracting(ArchivedSet::sessionId)
+                .containsExactly(10L);
+            verify(archiveRepository, never()).delete(any());
+        }
+
+        @Test
+        @DisplayName("블롭의 마지막 세션이면 보관 행을 삭제")
+        void shouldDeleteArchiveWhenLastSession() {
+            SessionArchive archive = archive(1, List.of(new ArchivedSet(104, 11, MAY, 3, 1, 5, 90.0, null, null)));
+            when(archiveRepository.findByUser_IdAndArchiveYear(1L, 2020)).thenReturn(Optional.of(archive));
+            when(exerciseTypeRepository.getReferenceById(3L)).thenReturn(ExerciseType.builder().id(3L).build());
+
+            List<ExerciseRecord> removed = service.removeSession(session(11L, MAY, true));
+
+            assertThat(removed).hasSize(1);
+            verify(archiveRepository).delete(archive);
+        }
+
+        @Test
+        @DisplayName("보관되지 않은 세션은 블롭을 읽지 않음")
+        void shouldIgnoreHotSession() {
+            assertThat(service.removeSession(session(11L, MAY, false))).isEmpty();
+            verifyNoInteractions(archiveRepository);
+        }
+    }
+
+    @Test
+    @DisplayName("합계가 비어 있는 보관 세션은 블롭의 세트로 합계를 채움")
+    void shouldFillMissingTotalsFromArchive() {
+        WorkoutSession session = session(11L, MAY, true);
+        when(sessionRepository.findArchivedWithoutTotals(1L)).thenReturn(List.of(session));
+        when(archiveRepository.findVersionsByUserId(1L)).thenReturn(rows(new Object[]{5L, 2020, 3L}));
+        when(archiveRepository.findPayloadById(5L)).thenReturn(Optional.of(SessionArchiveCodec.encode(List.of(
+            new ArchivedSet(101, 10, MARCH, 3, 1, 5, 100.0, null, null),
+            new ArchivedSet(104, 11, MAY, 3, 1, 5, 90.0, null, null),
+            new ArchivedSet(105, 11, MAY, 3, 2, 4, 90.0, null, null)))));
+
+        assertThat(service.fillMissingTotals(1L)).isEqualTo(1);
+        assertThat(session.getTotalVolume()).isEqualTo(810.0);
+        assertThat(session.getTotalSets()).isEqualTo(2);
+        assertThat(session.getExerciseCount()).isEqualTo(1);
+    }
+
+    private WorkoutSession session(Long id, LocalDateTime date, boolean archived) {
+        WorkoutSession session = new WorkoutSession();
+        session.setId(id);
+        session.setUser(testUser);
+        session.setDate(date);
+        session.setArchived(archived);
+        return session;
+    }
+
+    private SessionArchive archive(int sessionCount, List<ArchivedSet> sets) {
+        return SessionArchive.builder()
+            .id(5L)
+            .user(testUser)
+            .archiveYear(2020)
+            .sessionCount(sessionCount)
+            .recordCount(sets.size())
+            .payload(SessionArchiveCodec.encode(sets))
+            .updatedAt(MARCH)
+            .build();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.workout.service;
+
+import com.example.workout.dto.WorkoutSessionDTO;
+import com.example.workout.entity.User;
+import com.example.workout.entity.WorkoutSession;
+import com.example.workout.mapper.WorkoutSessionMapper;
+import com.example.workout.repository.UserRepository;
+import com.example.workout.repository.WorkoutSessionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionFragmentService 테스트")
+class SessionFragmentServiceTest {
+    private static final String TEST_USERNAME = "testuser";
+
+    @Mock
+    private WorkoutSessionRepository sessionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WorkoutSessionMapper sessionMapper;
+
+    @Mock
+    private ExerciseCatalog exerciseCatalog;
+
+    @Mock
+    private ExerciseCatalog.Snapshot snapshot;
+
+    @Mock
+    private SessionArchiveService archiveService;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(SessionFragmentService.CACHE_NAME);
+
+    private SessionFragmentService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SessionFragmentService(sessionRepository, userRepository, sessionMapper, exerciseCatalog,
+            new ObjectMapper().findAndRegisterModules(), cacheManager, archiveService);
+    }
+
+    @Nested
+    @DisplayName("조각 캐시 키 (id:version:catalogEtag)")
+    class FragmentKey {
+
+        @BeforeEach
+        void stubRender() {
+            when(exerciseCatalog.snapshot()).thenReturn(snapshot);
+            when(snapshot.etag()).thenReturn("c1");
+            when(sessionMapper.toDTO(any())).thenAnswer(invocation -> dto(invocation.getArgument(0)));
+            when(archiveService.fill(any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        }
+
+        @Test
+        @DisplayName("같은 버전을 다시 조회하면 세션을 읽지 않고 캐시된 조각 반환")
+        void shouldReuseFragmentForSameVersion() {
+            when(sessionRepository.findVersionByIdAndUsername(10L, TEST_USERNAME)).thenReturn(Optional.of(1L));
+            when(sessionRepository.findByIdAndUser_Username(10L, TEST_USERNAME)).thenReturn(Optional.of(session(10L, 1L)));
+
+            byte[] first = service.getSessionJson(10L, TEST_USERNAME);
+            byte[] second = service.getSessionJson(10L, TEST_USERNAME);
+
+            assertThat(second).isSameAs(first);
+            assertThat(cacheManager.getCache(SessionFragmentService.CACHE_NAME).get("10:1:c1")).isNotNull();
+            verify(sessionRepository, times(1)).findByIdAndUser_Username(10L, TEST_USERNAME);
+        }
+
+        @Test
+        @DisplayName("버전이 오르면 새 키로 다시 직렬화")
+        void shouldRenderAgainWhenVersionChanges() {
+            when(sessionRepository.findVersionByIdAndUsername(10L, TEST_USERNAME)).thenReturn(Optional.of(1L), Optional.of(2L));
+            when(sessionRepository.findByIdAndUser_Username(10L, TEST_USERNAME))
+                .thenReturn(Optional.of(session(10L, 1L)), Optional.of(session(10L, 2L)));
+
+            service.getSessionJson(10L, TEST_USERNAME);
+            service.getSessionJson(10L, TEST_USERNAME);
+
+            verify(sessionRepository, times(2)).findByIdAndUser_Username(10L, TEST_USERNAME);
+            assertThat(cacheManager.getCache(SessionFragmentService.CACHE_NAME).get("10:2:c1")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("카탈로그 ETag가 바뀌면 같은 버전이라도 다시 직렬화")
+        void shouldRenderAgainWhenCatalogChanges() {
+            when(snapshot.etag()).thenReturn("c1", "c2");
+            when(sessionRepository.findVersionByIdAndUsername(10L, TEST_USERNAME)).thenReturn(Optional.of(1L));
+            when(sessionRepository.findByIdAndUser_Username(10L, TEST_USERNAME)).thenReturn(Optional.of(session(10L, 1L)));
+
+            service.getSessionJson(10L, TEST_USERNAME);
+            service.getSessionJson(10L, TEST_USERNAME);
+
+            verify(sessionRepository, times(2)).findByIdAndUser_Username(10L, TEST_USERNAME);
+            assertThat(cacheManager.getCache(SessionFragmentService.CACHE_NAME).get("10:1:c2")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("목록은 미스만 기록까지 조회하고 조회 순서대로 이어 붙임")
+        void shouldFetchOnlyMissesForList() {
+            User user = new User();
+            user.setId(1L);
+            when(userRepository.findByUsername(TEST_USERNAME)).thenReturn(Optional.of(user));
+            cacheManager.getCache(SessionFragmentService.CACHE_NAME).put("11:3:c1", json("{\"id\":11}"));
+            when(sessionRepository.findVersionsByUserId(eq(1L), any())).thenReturn(rows(
+                new Object[]{12L, 1L},
+                new Object[]{11L, 3L},
+                new Object[]{13L, 1L}));
+            when(sessionRepository.findWithRecordsByIdIn(List.of(12L, 13L)))
+                .thenReturn(List.of(session(13L, 1L), session(12L, 1L)));
+
+            String body = new String(service.getUserSessionsJson(TEST_USERNAME, null, null), StandardCharsets.UTF_8);
+
+            assertThat(body).startsWith("[{\"id\":12,").contains(",{\"id\":11},{\"id\":13,").endsWith("}]");
+        }
+    }
+
+    @Nested
+    @DisplayName("join 메서드")
+    class Join {
+
+        @Test
+        @DisplayName("조각을 쉼표로 이어 JSON 배열로 만듦")
+        void shouldJoinFragments() {
+            byte[] joined = SessionFragmentService.join(List.of(json("{\"id\":1}"), json("{\"id\":2}")));
+
+            assertThat(new String(joined, StandardCharsets.UTF_8)).isEqualTo("[{\"id\":1},{\"id\":2}]");
+        }
+
+        @Test
+        @DisplayName("비어 있는 조각은 건너뛰고 쉼표도 넣지 않음")
+        void shouldSkipMissingFragments() {
+            byte[] joined = SessionFragmentService.join(Arrays.asList(null, json("{\"id\":2}"), null, json("{\"id\":4}"), null));
+
+            assertThat(new String(joined, StandardCharsets.UTF_8)).isEqualTo("[{\"id\":2},{\"id\":4}]");
+        }
+
+        @Test
+        @DisplayName("조각이 없으면 빈 배열")
+        void shouldReturnEmptyArray() {
+            assertThat(new String(SessionFragmentService.join(Arrays.asList(null, null)), StandardCharsets.UTF_8))
+                .isEqualTo("[]");
+            assertThat(new String(SessionFragmentService.join(List.of()), StandardCharsets.UTF_8)).isEqualTo("[]");
+        }
+    }
+
+    private static WorkoutSession session(Long id, long version) {
+        WorkoutSession session = new WorkoutSession();
+        session.setId(id);
+        session.setVersion(version);
+        return session;
+    }
+
+    private static WorkoutSessionDTO dto(WorkoutSession session) {
+        WorkoutSessionDTO dto = new WorkoutSessionDTO();
+        dto.setId(session.getId());
+        return dto;
+    }
+
+    private static byte[] json(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.workout.service;
+
+import com.example.workout.entity.StreakRun;
+import com.example.workout.entity.User;
+import com.example.workout.entity.UserStreak;
+import com.example.workout.repository.StreakRunRepository;
+import com.example.workout.repository.UserStreakRepository;
+import com.example.workout.repository.WorkoutSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreakService 테스트")
+class StreakServiceTest {
+    private static final Long USER_ID = 1L;
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 14);
+
+    @Mock
+    private UserStreakRepository userStreakRepository;
+
+    @Mock
+    private StreakRunRepository streakRunRepository;
+
+    @Mock
+    private WorkoutSessionRepository sessionRepository;
+
+    @InjectMocks
+    private StreakService streakService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(USER_ID);
+    }
+
+    @Nested
+    @DisplayName("세션 저장")
+    class Created {
+
+        @BeforeEach
+        void setUp() {
+            when(streakRunRepository.existsByUser_Id(USER_ID)).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("앞뒤 구간 사이를 채우면 두 구간을 하나로 합침")
+        void shouldBridgeTwoRuns() {
+            StreakRun before = run(DAY.minusDays(3), DAY.minusDays(1));
+            StreakRun after = run(DAY.plusDays(1), DAY.plusDays(2));
+            when(streakRunRepository.findFirstByUser_IdAndRunStartLessThanEqualOrderByRunStartDesc(USER_ID, DAY))
+                .thenReturn(Optional.of(before));
+            when(streakRunRepository.findByUser_IdAndRunEnd(USER_ID, DAY.minusDays(1))).thenReturn(Optional.of(before));
+            when(streakRunRepository.findByUser_IdAndRunStart(USER_ID, DAY.plusDays(1))).thenReturn(Optional.of(after));
+
+            streakService.onSessionCreated(user, DAY);
+
+            assertThat(before.getRunStart()).isEqualTo(DAY.minusDays(3));
+            assertThat(before.getRunEnd()).isEqualTo(DAY.plusDays(2));
+            assertThat(before.getLength()).isEqualTo(6);
+            verify(streakRunRepository).delete(after);
+            verify(streakRunRepository).save(before);
+        }
+
+        @Test
+        @DisplayName("전날로 끝나는 구간은 뒤로 하루 늘림")
+        void shouldExtendRunForward() {
+            StreakRun before = run(DAY.minusDays(2), DAY.minusDays(1));
+            when(streakRunRepository.findFirstByUser_IdAndRunStartLessThanEqualOrderByRunStartDesc(USER_ID, DAY))
+                .thenReturn(Optional.of(before));
+            when(streakRunRepository.findByUser_IdAndRunEnd(USER_ID, DAY.minusDays(1))).thenReturn(Optional.of(before));
+            when(streakRunRepository.findByUser_IdAndRunStart(USER_ID, DAY.plusDays(1))).thenReturn(Optional.empty());
+
+            streakService.onSessionCreated(user, DAY);
+
+            assertThat(before.getRunEnd()).isEqualTo(DAY);
+            assertThat(before.getLength()).isEqualTo(3);
+            verify(streakRunRepository).save(before);
+            verify(streakRunRepository, never()).delete(any());
+        }
+
+        @Test
+        @DisplayName("다음날 시작하는 구간은 앞으로 하루 늘림 (과거 날짜 입력)")
+        void shouldExtendRunBackward() {
+            StreakRun after = run(DAY.plusDays(1), DAY.plusDays(3));
+            when(streakRunRepository.findFirstByUser_IdAndRunStartLessThanEqualOrderByRunStartDesc(USER_ID, DAY))
+                .thenReturn(Optional.empty());
+            when(streakRunRepository.findByUser_IdAndRunEnd(USER_ID, DAY.minusDays(1))).thenReturn(Optional.empty());
+            when(streakRunRepository.findByUser_IdAndRunStart(USER_ID, DAY.plusDays(1))).thenReturn(Optional.of(after));
+
+            streakService.onSessionCreated(user, DAY);
+
+            assertThat(after.getRunStart()).isEqualTo(DAY);
+            assertThat(after.getLength()).isEqualTo(4);
+            verify(streakRunRepository).save(after);
+        }
+
+        @Test
+        @DisplayName("이미 구간에 포함된 날이면 아무것도 바꾸지 않음")
+        void shouldIgnoreDayInsideRun() {
+            StreakRun run = run(DAY.minusDays(1), DAY.plusDays(1));
+            when(streakRunRepository.findFirstByUser_IdAndRunStartLessThanEqualOrderByRunStartDesc(USER_ID, DAY))
+                .thenReturn(Optional.of(run));
+
+            streakService.onSessionCreated(user, DAY);
+
+            verify(streakRunRepository, never()).save(any());
+            verifyNoInteractions(userStreakRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("세션 삭제")
+    class Deleted {
+
+        @Test
+        @DisplayName("구간 가운데 날을 지우면 두 구간으로 나눔")
+        void shouldSplitRun() {
+            StreakRun run = run(DAY.minusDays(2), DAY.plusDays(2));
+            when(sessionRepository.existsByUser_IdAndDateGreaterThanEqualAndDateLessThan(
+                USER_ID, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay())).thenReturn(false);
+            when(streakRunRepository.findFirstByUser_IdAndRunStartLessThanEqualOrderByRunStartDesc(USER_ID, DAY))
+                .thenReturn(Optional.of(run));
+
+            streakService.onSessionDeleted(user, DAY);
+
+            ArgumentCaptor<StreakRun> saved = ArgumentCaptor.forClass(StreakRun.class);
+            verify(streakRunRepository, times(2)).save(saved.capture());
+            assertThat(saved.getAllValues())
+                .extracting(StreakRun::getRunStart, StreakRun::getRunEnd, StreakRun::getLength)
+                .containsExactly(
+                    tuple(DAY.minusDays(2), DAY.minusDays(1), 2),
+                    tuple(DAY.plusDays(1), DAY.plusDays(2), 2));
+        }
+
+        @Test
+        @DisplayName("구간 첫날을 지우면 시작을 하루 당김")
+        void shouldTrimRunStart() {
+            StreakRun run = run(DAY, DAY.plusDays(2));
+            when(sessionRepository.existsByUser_IdAndDateGreaterThanEqualAndDateLessThan(
+                USER_ID, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay())).thenReturn(false);
+            when(streakRunRepository.findFirstByUser_IdAndRunStartLessThanEqualOrderByRunStartDesc(USER_ID, DAY))
+                .thenReturn(Optional.of(run));
+
+            streakService.onSessionDeleted(user, DAY);
+
+            assertThat(run.getRunStart()).isEqualTo(DAY.plusDays(1));
+            assertThat(run.getLength()).isEqualTo(2);
+            verify(streakRunRepository).save(run);
+        }
+
+        @Test
+        @DisplayName("그 날 다른 세션이 남아 있으면 구간을 바꾸지 않음")
+        void shouldKeepRunWhenDayStillActive() {
+            when(sessionRepository.existsByUser_IdAndDateGreaterThanEqualAndDateLessThan(
+                USER_ID, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay())).thenReturn(true);
+
+            streakService.onSessionDeleted(user, DAY);
+
+            verifyNoInteractions(streakRunRepository, userStreakRepository);
+        }
+    }
+
+    @Test
+    @DisplayName("구간이 없는 사용자의 첫 저장은 전체 활동일로 구간과 요약을 다시 만듦")
+    void shouldRebuildOnFirstSave() {
+        when(streakRunRepository.existsByUser_Id(USER_ID)).thenReturn(false);
+        when(sessionRepository.findActiveDaysFrom(eq(USER_ID), any(), any())).thenReturn(List.of(
+            DAY.minusDays(4), DAY.minusDays(3), java.sql.Date.valueOf(DAY)));
+        StreakRun longest = run(DAY.minusDays(4), DAY.minusDays(3));
+        StreakRun current = run(DAY, DAY);
+        longest.setLength(2);
+        current.setLength(1);
+        when(streakRunRepository.findFirstByUser_IdOrderByRunEndDesc(USER_ID)).thenReturn(Optional.of(current));
+        when(streakRunRepository.findFirstByUser_IdOrderByLengthDescRunEndDesc(USER_ID)).thenReturn(Optional.of(longest));
+
+        streakService.onSessionCreated(user, DAY);
+
+        verify(streakRunRepository).deleteByUserId(USER_ID);
+        ArgumentCaptor<StreakRun> saved = ArgumentCaptor.forClass(StreakRun.class);
+        verify(streakRunRepository, times(2)).save(saved.capture());
+        assertThat(saved.getAllValues())
+            .extracting(StreakRun::getRunStart, StreakRun::getRunEnd, StreakRun::getLength)
+            .containsExactly(
+                tuple(DAY.minusDays(4), DAY.minusDays(3), 2),
+                tuple(DAY, DAY, 1));
+
+        ArgumentCaptor<UserStreak> state = ArgumentCaptor.forClass(UserStreak.class);
+        verify(userStreakRepository).save(state.capture());
+        assertThat(state.getValue().getCurrentStreak()).isEqualTo(1);
+        assertThat(state.getValue().getLastActiveDay()).isEqualTo(DAY);
+        assertThat(state.getValue().getLongestStreak()).isEqualTo(2);
+        assertThat(state.getValue().getLongestStart()).isEqualTo(DAY.minusDays(4));
+        verify(streakRunRepository, never()).findByUser_IdAndRunEnd(any(), any());
+    }
+
+    private StreakRun run(LocalDate start, LocalDate end) {
+        return StreakRun.builder().user(user).runStart(start).runEnd(end).build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.workout.service;
+
+import com.example.workout.entity.User;
+import com.example.workout.entity.UserProfile;
+import com.example.workout.event.UserDataChangedEvent;
+import com.example.workout.repository.UserProfileRepository;
+import com.example.workout.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserProfileService 테스트")
+class UserProfileServiceTest {
+    private static final String TEST_USERNAME = "testuser";
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UserProfileService userProfileService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername(TEST_USERNAME);
+        when(userRepository.findByUsername(TEST_USERNAME)).thenReturn(Optional.of(testUser));
+    }
+
+    @Test
+    @DisplayName("프로필이 없으면 생성하고 데이터 버전 변경 이벤트 발행")
+    void shouldPublishChangeWhenProfileCreated() {
+        when(userProfileRepository.findByUser(testUser)).thenReturn(Optional.empty());
+        when(userProfileRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        UserProfile profile = userProfileService.getProfile(TEST_USERNAME);
+
+        assertThat(profile.getUser()).isSameAs(testUser);
+        verify(eventPublisher).publishEvent(new UserDataChangedEvent(TEST_USERNAME, UserDataChangedEvent.Area.PROFILE));
+    }
+
+    @Test
+    @DisplayName("프로필이 있으면 저장도 이벤트 발행도 하지 않음")
+    void shouldNotPublishWhenProfileExists() {
+        UserProfile existing = new UserProfile();
+        existing.setUser(testUser);
+        when(userProfileRepository.findByUser(testUser)).thenReturn(Optional.of(existing));
+
+        assertThat(userProfileService.getProfile(TEST_USERNAME)).isSameAs(existing);
+        verify(userProfileRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.workout.service;
+
+import com.example.workout.entity.User;
+import com.example.workout.entity.WeeklyReport;
+import com.example.workout.repository.*;
+import com.example.workout.scheduling.SchedulerLockService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeeklyReportService 테스트")
+class WeeklyReportServiceTest {
+    private static final LocalDate WEEK_START = LocalDate.of(2026, 10, 12);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WorkoutSessionRepository sessionRepository;
+
+    @Mock
+    private PersonalRecordRepository personalRecordRepository;
+
+    @Mock
+    private MuscleLoadDailyRepository muscleLoadDailyRepository;
+
+    @Mock
+    private DietSessionRepository dietSessionRepository;
+
+    @Mock
+    private WeeklyReportRepository weeklyReportRepository;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @BeforeEach
+    void setUp() {
+        when(schedulerLockService.tryLock(eq("weeklyReport"), any())).thenReturn(true);
+    }
+
+    private WeeklyReportService service(int batchSize) {
+        return new WeeklyReportService(userRepository, sessionRepository, personalRecordRepository,
+            muscleLoadDailyRepository, dietSessionRepository, weeklyReportRepository, schedulerLockService,
+            objectMapper, transactionManager, true, 2, batchSize);
+    }
+
+    @Test
+    @DisplayName("사용자별로 이번 주/전주 볼륨을 나누고 식단만 있는 사용자도 리포트 생성")
+    @SuppressWarnings("unchecked")
+    void shouldAggregatePerUser() throws Exception {
+        when(userRepository.findIdsAfter(eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(userRepository.getReferenceById(anyLong())).thenAnswer(invocation -> user(invocation.getArgument(0)));
+        when(sessionRepository.findDailySessionStats(any(), any(), any())).thenReturn(rows(
+            new Object[]{1L, WEEK_START, 2L, 3600L},
+            new Object[]{1L, WEEK_START.plusDays(2), 1L, 1800L}));
+        when(sessionRepository.findDailyVolumeStats(any(), any(), any())).thenReturn(rows(
+            new Object[]{1L, WEEK_START.minusDays(6), 1000.0, 10L},
+            new Object[]{1L, WEEK_START, 1500.0, 15L}));
+        when(dietSessionRepository.findDailyIntake(any(), any(), any())).thenReturn(rows(
+            new Object[]{2L, WEEK_START.plusDays(1), 2000.0, 120.0}));
+
+        int generated = service(200).generate(WEEK_START);
+
+        assertThat(generated).isEqualTo(2);
+        ArgumentCaptor<List<WeeklyReport>> saved = ArgumentCaptor.forClass(List.class);
+        verify(weeklyReportRepository).saveAll(saved.capture());
+        Map<Long, JsonNode> byUser = new HashMap<>();
+        for (WeeklyReport report : saved.getValue()) {
+            assertThat(report.getWeekStart()).isEqualTo(WEEK_START);
+            byUser.put(report.getUser().getId(), objectMapper.readTree(report.getReportJson()));
+        }
+
+        JsonNode first = byUser.get(1L);
+        assertThat(first.get("sessions").asInt()).isEqualTo(3);
+        assertThat(first.get("trainingDays").asInt()).isEqualTo(2);
+        assertThat(first.get("totalDuration").asLong()).isEqualTo(5400L);
+        assertThat(first.get("volume").asDouble()).isEqualTo(1500.0);
+        assertThat(first.get("previousVolume").asDouble()).isEqualTo(1000.0);
+        assertThat(first.get("volumeChange").asDouble()).isEqualTo(50.0);
+        assertThat(first.get("sets").asLong()).isEqualTo(15L);
+        assertThat(first.get("dietLoggedDays").asInt()).isZero();
+
+        JsonNode second = byUser.get(2L);
+        assertThat(second.get("sessions").asInt()).isZero();
+        assertThat(second.has("volumeChange")).isFalse();
+        assertThat(second.get("dietLoggedDays").asInt()).isEqualTo(1);
+        assertThat(second.get("averageCalories").asDouble()).isEqualTo(2000.0);
+    }
+
+    @Test
+    @DisplayName("사용자 id를 batchSize씩 나누어 묶음마다 집계하고, 기록이 없으면 저장하지 않음")
+    void shouldSplitUsersIntoBatches() {
+        when(userRepository.findIdsAfter(eq(0L), any())).thenReturn(List.of(1L, 2L));
+        when(userRepository.findIdsAfter(eq(2L), any())).thenReturn(List.of(3L));
+
+        int generated = service(2).generate(WEEK_START);
+
+        assertThat(generated).isZero();
+        verify(sessionRepository).findDailySessionStats(eq(List.of(1L, 2L)), any(), any());
+        verify(sessionRepository).findDailySessionStats(eq(List.of(3L)), any(), any());
+        // 마지막 페이지가 batchSize보다 작으면 다음 페이지를 읽지 않음
+        verify(userRepository, never()).findIdsAfter(eq(3L), any());
+        verify(weeklyReportRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("끝난 뒤에도 잠금을 최소 유지 시간 동안 남겨 다른 노드가 다시 생성하지 않음")
+    void shouldHoldLockAtLeast() {
+        LocalDateTime before = LocalDateTime.now();
+
+        service(200).generate(WEEK_START);
+
+        ArgumentCaptor<LocalDateTime> keepUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(schedulerLockService).unlock(eq("weeklyReport"), keepUntil.capture());
+        assertThat(keepUntil.getValue()).isAfterOrEqualTo(before.plusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 잠금을 가지고 있으면 아무것도 읽지 않음")
+    void shouldSkipWhenLockHeld() {
+        when(schedulerLockService.tryLock(eq("weeklyReport"), any())).thenReturn(false);
+
+        assertThat(service(200).generate(WEEK_START)).isZero();
+        verifyNoInteractions(userRepository, sessionRepository);
+        verify(schedulerLockService, never()).unlock(any(), any(LocalDateTime.class));
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
@@ -3,7 +3,9 @@ package com.example.workout.service;
 import com.example.workout.dto.WorkoutDashboardDTO;
 import com.example.workout.dto.WorkoutSessionDTO;
 import com.example.workout.entity.User;
+import com.example.workout.entity.UserStreak;
 import com.example.workout.entity.WorkoutSession;
+import com.example.workout.exception.ResourceNotFoundException;
 import com.example.workout.exception.UserNotFoundException;
 import com.example.workout.mapper.WorkoutSessionMapper;
 import com.example.workout.repository.ExerciseRecordRepository;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -49,6 +52,9 @@ class WorkoutSessionServiceTest {
     @Mock
     private WorkoutSessionMapper sessionMapper;
 
+    @Mock
+    private StreakService streakService;
+
     @InjectMocks
     private WorkoutSessionService workoutSessionService;
 
@@ -96,6 +102,8 @@ class WorkoutSessionServiceTest {
             assertThat(result.getRecentSessions()).isEmpty();
             assertThat(result.getVolumeChartData()).isEmpty();
             assertThat(result.getHeatmapLevels()).hasSize(365);
+            assertThat(result.getCurrentStreak()).isZero();
+            assertThat(result.getLongestStreak()).isZero();
             assertThat(result.getHeatmapLevels()).allMatch(level -> level == 0);
         }
 
@@ -148,6 +156,34 @@ class WorkoutSessionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("연속 운동 표시")
+    class StreakDisplay {
+
+        @Test
+        @DisplayName("마지막 활동일이 어제보다 이전이면 현재 연속 기록은 0, 최장 기록은 유지")
+        void shouldResetCurrentStreakWhenBroken() {
+            LocalDate today = LocalDate.now(ZoneId.of(TEST_TIMEZONE));
+            UserStreak streak = UserStreak.builder()
+                .currentStart(today.minusDays(5))
+                .lastActiveDay(today.minusDays(2))
+                .currentStreak(4)
+                .longestStart(today.minusDays(30))
+                .longestEnd(today.minusDays(23))
+                .longestStreak(8)
+                .build();
+            when(userRepository.findByUsername(TEST_USERNAME)).thenReturn(Optional.of(testUser));
+            when(sessionRepository.countSessionsByDate(eq(testUser.getId()), any())).thenReturn(Collections.emptyList());
+            when(streakService.getState(testUser)).thenReturn(Optional.of(streak));
+
+            WorkoutDashboardDTO result = workoutSessionService.getWorkoutDashboard(TEST_USERNAME, TEST_TIMEZONE);
+
+            assertThat(result.getCurrentStreak()).isZero();
+            assertThat(result.getLongestStreak()).isEqualTo(8);
+            assertThat(result.getLastActiveDate()).isEqualTo(today.minusDays(2));
+        }
+    }
+
     @Nested
     @DisplayName("Heatmap 레벨 계산")
     class HeatmapLevelCalculation {
@@ -282,6 +318,35 @@ class WorkoutSessionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("세션 저장/삭제 직렬화")
+    class UserLock {
+
+        @Test
+        @DisplayName("저장은 사용자 행을 잠가 읽고, 사용자가 없으면 세션을 저장하지 않음")
+        void shouldLockUserBeforeCreate() {
+            when(userRepository.findByUsernameForUpdate(TEST_USERNAME)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> workoutSessionService.createSession(TEST_USERNAME, new WorkoutSessionDTO()))
+                .isInstanceOf(UserNotFoundException.class);
+            verify(userRepository, never()).findByUsername(any());
+            verifyNoInteractions(sessionRepository);
+        }
+
+        @Test
+        @DisplayName("삭제는 세션을 읽기 전에 사용자 행부터 잠금")
+        void shouldLockUserBeforeDelete() {
+            when(userRepository.findByUsernameForUpdate(TEST_USERNAME)).thenReturn(Optional.of(testUser));
+            when(sessionRepository.findByIdAndUser_Username(7L, TEST_USERNAME)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> workoutSessionService.deleteSession(7L, TEST_USERNAME))
+                .isInstanceOf(ResourceNotFoundException.class);
+            InOrder order = inOrder(userRepository, sessionRepository);
+            order.verify(userRepository).findByUsernameForUpdate(TEST_USERNAME);
+            order.verify(sessionRepository).findByIdAndUser_Username(7L, TEST_USERNAME);
+        }
+    }
+
     private WorkoutSession createTestSession(Long id, LocalDateTime date) {
         WorkoutSession session = new WorkoutSession();
         session.setId(id);
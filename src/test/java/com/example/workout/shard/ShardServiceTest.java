@@ -0,0 +1,230 @@
+package com.example.workout.shard;
+
+import com.example.workout.cache.CacheInvalidationBus;
+import com.example.workout.dto.ShardMigrationDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 내장 H2 DB 세 개(primary, s1, s2)로 라우팅/배치/이동 검증 (스키마는 샤드 테이블의 최소 컬럼만)
+ */
+@DisplayName("사용자 샤딩 테스트")
+class ShardServiceTest {
+
+    private static final List<String> SCHEMA = List.of(
+        "CREATE TABLE users (id BIGINT PRIMARY KEY, username VARCHAR(50) NOT NULL)",
+        "CREATE TABLE exercise_types (id BIGINT PRIMARY KEY, name VARCHAR(100) NOT NULL)",
+        "CREATE TABLE shard_directory (user_id BIGINT PRIMARY KEY, shard_key VARCHAR(64) NOT NULL, "
+            + "migrating BOOLEAN NOT NULL, updated_at TIMESTAMP NOT NULL)",
+        "CREATE TABLE user_profiles (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL REFERENCES users(id))",
+        "CREATE TABLE workout_routines (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL REFERENCES users(id))",
+        "CREATE TABLE routine_exercises (routine_id BIGINT NOT NULL REFERENCES workout_routines(id), "
+            + "exercise_id BIGINT NOT NULL REFERENCES exercise_types(id))",
+        "CREATE TABLE workout_sessions (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL REFERENCES users(id), "
+            + "notes VARCHAR(100))",
+        "CREATE TABLE exercise_records (id BIGINT PRIMARY KEY, "
+            + "session_id BIGINT NOT NULL REFERENCES workout_sessions(id), "
+            + "exercise_id BIGINT NOT NULL REFERENCES exercise_types(id), weight DOUBLE)",
+        "CREATE TABLE diet_sessions (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL REFERENCES users(id))",
+        "CREATE TABLE food_entries (id BIGINT PRIMARY KEY, "
+            + "diet_session_id BIGINT NOT NULL REFERENCES diet_sessions(id), calories DOUBLE)",
+        "CREATE TABLE personal_records (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL REFERENCES users(id))",
+        "CREATE TABLE last_performances (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL REFERENCES users(id))",
+        "CREATE TABLE muscle_load_daily (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL REFERENCES users(id))",
+        "CREATE TABLE user_streaks (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL REFERENCES users(id))",
+        "CREATE TABLE user_streak_runs (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL REFERENCES users(id))",
+        "CREATE TABLE weekly_reports (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL REFERENCES users(id))",
+        "CREATE TABLE session_archives (id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL REFERENCES users(id))"
+    );
+
+    private JdbcTemplate primary;
+    private JdbcTemplate s1;
+    private JdbcTemplate s2;
+    private ShardRoutingDataSource routingDataSource;
+    private ShardDirectory directory;
+    private ShardService shardService;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = h2("primary");
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        shards.put("s1", h2("s1"));
+        shards.put("s2", h2("s2"));
+        routingDataSource = new ShardRoutingDataSource(primaryDataSource, shards);
+
+        primary = new JdbcTemplate(primaryDataSource);
+        s1 = new JdbcTemplate(shards.get("s1"));
+        s2 = new JdbcTemplate(shards.get("s2"));
+        for (JdbcTemplate jdbc : List.of(primary, s1, s2)) {
+            SCHEMA.forEach(jdbc::execute);
+        }
+        primary.update("INSERT INTO exercise_types (id, name) VALUES (1, '벤치프레스'), (2, '스쿼트')");
+
+        directory = new ShardDirectory(routingDataSource, mock(CacheInvalidationBus.class), List.of("s1", "s2"));
+        shardService = new ShardService(routingDataSource, directory, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ShardContext.clear();
+        for (JdbcTemplate jdbc : List.of(primary, s1, s2)) {
+            jdbc.execute("SHUTDOWN");
+        }
+    }
+
+    @Test
+    @DisplayName("ShardContext의 샤드 키로 커넥션을 고르고, 없으면 primary")
+    void shouldRouteByShardContext() {
+        s1.update("INSERT INTO users (id, username) VALUES (10, 'on-s1')");
+        JdbcTemplate routed = new JdbcTemplate(routingDataSource);
+
+        assertThat(count(routed, "users")).isZero();
+        assertThat(ShardContext.callIn("s1", () -> count(routed, "users"))).isEqualTo(1);
+        assertThat(ShardContext.callIn("s2", () -> count(routed, "users"))).isZero();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 샤드 키는 primary로 떨어지지 않고 예외")
+    void shouldRejectUnknownShard() {
+        JdbcTemplate routed = new JdbcTemplate(routingDataSource);
+
+        assertThatThrownBy(() -> ShardContext.callIn("s9", () -> count(routed, "users")))
+            .isInstanceOf(CannotGetJdbcConnectionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("신규 사용자는 디렉터리에 기록되고 배치된 샤드에 users 복제본이 생김")
+    void shouldPlaceNewUser() {
+        primary.update("INSERT INTO users (id, username) VALUES (1, 'alice')");
+
+        String shard = shardService.placeNewUser(1L);
+
+        assertThat(shard).isEqualTo("s2");
+        assertThat(directory.lookup("alice")).isEqualTo(new ShardDirectory.Placement(1L, "s2", false));
+        assertThat(count(s2, "users")).isEqualTo(1);
+        assertThat(count(s1, "users")).isZero();
+    }
+
+    @Test
+    @DisplayName("디렉터리에 없는 기존 사용자는 primary")
+    void shouldDefaultToPrimary() {
+        primary.update("INSERT INTO users (id, username) VALUES (2, 'bob')");
+
+        assertThat(directory.lookup("bob").shard()).isEqualTo(ShardContext.PRIMARY);
+        assertThat(directory.lookup("nobody")).isNull();
+    }
+
+    @Test
+    @DisplayName("이동하면 자식 테이블까지 대상 샤드로 옮기고 primary에는 users 원본만 남김")
+    void shouldMigrateUserData() {
+        seedUser(primary, 2L, "bob");
+        ShardDataCopier.replicate(primary, s1, ShardTables.EXERCISE_TYPES);
+
+        ShardMigrationDTO result = shardService.migrate(2L, "s1");
+
+        assertThat(result.getFromShard()).isEqualTo(ShardContext.PRIMARY);
+        assertThat(result.getCopiedRows())
+            .containsEntry("workout_sessions", 2)
+            .containsEntry("exercise_records", 3)
+            .containsEntry("food_entries", 1)
+            .containsEntry("routine_exercises", 1);
+        assertThat(directory.lookup("bob")).isEqualTo(new ShardDirectory.Placement(2L, "s1", false));
+
+        assertThat(count(s1, "exercise_records")).isEqualTo(3);
+        assertThat(s1.queryForObject("SELECT notes FROM workout_sessions WHERE id = 200", String.class))
+            .isEqualTo("하체");
+        assertThat(count(primary, "workout_sessions")).isZero();
+        assertThat(count(primary, "exercise_records")).isZero();
+        assertThat(count(primary, "users")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("샤드 간 이동은 원본 샤드의 users 복제본까지 삭제")
+    void shouldMigrateBetweenShards() {
+        ShardDataCopier.replicate(primary, s1, ShardTables.EXERCISE_TYPES);
+        ShardDataCopier.replicate(primary, s2, ShardTables.EXERCISE_TYPES);
+        primary.update("INSERT INTO users (id, username) VALUES (2, 'bob')");
+        shardService.placeNewUser(2L);
+        seedUser(s1, 2L, null);
+
+        shardService.migrate(2L, "s2");
+
+        assertThat(directory.lookup("bob").shard()).isEqualTo("s2");
+        assertThat(count(s2, "workout_sessions")).isEqualTo(2);
+        assertThat(count(s1, "users")).isZero();
+        assertThat(count(s1, "workout_sessions")).isZero();
+    }
+
+    @Test
+    @DisplayName("복사가 실패하면 대상은 롤백되고 원본과 디렉터리는 그대로")
+    void shouldRollBackFailedMigration() {
+        // s2에는 카탈로그가 없어 exercise_records 외래 키 위반
+        seedUser(primary, 2L, "bob");
+
+        assertThatThrownBy(() -> shardService.migrate(2L, "s2"))
+            .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(directory.lookup("bob")).isEqualTo(new ShardDirectory.Placement(2L, ShardContext.PRIMARY, false));
+        assertThat(count(s2, "users")).isZero();
+        assertThat(count(s2, "workout_sessions")).isZero();
+        assertThat(count(primary, "exercise_records")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("카탈로그 복제는 갱신/추가/삭제를 원본에 맞춤")
+    void shouldReplicateCatalog() {
+        s1.update("INSERT INTO exercise_types (id, name) VALUES (1, '옛 이름'), (3, '삭제된 종목')");
+
+        ShardDataCopier.replicate(primary, s1, ShardTables.EXERCISE_TYPES);
+
+        assertThat(s1.queryForList("SELECT name FROM exercise_types ORDER BY id", String.class))
+            .containsExactly("벤치프레스", "스쿼트");
+    }
+
+    /**
+     * 세션 2개(기록 3개), 루틴 1개(종목 1개), 식단 1개(음식 1개)
+     *
+     * @param username null이면 users 행은 이미 있다고 보고 넣지 않음
+     */
+    private static void seedUser(JdbcTemplate jdbc, Long userId, String username) {
+        if (username != null) {
+            jdbc.update("INSERT INTO users (id, username) VALUES (?, ?)", userId, username);
+        }
+        jdbc.update("INSERT INTO user_profiles (id, user_id) VALUES (?, ?)", userId * 100, userId);
+        jdbc.update("INSERT INTO workout_routines (id, user_id) VALUES (?, ?)", userId * 100, userId);
+        jdbc.update("INSERT INTO routine_exercises (routine_id, exercise_id) VALUES (?, 1)", userId * 100);
+        jdbc.update("INSERT INTO workout_sessions (id, user_id, notes) VALUES (?, ?, '상체'), (?, ?, '하체')",
+            userId * 100 - 1, userId, userId * 100, userId);
+        jdbc.update("INSERT INTO exercise_records (id, session_id, exercise_id, weight) VALUES "
+                + "(?, ?, 1, 60.0), (?, ?, 1, 62.5), (?, ?, 2, 100.0)",
+            userId * 1000 + 1, userId * 100 - 1, userId * 1000 + 2, userId * 100 - 1, userId * 1000 + 3, userId * 100);
+        jdbc.update("INSERT INTO diet_sessions (id, user_id) VALUES (?, ?)", userId * 100, userId);
+        jdbc.update("INSERT INTO food_entries (id, diet_session_id, calories) VALUES (?, ?, 500.0)",
+            userId * 100, userId * 100);
+        jdbc.update("INSERT INTO personal_records (id, user_id) VALUES (?, ?)", userId * 100, userId);
+    }
+
+    private static int count(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+    }
+}
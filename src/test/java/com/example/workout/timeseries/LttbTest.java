@@ -0,0 +1,66 @@
+package com.example.workout.timeseries;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Lttb 다운샘플링 테스트")
+class LttbTest {
+
+    @Test
+    @DisplayName("목표 점 개수가 입력보다 크거나 같으면 전체 유지")
+    void shouldKeepAllPointsWhenThresholdIsLarge() {
+        double[] x = {1, 2, 3, 4};
+        double[] y = {5, 6, 7, 8};
+
+        assertThat(Lttb.downsample(x, y, 4)).containsExactly(0, 1, 2, 3);
+        assertThat(Lttb.downsample(x, y, 100)).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("목표 개수만큼 선택하고 첫/마지막 점을 유지")
+    void shouldReturnThresholdPointsIncludingEndpoints() {
+        int n = 1000;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = Math.sin(i / 20.0) * 100;
+        }
+
+        int[] sampled = Lttb.downsample(x, y, 50);
+
+        assertThat(sampled).hasSize(50);
+        assertThat(sampled[0]).isEqualTo(0);
+        assertThat(sampled[49]).isEqualTo(n - 1);
+        assertThat(sampled).isSorted();
+        assertThat(Arrays.stream(sampled).distinct().count()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("평탄한 구간의 피크는 보존")
+    void shouldPreservePeak() {
+        int n = 500;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = 1000;
+        }
+        y[137] = 5000;
+
+        int[] sampled = Lttb.downsample(x, y, 20);
+
+        assertThat(sampled).contains(137);
+    }
+
+    @Test
+    @DisplayName("x와 y 길이가 다르면 예외")
+    void shouldRejectMismatchedLengths() {
+        assertThatThrownBy(() -> Lttb.downsample(new double[3], new double[2], 3))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}